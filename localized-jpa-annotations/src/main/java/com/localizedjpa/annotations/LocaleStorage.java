@@ -0,0 +1,23 @@
+package com.localizedjpa.annotations;
+
+/**
+ * How the locale column of a generated translation table is stored.
+ *
+ * @see TranslationTable#localeStorage()
+ */
+public enum LocaleStorage {
+
+    /**
+     * The language key itself, in a {@code varchar(10)} column (default).
+     */
+    STRING,
+
+    /**
+     * A {@code smallint} id referencing the {@code localized_jpa_locales} registry table.
+     * The entity still exposes the language key; the runtime's {@code LocaleIdConverter}
+     * translates between both, which makes rows and {@code locale} indexes narrower.
+     * Requires {@code localized-jpa.locale-dictionary=true}, which seeds the registry
+     * from {@code localized-jpa.supported-locales} at startup.
+     */
+    DICTIONARY
+}
@@ -45,4 +45,40 @@ public @interface Localized {
      * @return true to enable fallback, false to return null if locale not found
      */
     boolean fallback() default true;
+
+    /**
+     * If true, the translation entity gets a normalized search column ({@code name_search}
+     * for field {@code name}) holding the value case-folded and accent-folded, kept in sync
+     * on write and indexed together with the locale.
+     *
+     * <p>Generated {@code Containing}, {@code StartingWith} and {@code IgnoreCase} finders on
+     * this field then compare against the search column instead of applying {@code lower()}
+     * at query time.
+     *
+     * @return true to generate and maintain a search column
+     */
+    boolean searchable() default false;
+
+    /**
+     * If true, the translation entity gets a binary sort-key column ({@code name_sort} for
+     * field {@code name}) holding the {@link java.text.Collator} collation key of the value
+     * for the row's locale, kept in sync on write and indexed together with the locale.
+     *
+     * <p>Generated {@code Page}, {@code Slice} and {@code Window} finders and {@code LocalizedSort}
+     * then order by the sort key, so {@code ORDER BY} and keyset paging follow the language's
+     * alphabet (Turkish {@code ç} after {@code c}, German {@code ä} with {@code a}) while reading
+     * the index in order, independent of the database collation.
+     *
+     * @return true to generate and maintain a sort-key column
+     */
+    boolean sortable() default false;
+
+    /**
+     * If true, the translation table gets the index {@code ix_{table}_{column}} on
+     * {@code (locale, column)}. Use it for fields queried by exact match or prefix
+     * through the generated finders or {@code LocalizedSpecifications}.
+     *
+     * @return true to index the translation column together with the locale
+     */
+    boolean indexed() default false;
 }
@@ -0,0 +1,46 @@
+package com.localizedjpa.annotations;
+
+/**
+ * Second-level cache concurrency strategy of a generated translation entity and of the
+ * {@code translations} collection injected into its parent.
+ *
+ * <p>The strategies map to Hibernate's {@code CacheConcurrencyStrategy}; caching only takes
+ * effect when a cache provider is configured and {@code hibernate.cache.use_second_level_cache}
+ * is enabled.
+ *
+ * @see TranslationTable#cache()
+ */
+public enum TranslationCacheStrategy {
+
+    /**
+     * Uses the {@code localizedjpa.cache.strategy} processor option, or no caching when it is
+     * not set (default).
+     */
+    DEFAULT,
+
+    /**
+     * Not cached, even if a processor-wide strategy is configured.
+     */
+    NONE,
+
+    /**
+     * For translations that are inserted but never changed. Hibernate rejects updates
+     * of cached read-only entities.
+     */
+    READ_ONLY,
+
+    /**
+     * Cache entries are invalidated after a change commits; readers may briefly see the old value.
+     */
+    NONSTRICT_READ_WRITE,
+
+    /**
+     * Soft-locked cache entries keep readers from seeing uncommitted or stale values.
+     */
+    READ_WRITE,
+
+    /**
+     * For JTA-aware cache providers only.
+     */
+    TRANSACTIONAL
+}
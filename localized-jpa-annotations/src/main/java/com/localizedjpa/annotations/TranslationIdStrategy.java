@@ -0,0 +1,35 @@
+package com.localizedjpa.annotations;
+
+/**
+ * Identifier generation strategy of a generated translation entity.
+ *
+ * @see TranslationTable#idStrategy()
+ */
+public enum TranslationIdStrategy {
+
+    /**
+     * Database identity column (default). Hibernate cannot batch inserts of
+     * entities with identity ids, so each translation is inserted separately.
+     */
+    IDENTITY,
+
+    /**
+     * Pooled database sequence named {@code {table}_seq}. Ids are allocated in blocks of
+     * {@link TranslationTable#allocationSize()}, so inserts are batched
+     * when {@code hibernate.jdbc.batch_size} is set.
+     */
+    SEQUENCE,
+
+    /**
+     * Pooled table generator (one row per translation table in Hibernate's generator table),
+     * for databases without sequences. Inserts are batched like {@link #SEQUENCE}.
+     */
+    TABLE,
+
+    /**
+     * No surrogate id: the primary key is the natural pair {@code ({entity}_id, locale)}.
+     * Rows are narrower, the table has one index less and translation lookups are primary-key
+     * seeks. Requires the parent entity to have a single {@code @Id} attribute.
+     */
+    COMPOSITE
+}
@@ -0,0 +1,104 @@
+package com.localizedjpa.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Customizes the table of the generated translation entity.
+ *
+ * <p>Optional - entities with {@link Localized} fields get a translation table without it.
+ * By default the table is named {@code {entity_table}_translations} and carries a unique
+ * constraint on {@code ({entity}_id, locale)}, which also serves as the index for the
+ * per-entity translation lookup.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@literal @}Entity
+ * {@literal @}TranslationTable(name = "product_i18n", idStrategy = TranslationIdStrategy.SEQUENCE,
+ *                   cache = TranslationCacheStrategy.READ_WRITE)
+ * public class Product {
+ *     {@literal @}Localized(indexed = true)
+ *     private String name;
+ * }
+ * </pre>
+ *
+ * @see Localized#indexed()
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TranslationTable {
+
+    /**
+     * Custom name for the translations table.
+     * If empty, defaults to {@code {entity_table}_translations}.
+     *
+     * @return custom translation table name or empty for default
+     */
+    String name() default "";
+
+    /**
+     * If true, generates the unique constraint {@code uk_{table}_parent_locale}
+     * on {@code ({entity}_id, locale)}, so an entity has at most one row per locale.
+     * Not generated for {@link TranslationIdStrategy#COMPOSITE}, where that pair is the primary key.
+     *
+     * @return true to generate the unique constraint
+     */
+    boolean uniqueLocale() default true;
+
+    /**
+     * Identifier generation strategy of the translation entity. {@link TranslationIdStrategy#IDENTITY}
+     * keeps the id of {@code BaseTranslation}; the pooled strategies make translation inserts batchable;
+     * {@link TranslationIdStrategy#COMPOSITE} keys rows by {@code ({entity}_id, locale)}.
+     *
+     * @return the id generation strategy
+     */
+    TranslationIdStrategy idStrategy() default TranslationIdStrategy.IDENTITY;
+
+    /**
+     * Number of ids allocated per sequence or table round trip.
+     * Only used by {@link TranslationIdStrategy#SEQUENCE} and {@link TranslationIdStrategy#TABLE}.
+     *
+     * @return the allocation size of the pooled generator
+     */
+    int allocationSize() default 50;
+
+    /**
+     * Storage of the locale column. {@link LocaleStorage#DICTIONARY} replaces the language key
+     * with a {@code smallint} id from the locale registry table.
+     *
+     * @return the locale column storage
+     */
+    LocaleStorage localeStorage() default LocaleStorage.STRING;
+
+    /**
+     * Second-level cache strategy of the translation entity and the parent's {@code translations}
+     * collection. {@link TranslationCacheStrategy#DEFAULT} applies the {@code localizedjpa.cache.strategy}
+     * processor option; {@link TranslationCacheStrategy#NONE} opts out of it.
+     *
+     * @return the cache concurrency strategy
+     */
+    TranslationCacheStrategy cache() default TranslationCacheStrategy.DEFAULT;
+
+    /**
+     * Cache region of the translation entity; the {@code translations} collection uses
+     * {@code {region}.translations}. If empty, the {@code localizedjpa.cache.region} processor
+     * option applies, else Hibernate's default regions named after the entity and collection role.
+     *
+     * @return custom cache region name or empty for default
+     */
+    String cacheRegion() default "";
+
+    /**
+     * Whether all entities of this type and their translations are kept in an immutable in-memory
+     * snapshot, from which the generated {@code get<Field>(Locale)} methods read without loading the
+     * {@code translations} collection. Meant for small, read-mostly reference entities such as badges
+     * or categories. The entity needs an integral {@code @Id}.
+     *
+     * @return true to serve translations from a catalog snapshot
+     */
+    boolean catalog() default false;
+}
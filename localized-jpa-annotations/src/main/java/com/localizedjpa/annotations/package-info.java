@@ -6,6 +6,9 @@
  * <ul>
  *   <li>{@link com.localizedjpa.annotations.LocalizedEntity LocalizedEntity} - Marks an entity class for localization</li>
  *   <li>{@link com.localizedjpa.annotations.Localized Localized} - Marks a field as localized (multi-language support)</li>
+ *   <li>{@link com.localizedjpa.annotations.TranslationTable TranslationTable} - Customizes the generated translation table</li>
+ *   <li>{@link com.localizedjpa.annotations.TranslationIdStrategy TranslationIdStrategy} - Id generation strategy of translation entities</li>
+ *   <li>{@link com.localizedjpa.annotations.TranslationCacheStrategy TranslationCacheStrategy} - Second-level cache strategy of translation entities</li>
  * </ul>
  * 
  * <p>Example usage:
@@ -33,4 +33,16 @@ class LocalizedAnnotationTest {
         boolean defaultValue = (boolean) Localized.class.getMethod("fallback").getDefaultValue();
         assertThat(defaultValue).isTrue();
     }
+
+    @Test
+    void shouldHaveSearchableDisabledByDefault() throws NoSuchMethodException {
+        boolean defaultValue = (boolean) Localized.class.getMethod("searchable").getDefaultValue();
+        assertThat(defaultValue).isFalse();
+    }
+
+    @Test
+    void shouldHaveIndexedDisabledByDefault() throws NoSuchMethodException {
+        boolean defaultValue = (boolean) Localized.class.getMethod("indexed").getDefaultValue();
+        assertThat(defaultValue).isFalse();
+    }
 }
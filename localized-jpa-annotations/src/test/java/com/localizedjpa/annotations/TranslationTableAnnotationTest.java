@@ -0,0 +1,44 @@
+package com.localizedjpa.annotations;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TranslationTable} annotation.
+ */
+class TranslationTableAnnotationTest {
+
+    @Test
+    void shouldHaveRuntimeRetention() {
+        Retention retention = TranslationTable.class.getAnnotation(Retention.class);
+        assertThat(retention).isNotNull();
+        assertThat(retention.value()).isEqualTo(RetentionPolicy.RUNTIME);
+    }
+
+    @Test
+    void shouldTargetTypes() {
+        Target target = TranslationTable.class.getAnnotation(Target.class);
+        assertThat(target).isNotNull();
+        assertThat(target.value()).containsExactly(ElementType.TYPE);
+    }
+
+    @Test
+    void shouldHaveDefaultValues() throws NoSuchMethodException {
+        String name = (String) TranslationTable.class.getMethod("name").getDefaultValue();
+        boolean uniqueLocale = (boolean) TranslationTable.class.getMethod("uniqueLocale").getDefaultValue();
+
+        Object idStrategy = TranslationTable.class.getMethod("idStrategy").getDefaultValue();
+        int allocationSize = (int) TranslationTable.class.getMethod("allocationSize").getDefaultValue();
+
+        assertThat(name).isEmpty();
+        assertThat(uniqueLocale).isTrue();
+        assertThat(idStrategy).isEqualTo(TranslationIdStrategy.IDENTITY);
+        assertThat(allocationSize).isEqualTo(50);
+    }
+}
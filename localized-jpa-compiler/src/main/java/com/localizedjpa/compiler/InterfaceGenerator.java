@@ -90,7 +90,10 @@ public class InterfaceGenerator {
                 .addParameter(Locale.class, "locale")
                 .addJavadoc("Gets the {@code $L} value for the specified locale.\n", fieldName)
                 .addJavadoc("@param locale The target locale\n")
-                .addJavadoc("@return The localized value, or null if not found\n")
+                .addJavadoc(field.fallback()
+                        ? "@return The localized value, the value of the fallback locale if the locale has none,"
+                            + " or null if neither is found\n"
+                        : "@return The localized value, or null if not found\n")
                 .build());
 
         // 4. void setFieldName(T value, Locale locale) - explicit locale
@@ -121,12 +124,13 @@ public class InterfaceGenerator {
     /**
      * Record holding information about a localized field.
      */
-    public record LocalizedFieldInfo(String name, TypeName typeName, boolean fallback, 
-                                   ColumnInfo columnInfo, List<AnnotationSpec> additionalAnnotations) {
+    public record LocalizedFieldInfo(String name, TypeName typeName, boolean fallback, boolean searchable,
+                                   boolean sortable, boolean indexed, ColumnInfo columnInfo,
+                                   List<AnnotationSpec> additionalAnnotations) {
         
         // Compact constructor for backward compatibility during refactoring
         public LocalizedFieldInfo(String name, TypeName typeName, boolean fallback) {
-            this(name, typeName, fallback, ColumnInfo.empty(), List.of());
+            this(name, typeName, fallback, false, false, false, ColumnInfo.empty(), List.of());
         }
     }
 }
@@ -338,9 +338,11 @@ public class JavacAstModifier {
 
 
     /**
-     * Injects the translations map field into the class.
+     * Injects the translations map field into the class, second-level cached
+     * if the translation table is configured for caching.
      */
-    public void injectTranslationsField(TypeElement classElement, String translationClassName) {
+    public void injectTranslationsField(TypeElement classElement, String translationClassName,
+                                        TranslationEntityGenerator.TranslationTableInfo tableInfo) {
         JCTree tree = (JCTree) trees.getTree(classElement);
         if (!(tree instanceof JCClassDecl classDecl)) {
             return;
@@ -350,15 +352,18 @@ public class JavacAstModifier {
                 "[LocalizedJPA] Injecting translations field into " + classElement.getSimpleName());
 
         // Create: private Map<String, ProductTranslation> translations = new HashMap<>();
-        JCVariableDecl translationsField = createTranslationsField(translationClassName);
+        JCVariableDecl translationsField = createTranslationsField(translationClassName, tableInfo);
         classDecl.defs = classDecl.defs.prepend(translationsField);
     }
 
     /**
      * Injects getter method: public String getName() { ... }
      * If method exists, overrides its body with localization logic.
+     * With {@code fallback}, {@code getName(Locale)} returns the value of the fallback language
+     * when the requested language has none.
      */
-    public void injectLocalizedGetter(TypeElement classElement, String fieldName, String translationClassName) {
+    public void injectLocalizedGetter(TypeElement classElement, String fieldName, String translationClassName,
+                                      boolean fallback) {
         JCTree tree = (JCTree) trees.getTree(classElement);
         if (!(tree instanceof JCClassDecl classDecl)) {
             return;
@@ -388,13 +393,13 @@ public class JavacAstModifier {
             // Create new method
             processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
                     "[LocalizedJPA] Injecting method: " + methodName + "(Locale)");
-            JCMethodDecl getterWithLocale = createLocalizedGetterWithLocale(fieldName, translationClassName);
+            JCMethodDecl getterWithLocale = createLocalizedGetterWithLocale(fieldName, translationClassName, fallback);
             classDecl.defs = classDecl.defs.append(getterWithLocale);
         } else {
             // Override existing method body
             processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
                     "[LocalizedJPA] Overriding " + methodName + "(Locale) with localization logic");
-            JCMethodDecl newGetterWithLocale = createLocalizedGetterWithLocale(fieldName, translationClassName);
+            JCMethodDecl newGetterWithLocale = createLocalizedGetterWithLocale(fieldName, translationClassName, fallback);
             existingGetterWithLocale.body = newGetterWithLocale.body;
         }
     }
@@ -469,7 +474,8 @@ public class JavacAstModifier {
 
     // ==================== Helper Methods ====================
 
-    private JCVariableDecl createTranslationsField(String translationClassName) {
+    private JCVariableDecl createTranslationsField(String translationClassName,
+                                                   TranslationEntityGenerator.TranslationTableInfo tableInfo) {
         // Create parametrized Map<String, ProductTranslation> type
         JCExpression rawMapType = treeMaker.Ident(names.fromString("java"));
         rawMapType = treeMaker.Select(rawMapType, names.fromString("util"));
@@ -514,8 +520,21 @@ public class JavacAstModifier {
         JCExpression jsonIgnoreType = createQualifiedName("com.fasterxml.jackson.annotation.JsonIgnore");
         JCAnnotation jsonIgnore = treeMaker.Annotation(jsonIgnoreType, List.nil());
 
-        // Combine annotations: @OneToMany, @MapKey, @JsonIgnore
-        List<JCAnnotation> annotations = List.of(oneToMany, mapKey, jsonIgnore);
+        // Create @Filter(name = "localizedJpaLocales_ProductTranslation") - enabled per request at runtime
+        JCExpression filterType = createQualifiedName("org.hibernate.annotations.Filter");
+        List<JCExpression> filterArgs = List.of(
+                treeMaker.Assign(treeMaker.Ident(names.fromString("name")),
+                        treeMaker.Literal(TranslationEntityGenerator.localeFilterName(translationClassName)))
+        );
+        JCAnnotation filter = treeMaker.Annotation(filterType, filterArgs);
+
+        // Combine annotations: @OneToMany, @MapKey, @Filter, @JsonIgnore
+        List<JCAnnotation> annotations = List.of(oneToMany, mapKey, filter, jsonIgnore);
+
+        // Create @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "...") if cached
+        if (tableInfo.cached()) {
+            annotations = annotations.append(createCacheAnnotation(tableInfo));
+        }
         JCModifiers modifiers = treeMaker.Modifiers(Flags.PRIVATE, annotations);
 
         return treeMaker.VarDef(
@@ -526,6 +545,21 @@ public class JavacAstModifier {
         );
     }
 
+    private JCAnnotation createCacheAnnotation(TranslationEntityGenerator.TranslationTableInfo tableInfo) {
+        JCExpression cacheType = createQualifiedName("org.hibernate.annotations.Cache");
+        JCExpression strategyType = createQualifiedName("org.hibernate.annotations.CacheConcurrencyStrategy");
+        List<JCExpression> cacheArgs = List.of(
+                treeMaker.Assign(treeMaker.Ident(names.fromString("usage")),
+                        treeMaker.Select(strategyType, names.fromString(tableInfo.cache().name())))
+        );
+        String region = tableInfo.collectionCacheRegion();
+        if (!region.isEmpty()) {
+            cacheArgs = cacheArgs.append(treeMaker.Assign(treeMaker.Ident(names.fromString("region")),
+                    treeMaker.Literal(region)));
+        }
+        return treeMaker.Annotation(cacheType, cacheArgs);
+    }
+
     private JCExpression createQualifiedName(String qualifiedName) {
         String[] parts = qualifiedName.split("\\.");
         JCExpression expr = treeMaker.Ident(names.fromString(parts[0]));
@@ -589,7 +623,8 @@ public class JavacAstModifier {
         );
     }
 
-    private JCMethodDecl createLocalizedGetterWithLocale(String fieldName, String translationClassName) {
+    private JCMethodDecl createLocalizedGetterWithLocale(String fieldName, String translationClassName,
+                                                         boolean fallback) {
         String methodName = "get" + capitalize(fieldName);
         String capitalizedFieldName = capitalize(fieldName);
 
@@ -600,6 +635,18 @@ public class JavacAstModifier {
                 createLocaleType(),
                 null
         );
+        if (fallback) {
+            return treeMaker.MethodDef(
+                    treeMaker.Modifiers(Flags.PUBLIC),
+                    names.fromString(methodName),
+                    treeMaker.Ident(names.fromString("String")),
+                    List.nil(),
+                    List.of(localeParam),
+                    List.nil(),
+                    createFallbackGetterBody(fieldName, translationClassName),
+                    null
+            );
+        }
 
         // Method body: if (translations == null) return null;
         JCExpression translationsField = treeMaker.Ident(names.fromString("translations"));
@@ -621,6 +668,32 @@ public class JavacAstModifier {
                 getLanguageCall
         );
 
+        // Map<String, String> cachedValues = TranslationCache.values(translations, localeKey);
+        JCExpression cachedValuesType = treeMaker.TypeApply(createQualifiedName("java.util.Map"),
+                List.of(createQualifiedName("java.lang.String"), createQualifiedName("java.lang.String")));
+        JCExpression cacheLookup = treeMaker.Apply(
+                List.nil(),
+                createQualifiedName("com.localizedjpa.runtime.cache.TranslationCache.values"),
+                List.of(treeMaker.Ident(names.fromString("translations")),
+                        treeMaker.Ident(names.fromString("localeKey")))
+        );
+        JCVariableDecl cachedValuesVar = treeMaker.VarDef(
+                treeMaker.Modifiers(0),
+                names.fromString("cachedValues"),
+                cachedValuesType,
+                cacheLookup
+        );
+
+        // if (cachedValues != null) return cachedValues.get("name");
+        JCExpression cachedValuesIdent = treeMaker.Ident(names.fromString("cachedValues"));
+        JCExpression cachedValuesCheck = treeMaker.Binary(JCTree.Tag.NE, cachedValuesIdent, treeMaker.Literal(TypeTag.BOT, null));
+        JCReturn returnCached = treeMaker.Return(treeMaker.Apply(
+                List.nil(),
+                treeMaker.Select(cachedValuesIdent, names.fromString("get")),
+                List.of(treeMaker.Literal(fieldName))
+        ));
+        JCIf cachedValuesIf = treeMaker.If(cachedValuesCheck, returnCached, null);
+
         // ProductTranslation translation = translations.get(localeKey);
         JCExpression getCall = treeMaker.Apply(
                 List.nil(),
@@ -648,7 +721,8 @@ public class JavacAstModifier {
         );
         JCReturn returnStmt = treeMaker.Return(getFieldCall);
 
-        JCBlock body = treeMaker.Block(0, List.of(nullCheckIf, localeKeyVar, translationVar, translationNullCheckIf, returnStmt));
+        JCBlock body = treeMaker.Block(0, List.of(nullCheckIf, localeKeyVar, cachedValuesVar, cachedValuesIf,
+                translationVar, translationNullCheckIf, returnStmt));
 
         return treeMaker.MethodDef(
                 treeMaker.Modifiers(Flags.PUBLIC),
@@ -662,6 +736,118 @@ public class JavacAstModifier {
         );
     }
 
+    /**
+     * Creates the body of {@code getName(Locale)} for a field with fallback: tries each language
+     * key of the locale's precomputed chain and returns the first non-null value.
+     */
+    private JCBlock createFallbackGetterBody(String fieldName, String translationClassName) {
+        // if (translations == null) return null;
+        JCIf nullCheckIf = treeMaker.If(
+                treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Ident(names.fromString("translations")),
+                        treeMaker.Literal(TypeTag.BOT, null)),
+                treeMaker.Return(treeMaker.Literal(TypeTag.BOT, null)),
+                null
+        );
+
+        // Map<String, String> cachedValues = TranslationCache.values(translations, localeKey);
+        JCVariableDecl cachedValuesVar = treeMaker.VarDef(
+                treeMaker.Modifiers(0),
+                names.fromString("cachedValues"),
+                treeMaker.TypeApply(createQualifiedName("java.util.Map"),
+                        List.of(createQualifiedName("java.lang.String"), createQualifiedName("java.lang.String"))),
+                treeMaker.Apply(
+                        List.nil(),
+                        createQualifiedName("com.localizedjpa.runtime.cache.TranslationCache.values"),
+                        List.of(treeMaker.Ident(names.fromString("translations")),
+                                treeMaker.Ident(names.fromString("localeKey")))
+                )
+        );
+
+        // String value;
+        JCVariableDecl valueVar = treeMaker.VarDef(
+                treeMaker.Modifiers(0),
+                names.fromString("value"),
+                treeMaker.Ident(names.fromString("String")),
+                null
+        );
+
+        // value = cachedValues.get("name");
+        JCStatement assignCached = treeMaker.Exec(treeMaker.Assign(
+                treeMaker.Ident(names.fromString("value")),
+                treeMaker.Apply(
+                        List.nil(),
+                        treeMaker.Select(treeMaker.Ident(names.fromString("cachedValues")), names.fromString("get")),
+                        List.of(treeMaker.Literal(fieldName))
+                )
+        ));
+
+        // ProductTranslation translation = translations.get(localeKey);
+        JCVariableDecl translationVar = treeMaker.VarDef(
+                treeMaker.Modifiers(0),
+                names.fromString("translation"),
+                createQualifiedName(translationClassName),
+                treeMaker.Apply(
+                        List.nil(),
+                        treeMaker.Select(treeMaker.Ident(names.fromString("translations")), names.fromString("get")),
+                        List.of(treeMaker.Ident(names.fromString("localeKey")))
+                )
+        );
+
+        // value = translation == null ? null : translation.getName();
+        JCStatement assignTranslation = treeMaker.Exec(treeMaker.Assign(
+                treeMaker.Ident(names.fromString("value")),
+                treeMaker.Conditional(
+                        treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Ident(names.fromString("translation")),
+                                treeMaker.Literal(TypeTag.BOT, null)),
+                        treeMaker.Literal(TypeTag.BOT, null),
+                        treeMaker.Apply(
+                                List.nil(),
+                                treeMaker.Select(treeMaker.Ident(names.fromString("translation")),
+                                        names.fromString("get" + capitalize(fieldName))),
+                                List.nil()
+                        )
+                )
+        ));
+
+        // if (cachedValues != null) { value = ...; } else { ...; value = ...; }
+        JCIf cachedValuesIf = treeMaker.If(
+                treeMaker.Binary(JCTree.Tag.NE, treeMaker.Ident(names.fromString("cachedValues")),
+                        treeMaker.Literal(TypeTag.BOT, null)),
+                treeMaker.Block(0, List.of(assignCached)),
+                treeMaker.Block(0, List.of(translationVar, assignTranslation))
+        );
+
+        // if (value != null) return value;
+        JCIf valueIf = treeMaker.If(
+                treeMaker.Binary(JCTree.Tag.NE, treeMaker.Ident(names.fromString("value")),
+                        treeMaker.Literal(TypeTag.BOT, null)),
+                treeMaker.Return(treeMaker.Ident(names.fromString("value"))),
+                null
+        );
+
+        // for (String localeKey : LocaleFallback.chain(locale)) { ... }
+        JCVariableDecl localeKeyVar = treeMaker.VarDef(
+                treeMaker.Modifiers(0),
+                names.fromString("localeKey"),
+                treeMaker.Ident(names.fromString("String")),
+                null
+        );
+        JCEnhancedForLoop chainLoop = treeMaker.ForeachLoop(
+                localeKeyVar,
+                treeMaker.Apply(
+                        List.nil(),
+                        createQualifiedName("com.localizedjpa.runtime.LocaleFallback.chain"),
+                        List.of(treeMaker.Ident(names.fromString("locale")))
+                ),
+                treeMaker.Block(0, List.of(cachedValuesVar, valueVar, cachedValuesIf, valueIf))
+        );
+
+        // return null;
+        JCReturn returnNull = treeMaker.Return(treeMaker.Literal(TypeTag.BOT, null));
+
+        return treeMaker.Block(0, List.of(nullCheckIf, chainLoop, returnNull));
+    }
+
     private JCMethodDecl createLocalizedSetter(String fieldName, String translationClassName) {
         String methodName = "set" + capitalize(fieldName);
 
@@ -765,8 +951,24 @@ public class JavacAstModifier {
                 getCall
         );
 
-        // if (translation == null) { ... }
+        // if (translation == null) translation = TranslationFilter.findFilteredOut(translations, localeKey);
         JCExpression translationIdent = treeMaker.Ident(names.fromString("translation"));
+        JCIf filteredOutIf = treeMaker.If(
+                treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Ident(names.fromString("translation")),
+                        treeMaker.Literal(TypeTag.BOT, null)),
+                treeMaker.Exec(treeMaker.Assign(
+                        treeMaker.Ident(names.fromString("translation")),
+                        treeMaker.Apply(
+                                List.nil(),
+                                createQualifiedName("com.localizedjpa.runtime.TranslationFilter.findFilteredOut"),
+                                List.of(treeMaker.Ident(names.fromString("translations")),
+                                        treeMaker.Ident(names.fromString("localeKey")))
+                        )
+                )),
+                null
+        );
+
+        // if (translation == null) { ... }
         JCExpression translationNullCheck = treeMaker.Binary(JCTree.Tag.EQ, translationIdent, treeMaker.Literal(TypeTag.BOT, null));
 
         // translation = new {EntityName}Translation();
@@ -814,6 +1016,7 @@ public class JavacAstModifier {
                 nullCheckIf,
                 localeKeyVar,
                 translationVar,
+                filteredOutIf,
                 translationNullCheckIf,
                 setFieldStmt
         ));
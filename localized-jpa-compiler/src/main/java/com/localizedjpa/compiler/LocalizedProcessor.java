@@ -1,14 +1,19 @@
 package com.localizedjpa.compiler;
 
 import com.google.auto.service.AutoService;
+import com.localizedjpa.annotations.LocaleStorage;
 import com.localizedjpa.annotations.Localized;
 import com.localizedjpa.annotations.LocalizedEntity;
+import com.localizedjpa.annotations.TranslationCacheStrategy;
+import com.localizedjpa.annotations.TranslationIdStrategy;
+import com.localizedjpa.annotations.TranslationTable;
 import com.localizedjpa.compiler.InterfaceGenerator.LocalizedFieldInfo;
 import com.squareup.javapoet.TypeName;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -34,6 +39,15 @@ import java.util.*;
  * 
  * <p>This ensures Translation classes are compiled before methods referencing them are injected.
  * 
+ * <p>Processor options:
+ * <ul>
+ *   <li>{@code localizedjpa.cache.strategy} - second-level cache strategy of all translation entities
+ *       and collections, e.g. {@code -Alocalizedjpa.cache.strategy=READ_WRITE}; overridden by
+ *       {@code @TranslationTable(cache)}</li>
+ *   <li>{@code localizedjpa.cache.region} - cache region of all translation entities, overridden by
+ *       {@code @TranslationTable(cacheRegion)}</li>
+ * </ul>
+ * 
  * <p><b>Note:</b> {@link LocalizedEntity} is deprecated and no longer required. Simply annotate
  * fields with {@code @Localized} in any {@code @Entity} class.
  */
@@ -42,12 +56,21 @@ import java.util.*;
     "com.localizedjpa.annotations.LocalizedEntity",
     "com.localizedjpa.annotations.Localized"
 })
+@SupportedOptions({
+    LocalizedProcessor.CACHE_STRATEGY_OPTION,
+    LocalizedProcessor.CACHE_REGION_OPTION
+})
 public class LocalizedProcessor extends AbstractProcessor {
 
+    static final String CACHE_STRATEGY_OPTION = "localizedjpa.cache.strategy";
+    static final String CACHE_REGION_OPTION = "localizedjpa.cache.region";
+
     private Messager messager;
     private Filer filer;
     private Elements elementUtils;
     private Types typeUtils;
+    private TranslationCacheStrategy defaultCacheStrategy = TranslationCacheStrategy.NONE;
+    private String defaultCacheRegion = "";
 
     // Track processing state across rounds
     private final Set<String> generatedTranslations = new HashSet<>();
@@ -60,7 +83,8 @@ public class LocalizedProcessor extends AbstractProcessor {
     private record PendingInjection(
         String packageName,
         String className,
-        List<LocalizedFieldInfo> fields
+        List<LocalizedFieldInfo> fields,
+        TranslationEntityGenerator.TranslationTableInfo tableInfo
     ) {}
     
     // Supported annotations to propagate
@@ -99,6 +123,17 @@ public class LocalizedProcessor extends AbstractProcessor {
         this.filer = processingEnv.getFiler();
         this.elementUtils = processingEnv.getElementUtils();
         this.typeUtils = processingEnv.getTypeUtils();
+
+        String cacheStrategy = processingEnv.getOptions().get(CACHE_STRATEGY_OPTION);
+        if (cacheStrategy != null && !cacheStrategy.isBlank()) {
+            try {
+                defaultCacheStrategy = TranslationCacheStrategy.valueOf(cacheStrategy.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Invalid -A" + CACHE_STRATEGY_OPTION + "=" + cacheStrategy
+                    + ", expected one of " + Arrays.toString(TranslationCacheStrategy.values()));
+            }
+        }
+        defaultCacheRegion = processingEnv.getOptions().getOrDefault(CACHE_REGION_OPTION, "").trim();
     }
 
     @Override
@@ -217,14 +252,46 @@ public class LocalizedProcessor extends AbstractProcessor {
         TypeMirror typeMirror = field.asType();
         TypeName typeName = TypeName.get(typeMirror);
         boolean fallback = localizedAnnotation.fallback();
+        boolean searchable = isSearchable(field, localizedAnnotation);
         
         // Extract column info and additional annotations
         InterfaceGenerator.ColumnInfo columnInfo = extractColumnInfo(field);
         List<com.squareup.javapoet.AnnotationSpec> additionalAnnotations = extractAdditionalAnnotations(field);
         
-        return new LocalizedFieldInfo(fieldName, typeName, fallback, columnInfo, additionalAnnotations);
+        return new LocalizedFieldInfo(fieldName, typeName, fallback, searchable,
+            isSortable(field, localizedAnnotation), localizedAnnotation.indexed(), columnInfo, additionalAnnotations);
     }
     
+    /**
+     * Search columns hold normalized text, so only String fields can be searchable.
+     */
+    private boolean isSearchable(VariableElement field, Localized localizedAnnotation) {
+        if (!localizedAnnotation.searchable()) {
+            return false;
+        }
+        if (!field.asType().toString().equals("java.lang.String")) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "[LocalizedJPA] @Localized(searchable = true) is only supported on String fields, ignoring it", field);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sort keys are collation keys of text, so only String fields can be sortable.
+     */
+    private boolean isSortable(VariableElement field, Localized localizedAnnotation) {
+        if (!localizedAnnotation.sortable()) {
+            return false;
+        }
+        if (!field.asType().toString().equals("java.lang.String")) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "[LocalizedJPA] @Localized(sortable = true) is only supported on String fields, ignoring it", field);
+            return false;
+        }
+        return true;
+    }
+
     private InterfaceGenerator.ColumnInfo extractColumnInfo(VariableElement field) {
         for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
             String annotName = mirror.getAnnotationType().toString();
@@ -288,12 +355,14 @@ public class LocalizedProcessor extends AbstractProcessor {
         // ROUND 1: Generate Translation entity and interface (source files)
         String translationKey = qualifiedName + "Translation";
         if (!generatedTranslations.contains(translationKey)) {
-            generateSourceFiles(classElement, packageName, className, localizedFields);
+            TranslationEntityGenerator.TranslationTableInfo tableInfo =
+                getTranslationTableInfo(classElement, getTableName(classElement, className));
+            generateSourceFiles(classElement, packageName, className, localizedFields, tableInfo);
             generatedTranslations.add(translationKey);
             
             // Queue AST injection for next round
             pendingInjections.put(qualifiedName, 
-                new PendingInjection(packageName, className, localizedFields));
+                new PendingInjection(packageName, className, localizedFields, tableInfo));
             
             messager.printMessage(Diagnostic.Kind.NOTE, 
                 "[LocalizedJPA] Queued AST injection for " + className + " (will run after Translation is compiled)");
@@ -304,8 +373,8 @@ public class LocalizedProcessor extends AbstractProcessor {
         if (translationElement != null && pendingInjections.containsKey(qualifiedName)) {
             messager.printMessage(Diagnostic.Kind.NOTE, 
                 "[LocalizedJPA] Translation class available, performing AST injection for " + className);
-            performAstInjection(classElement, packageName, className, localizedFields);
-            pendingInjections.remove(qualifiedName);
+            performAstInjection(classElement, packageName, className, localizedFields,
+                pendingInjections.remove(qualifiedName).tableInfo());
         }
     }
 
@@ -327,7 +396,9 @@ public class LocalizedProcessor extends AbstractProcessor {
                     InterfaceGenerator.ColumnInfo columnInfo = extractColumnInfo(field);
                     List<com.squareup.javapoet.AnnotationSpec> additionalAnnotations = extractAdditionalAnnotations(field);
 
-                    fields.add(new LocalizedFieldInfo(fieldName, typeName, fallback, columnInfo, additionalAnnotations));
+                    fields.add(new LocalizedFieldInfo(fieldName, typeName, fallback, isSearchable(field, localizedAnnotation),
+                        isSortable(field, localizedAnnotation), localizedAnnotation.indexed(), columnInfo,
+                        additionalAnnotations));
                     
                     messager.printMessage(Diagnostic.Kind.NOTE, 
                         "[LocalizedJPA]   Found @Localized field: " + fieldName);
@@ -339,7 +410,8 @@ public class LocalizedProcessor extends AbstractProcessor {
     }
 
     private void generateSourceFiles(TypeElement classElement, String packageName, 
-                                     String className, List<LocalizedFieldInfo> localizedFields) {
+                                     String className, List<LocalizedFieldInfo> localizedFields,
+                                     TranslationEntityGenerator.TranslationTableInfo tableInfo) {
         // Generate interface
         try {
             InterfaceGenerator generator = new InterfaceGenerator(filer);
@@ -355,8 +427,15 @@ public class LocalizedProcessor extends AbstractProcessor {
         // Generate translation entity
         try {
             TranslationEntityGenerator translationGenerator = new TranslationEntityGenerator(filer);
-            String tableName = getTableName(classElement, className);
-            translationGenerator.generateTranslationEntity(packageName, className, tableName, localizedFields);
+            TypeName parentIdType = null;
+            if (tableInfo.idStrategy() == TranslationIdStrategy.COMPOSITE) {
+                parentIdType = findParentIdType(classElement);
+                if (parentIdType == null) {
+                    return;
+                }
+            }
+            translationGenerator.generateTranslationEntity(packageName, className, tableInfo,
+                parentIdType, localizedFields);
             
             messager.printMessage(Diagnostic.Kind.NOTE, 
                 "[LocalizedJPA] Generated translation entity: " + packageName + "." + className + "Translation");
@@ -367,7 +446,8 @@ public class LocalizedProcessor extends AbstractProcessor {
     }
 
     private void performAstInjection(TypeElement classElement, String packageName,
-                                     String className, List<LocalizedFieldInfo> localizedFields) {
+                                     String className, List<LocalizedFieldInfo> localizedFields,
+                                     TranslationEntityGenerator.TranslationTableInfo tableInfo) {
         JavacAstModifier astModifier = JavacAstModifier.createIfSupported(processingEnv);
         
         if (astModifier == null) {
@@ -388,11 +468,11 @@ public class LocalizedProcessor extends AbstractProcessor {
             }
             
             // Inject translations map field
-            astModifier.injectTranslationsField(classElement, translationClassName);
+            astModifier.injectTranslationsField(classElement, translationClassName, tableInfo);
             
             // Inject getter/setter methods for each @Localized field
             for (LocalizedFieldInfo field : localizedFields) {
-                astModifier.injectLocalizedGetter(classElement, field.name(), translationClassName);
+                astModifier.injectLocalizedGetter(classElement, field.name(), translationClassName, field.fallback());
                 astModifier.injectLocalizedSetter(classElement, field.name(), translationClassName);
             }
             
@@ -421,12 +501,146 @@ public class LocalizedProcessor extends AbstractProcessor {
                 messager.printMessage(Diagnostic.Kind.NOTE, 
                     "[LocalizedJPA] Performing deferred AST injection for " + pending.className());
                 performAstInjection(classElement, pending.packageName(), 
-                    pending.className(), pending.fields());
+                    pending.className(), pending.fields(), pending.tableInfo());
             }
         }
         pendingInjections.clear();
     }
 
+    /**
+     * Reads {@code @TranslationTable}, falling back to the deprecated
+     * {@code @LocalizedEntity(translationTable)} for the table name
+     * and to the processor options for the cache settings.
+     */
+    @SuppressWarnings("removal")
+    private TranslationEntityGenerator.TranslationTableInfo getTranslationTableInfo(TypeElement classElement,
+                                                                                   String tableName) {
+        TranslationEntityGenerator.TranslationTableInfo defaults =
+            TranslationEntityGenerator.TranslationTableInfo.defaults(tableName);
+        String translationTableName = defaults.name();
+        boolean uniqueLocale = defaults.uniqueLocale();
+        TranslationIdStrategy idStrategy = defaults.idStrategy();
+        int allocationSize = defaults.allocationSize();
+        LocaleStorage localeStorage = defaults.localeStorage();
+        TranslationCacheStrategy cache = defaultCacheStrategy;
+        String cacheRegion = defaultCacheRegion;
+
+        LocalizedEntity legacy = classElement.getAnnotation(LocalizedEntity.class);
+        if (legacy != null && !legacy.translationTable().isEmpty()) {
+            translationTableName = legacy.translationTable();
+        }
+
+        TranslationTable translationTable = classElement.getAnnotation(TranslationTable.class);
+        if (translationTable != null) {
+            if (!translationTable.name().isEmpty()) {
+                translationTableName = translationTable.name();
+            }
+            uniqueLocale = translationTable.uniqueLocale();
+            idStrategy = translationTable.idStrategy();
+            allocationSize = translationTable.allocationSize();
+            if (allocationSize < 1) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@TranslationTable(allocationSize) must be at least 1", classElement);
+            }
+            localeStorage = translationTable.localeStorage();
+            if (localeStorage == LocaleStorage.DICTIONARY && idStrategy == TranslationIdStrategy.COMPOSITE) {
+                // JPA does not apply attribute converters to id attributes
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@TranslationTable(localeStorage = DICTIONARY) cannot be combined with idStrategy = COMPOSITE",
+                    classElement);
+            }
+            if (translationTable.cache() != TranslationCacheStrategy.DEFAULT) {
+                cache = translationTable.cache();
+            }
+            if (!translationTable.cacheRegion().isEmpty()) {
+                cacheRegion = translationTable.cacheRegion();
+            }
+            if (translationTable.catalog()) {
+                checkCatalogId(classElement);
+            }
+        }
+        if (cache == TranslationCacheStrategy.DEFAULT) {
+            cache = TranslationCacheStrategy.NONE;
+        }
+
+        return new TranslationEntityGenerator.TranslationTableInfo(translationTableName, uniqueLocale,
+            idStrategy, allocationSize, localeStorage, cache, cacheRegion);
+    }
+
+    /**
+     * Finds the type of the entity's {@code @Id} field, walking up mapped superclasses.
+     * Reports an error and returns null if there is none or the entity uses {@code @EmbeddedId},
+     * since the composite translation key derives its {@code parent} part from a simple id.
+     */
+    private TypeName findParentIdType(TypeElement classElement) {
+        for (TypeElement type = classElement; type != null; type = superclassOf(type)) {
+            for (Element enclosed : type.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                if (hasAnnotation(enclosed, "EmbeddedId")) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@TranslationTable(idStrategy = COMPOSITE) requires a simple @Id, not @EmbeddedId",
+                        classElement);
+                    return null;
+                }
+                if (hasAnnotation(enclosed, "Id")) {
+                    return TypeName.get(enclosed.asType());
+                }
+            }
+        }
+        messager.printMessage(Diagnostic.Kind.ERROR,
+            "@TranslationTable(idStrategy = COMPOSITE) requires an @Id field on the entity", classElement);
+        return null;
+    }
+
+    /**
+     * Reports an error unless the entity's {@code @Id} is integral, since catalog snapshots are
+     * keyed by primitive {@code long} ids.
+     */
+    private void checkCatalogId(TypeElement classElement) {
+        for (TypeElement type = classElement; type != null; type = superclassOf(type)) {
+            for (Element enclosed : type.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.FIELD
+                    || !hasAnnotation(enclosed, "Id") && !hasAnnotation(enclosed, "EmbeddedId")) {
+                    continue;
+                }
+                TypeName idType = TypeName.get(enclosed.asType());
+                if (idType.isBoxedPrimitive()) {
+                    idType = idType.unbox();
+                }
+                if (idType.equals(TypeName.LONG) || idType.equals(TypeName.INT) || idType.equals(TypeName.SHORT)) {
+                    return;
+                }
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@TranslationTable(catalog = true) requires a long, int or short @Id, not " + enclosed.asType(),
+                    classElement);
+                return;
+            }
+        }
+        messager.printMessage(Diagnostic.Kind.ERROR,
+            "@TranslationTable(catalog = true) requires an @Id field on the entity", classElement);
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) typeUtils.asElement(superclass);
+    }
+
+    private boolean hasAnnotation(Element element, String simpleName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String annotationName = annotation.getAnnotationType().toString();
+            if (annotationName.equals("jakarta.persistence." + simpleName) ||
+                annotationName.equals("javax.persistence." + simpleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String getTableName(TypeElement classElement, String className) {
         for (AnnotationMirror annotation : classElement.getAnnotationMirrors()) {
             String annotationName = annotation.getAnnotationType().toString();
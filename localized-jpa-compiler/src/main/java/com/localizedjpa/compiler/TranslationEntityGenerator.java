@@ -1,11 +1,18 @@
 package com.localizedjpa.compiler;
 
+import com.localizedjpa.annotations.LocaleStorage;
+import com.localizedjpa.annotations.TranslationCacheStrategy;
+import com.localizedjpa.annotations.TranslationIdStrategy;
 import com.squareup.javapoet.*;
 
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Generates translation entity source files using JavaPoet.
@@ -29,6 +36,10 @@ public class TranslationEntityGenerator {
 
     private static final ClassName BASE_TRANSLATION = 
         ClassName.get("com.localizedjpa.runtime", "BaseTranslation");
+    private static final ClassName ABSTRACT_TRANSLATION = 
+        ClassName.get("com.localizedjpa.runtime", "AbstractTranslation");
+    private static final ClassName NATURAL_KEY_TRANSLATION = 
+        ClassName.get("com.localizedjpa.runtime", "NaturalKeyTranslation");
     private static final ClassName ENTITY_ANNOTATION = 
         ClassName.get("jakarta.persistence", "Entity");
     private static final ClassName TABLE_ANNOTATION = 
@@ -37,6 +48,86 @@ public class TranslationEntityGenerator {
         ClassName.get("jakarta.persistence", "Column");
     private static final ClassName BATCH_SIZE_ANNOTATION = 
         ClassName.get("org.hibernate.annotations", "BatchSize");
+    private static final ClassName ID_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "Id");
+    private static final ClassName CONVERT_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "Convert");
+    private static final ClassName LOCALE_ID_CONVERTER = 
+        ClassName.get("com.localizedjpa.runtime", "LocaleIdConverter");
+    private static final ClassName ID_CLASS_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "IdClass");
+    private static final ClassName GENERATED_VALUE_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "GeneratedValue");
+    private static final ClassName GENERATION_TYPE = 
+        ClassName.get("jakarta.persistence", "GenerationType");
+    private static final ClassName SEQUENCE_GENERATOR_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "SequenceGenerator");
+    private static final ClassName TABLE_GENERATOR_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "TableGenerator");
+    private static final ClassName UNIQUE_CONSTRAINT_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "UniqueConstraint");
+    private static final ClassName INDEX_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "Index");
+    private static final ClassName PRE_PERSIST_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "PrePersist");
+    private static final ClassName PRE_UPDATE_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "PreUpdate");
+    private static final ClassName SEARCH_NORMALIZER = 
+        ClassName.get("com.localizedjpa.runtime", "SearchNormalizer");
+    private static final ClassName COLLATION_KEYS = 
+        ClassName.get("com.localizedjpa.runtime", "CollationKeys");
+    private static final ClassName FILTER_DEF_ANNOTATION = 
+        ClassName.get("org.hibernate.annotations", "FilterDef");
+    private static final ClassName PARAM_DEF_ANNOTATION = 
+        ClassName.get("org.hibernate.annotations", "ParamDef");
+    private static final ClassName ENTITY_LISTENERS_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "EntityListeners");
+    private static final ClassName TRANSLATION_CACHE_LISTENER = 
+        ClassName.get("com.localizedjpa.runtime.cache", "TranslationCacheListener");
+    private static final ClassName CACHEABLE_ANNOTATION = 
+        ClassName.get("jakarta.persistence", "Cacheable");
+    private static final ClassName CACHE_ANNOTATION = 
+        ClassName.get("org.hibernate.annotations", "Cache");
+    private static final ClassName CACHE_CONCURRENCY_STRATEGY = 
+        ClassName.get("org.hibernate.annotations", "CacheConcurrencyStrategy");
+
+    /**
+     * Suffix appended to a configured cache region for the parent's {@code translations} collection.
+     */
+    static final String COLLECTION_REGION_SUFFIX = ".translations";
+
+    /**
+     * Prefix of the locale filter defined on every translation entity.
+     * Must match {@code com.localizedjpa.runtime.TranslationFilter#NAME_PREFIX}.
+     */
+    static final String LOCALE_FILTER_PREFIX = "localizedJpaLocales_";
+    static final String LOCALE_FILTER_PARAMETER = "locales";
+
+    /**
+     * Locale registry table of {@link LocaleStorage#DICTIONARY} translation tables.
+     * Must match {@code com.localizedjpa.runtime.LocaleRegistry#TABLE_NAME}.
+     */
+    static final String LOCALE_REGISTRY_TABLE = "localized_jpa_locales";
+
+    /**
+     * Suffix of the normalized search field generated for {@code @Localized(searchable = true)}.
+     */
+    static final String SEARCH_FIELD_SUFFIX = "Search";
+
+    /**
+     * Search column length used when the localized field declares no {@code @Column(length)}.
+     */
+    public static final int DEFAULT_SEARCH_LENGTH = 255;
+
+    /**
+     * Suffix of the collation-key field generated for {@code @Localized(sortable = true)}.
+     */
+    static final String SORT_FIELD_SUFFIX = "Sort";
+
+    /**
+     * Sort-key column length in bytes; keeps {@code (locale, column)} within common index key limits.
+     */
+    private static final int SORT_KEY_LENGTH = 512;
 
     private final Filer filer;
 
@@ -57,30 +148,105 @@ public class TranslationEntityGenerator {
                                            String tableName,
                                            List<InterfaceGenerator.LocalizedFieldInfo> localizedFields) 
                                            throws IOException {
+        generateTranslationEntity(packageName, entityName,
+                TranslationTableInfo.defaults(tableName), null, localizedFields);
+    }
+
+    /**
+     * Generates a translation entity for the given entity.
+     *
+     * @param packageName Package name of the entity
+     * @param entityName Simple name of the entity class
+     * @param tableInfo Translation table name and constraint options
+     * @param parentIdType Type of the parent entity's id; required for {@link TranslationIdStrategy#COMPOSITE}
+     * @param localizedFields List of localized field info
+     * @throws IOException If file cannot be written
+     */
+    public void generateTranslationEntity(String packageName, String entityName, 
+                                           TranslationTableInfo tableInfo, TypeName parentIdType,
+                                           List<InterfaceGenerator.LocalizedFieldInfo> localizedFields) 
+                                           throws IOException {
         
         String translationClassName = entityName + "Translation";
-        String translationTableName = tableName + "_translations";
+        String translationTableName = tableInfo.name();
+        String parentColumnName = toSnakeCase(entityName) + "_id";
+
+        AnnotationSpec.Builder tableBuilder = AnnotationSpec.builder(TABLE_ANNOTATION)
+                .addMember("name", "$S", translationTableName);
+        boolean composite = tableInfo.idStrategy() == TranslationIdStrategy.COMPOSITE;
+        if (tableInfo.uniqueLocale() && !composite) {
+            tableBuilder.addMember("uniqueConstraints", "$L", AnnotationSpec.builder(UNIQUE_CONSTRAINT_ANNOTATION)
+                    .addMember("name", "$S", "uk_" + translationTableName + "_parent_locale")
+                    .addMember("columnNames", "{$S, $S}", parentColumnName, "locale")
+                    .build());
+        }
+        for (InterfaceGenerator.LocalizedFieldInfo field : localizedFields) {
+            if (field.indexed()) {
+                tableBuilder.addMember("indexes", "$L", createIndex(translationTableName, toSnakeCase(field.name())));
+            }
+            if (field.searchable()) {
+                tableBuilder.addMember("indexes", "$L",
+                        createIndex(translationTableName, toSnakeCase(field.name() + SEARCH_FIELD_SUFFIX)));
+            }
+            if (field.sortable()) {
+                tableBuilder.addMember("indexes", "$L",
+                        createIndex(translationTableName, toSnakeCase(field.name() + SORT_FIELD_SUFFIX)));
+            }
+        }
 
         TypeSpec.Builder classBuilder = TypeSpec.classBuilder(translationClassName)
                 .addModifiers(Modifier.PUBLIC)
-                .superclass(BASE_TRANSLATION)
+                .superclass(superclassFor(tableInfo.idStrategy()))
                 .addAnnotation(ENTITY_ANNOTATION)
-                .addAnnotation(AnnotationSpec.builder(TABLE_ANNOTATION)
-                        .addMember("name", "$S", translationTableName)
-                        .build())
+                .addAnnotation(tableBuilder.build())
                 .addJavadoc("Generated translation entity for {@code $L}.\n", entityName)
                 .addJavadoc("\n<p>This entity stores localized field values for each locale.\n")
                 .addJavadoc("Table: {@code $L}\n", translationTableName)
                 .addAnnotation(AnnotationSpec.builder(BATCH_SIZE_ANNOTATION)
                         .addMember("size", "$L", 25)
+                        .build())
+                .addAnnotation(createLocaleFilterDef(translationClassName, tableInfo.localeStorage()))
+                .addAnnotation(AnnotationSpec.builder(ENTITY_LISTENERS_ANNOTATION)
+                        .addMember("value", "$T.class", TRANSLATION_CACHE_LISTENER)
                         .build());
 
+        if (tableInfo.cached()) {
+            classBuilder.addAnnotation(CACHEABLE_ANNOTATION)
+                    .addAnnotation(createCacheAnnotation(tableInfo.cache(), tableInfo.cacheRegion()));
+        }
+
+        boolean pooled = tableInfo.idStrategy() == TranslationIdStrategy.SEQUENCE
+                || tableInfo.idStrategy() == TranslationIdStrategy.TABLE;
+        if (tableInfo.localeStorage() == LocaleStorage.DICTIONARY && !pooled) {
+            // Inherited locale attribute: override its mapping on the entity
+            classBuilder.addAnnotation(AnnotationSpec.builder(CONVERT_ANNOTATION)
+                    .addMember("attributeName", "$S", "locale")
+                    .addMember("converter", "$T.class", LOCALE_ID_CONVERTER)
+                    .build());
+        }
+
+        // BaseTranslation and NaturalKeyTranslation map the id; pooled strategies declare their own
+        if (pooled) {
+            addPooledId(classBuilder, tableInfo);
+        }
+        if (composite) {
+            ClassName keyClass = ClassName.get(packageName, translationClassName, "Key");
+            classBuilder.addAnnotation(AnnotationSpec.builder(ID_CLASS_ANNOTATION)
+                    .addMember("value", "$T.class", keyClass)
+                    .build());
+            classBuilder.addType(createCompositeKey(parentIdType));
+        }
+
         // Add parent entity reference field with @JsonIgnore to prevent circular serialization
         ClassName parentEntityClass = ClassName.get(packageName, entityName);
         ClassName jsonIgnoreAnnotation = ClassName.get("com.fasterxml.jackson.annotation", "JsonIgnore");
         
-        classBuilder.addField(FieldSpec.builder(parentEntityClass, "parent", Modifier.PRIVATE)
-                .addAnnotation(jsonIgnoreAnnotation)  // Prevent circular JSON serialization
+        FieldSpec.Builder parentField = FieldSpec.builder(parentEntityClass, "parent", Modifier.PRIVATE)
+                .addAnnotation(jsonIgnoreAnnotation);  // Prevent circular JSON serialization
+        if (composite) {
+            parentField.addAnnotation(ID_ANNOTATION);
+        }
+        classBuilder.addField(parentField
                 .addAnnotation(AnnotationSpec.builder(
                         ClassName.get("jakarta.persistence", "ManyToOne"))
                         .addMember("fetch", "$T.LAZY", 
@@ -88,7 +254,7 @@ public class TranslationEntityGenerator {
                         .build())
                 .addAnnotation(AnnotationSpec.builder(
                         ClassName.get("jakarta.persistence", "JoinColumn"))
-                        .addMember("name", "$S", toSnakeCase(entityName) + "_id")
+                        .addMember("name", "$S", parentColumnName)
                         .addMember("nullable", "$L", false)
                         .build())
                 .build());
@@ -110,6 +276,12 @@ public class TranslationEntityGenerator {
         for (InterfaceGenerator.LocalizedFieldInfo field : localizedFields) {
             addLocalizedField(classBuilder, field);
         }
+        classBuilder.addMethod(createLocalizedValues(localizedFields));
+
+        // Keep search and sort-key columns in sync even when fields are set before the locale
+        if (localizedFields.stream().anyMatch(field -> field.searchable() || field.sortable())) {
+            classBuilder.addMethod(createDerivedColumnsCallback(localizedFields));
+        }
 
         TypeSpec translationClass = classBuilder.build();
         
@@ -121,6 +293,189 @@ public class TranslationEntityGenerator {
         javaFile.writeTo(filer);
     }
 
+    /**
+     * Creates {@code localizedValues()}, which exposes the field values to the runtime translation cache.
+     */
+    private MethodSpec createLocalizedValues(List<InterfaceGenerator.LocalizedFieldInfo> localizedFields) {
+        TypeName valuesType = ParameterizedTypeName.get(Map.class, String.class, String.class);
+        MethodSpec.Builder method = MethodSpec.methodBuilder("localizedValues")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(valuesType)
+                .addStatement("$T values = new $T<>($L)", valuesType, HashMap.class, localizedFields.size() * 2);
+        for (InterfaceGenerator.LocalizedFieldInfo field : localizedFields) {
+            if (field.typeName().equals(ClassName.get(String.class))) {
+                method.addStatement("values.put($S, this.$L)", field.name(), field.name());
+            } else {
+                method.addStatement("values.put($S, $T.toString(this.$L, null))", field.name(), Objects.class, field.name());
+            }
+        }
+        return method.addStatement("return values").build();
+    }
+
+    /**
+     * Adds {@code @Id @GeneratedValue} with a pooled sequence or table generator named {@code {table}_seq}.
+     * Unlike IDENTITY, pooled ids are known before the INSERT, so Hibernate can batch translation inserts.
+     */
+    private void addPooledId(TypeSpec.Builder classBuilder, TranslationTableInfo tableInfo) {
+        String generatorName = tableInfo.name() + "_seq";
+        FieldSpec.Builder idField = FieldSpec.builder(Long.class, "id", Modifier.PRIVATE)
+                .addAnnotation(ID_ANNOTATION);
+
+        if (tableInfo.idStrategy() == TranslationIdStrategy.SEQUENCE) {
+            idField.addAnnotation(AnnotationSpec.builder(GENERATED_VALUE_ANNOTATION)
+                            .addMember("strategy", "$T.SEQUENCE", GENERATION_TYPE)
+                            .addMember("generator", "$S", generatorName)
+                            .build())
+                    .addAnnotation(AnnotationSpec.builder(SEQUENCE_GENERATOR_ANNOTATION)
+                            .addMember("name", "$S", generatorName)
+                            .addMember("sequenceName", "$S", generatorName)
+                            .addMember("allocationSize", "$L", tableInfo.allocationSize())
+                            .build());
+        } else {
+            idField.addAnnotation(AnnotationSpec.builder(GENERATED_VALUE_ANNOTATION)
+                            .addMember("strategy", "$T.TABLE", GENERATION_TYPE)
+                            .addMember("generator", "$S", generatorName)
+                            .build())
+                    .addAnnotation(AnnotationSpec.builder(TABLE_GENERATOR_ANNOTATION)
+                            .addMember("name", "$S", generatorName)
+                            .addMember("pkColumnValue", "$S", tableInfo.name())
+                            .addMember("allocationSize", "$L", tableInfo.allocationSize())
+                            .build());
+        }
+        classBuilder.addField(idField.build());
+
+        // AbstractTranslation leaves the locale column to subclasses
+        FieldSpec.Builder localeField = FieldSpec.builder(String.class, "locale", Modifier.PRIVATE)
+                .addAnnotation(AnnotationSpec.builder(COLUMN_ANNOTATION)
+                        .addMember("name", "$S", "locale")
+                        .addMember("nullable", "$L", false)
+                        .addMember("length", "$L", 10)
+                        .build());
+        if (tableInfo.localeStorage() == LocaleStorage.DICTIONARY) {
+            localeField.addAnnotation(AnnotationSpec.builder(CONVERT_ANNOTATION)
+                    .addMember("converter", "$T.class", LOCALE_ID_CONVERTER)
+                    .build());
+        }
+        classBuilder.addField(localeField.build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("getId")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Long.class)
+                .addStatement("return id")
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("setId")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Long.class, "id")
+                .addStatement("this.id = id")
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("getLocale")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String.class)
+                .addStatement("return locale")
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("setLocale")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(String.class, "locale")
+                .addStatement("this.locale = locale")
+                .build());
+    }
+
+    private ClassName superclassFor(TranslationIdStrategy idStrategy) {
+        return switch (idStrategy) {
+            case IDENTITY -> BASE_TRANSLATION;
+            case COMPOSITE -> NATURAL_KEY_TRANSLATION;
+            case SEQUENCE, TABLE -> ABSTRACT_TRANSLATION;
+        };
+    }
+
+    /**
+     * Creates the {@code @IdClass} of a composite-key translation: {@code parent} holds the
+     * parent's id (JPA derived identity), {@code locale} the language key.
+     */
+    private TypeSpec createCompositeKey(TypeName parentIdType) {
+        TypeName idType = parentIdType.box();
+        return TypeSpec.classBuilder("Key")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addSuperinterface(Serializable.class)
+                .addJavadoc("Primary key of the translation: parent id and locale.\n")
+                .addField(idType, "parent", Modifier.PRIVATE)
+                .addField(String.class, "locale", Modifier.PRIVATE)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PUBLIC)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(idType, "parent")
+                        .addParameter(String.class, "locale")
+                        .addStatement("this.parent = parent")
+                        .addStatement("this.locale = locale")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getParent")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(idType)
+                        .addStatement("return parent")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getLocale")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addStatement("return locale")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("equals")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addParameter(Object.class, "o")
+                        .addStatement("if (this == o) return true")
+                        .addStatement("if (!(o instanceof Key that)) return false")
+                        .addStatement("return $T.equals(parent, that.parent) && $T.equals(locale, that.locale)",
+                                Objects.class, Objects.class)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("hashCode")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return $T.hash(parent, locale)", Objects.class)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Returns the name of the Hibernate filter that restricts the parent's translations
+     * collection to the active locales. Filter names are global, so each entity gets its own.
+     *
+     * @param translationClassName Simple or qualified name of the translation class
+     * @return The filter name, e.g. {@code localizedJpaLocales_ProductTranslation}
+     */
+    static String localeFilterName(String translationClassName) {
+        return LOCALE_FILTER_PREFIX + translationClassName.substring(translationClassName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Creates {@code @FilterDef(name = "...", defaultCondition = "locale in (:locales)", ...)}.
+     * The filter is inert until enabled on a session by the runtime. Filter conditions are SQL,
+     * so dictionary-encoded tables resolve the language keys through the registry table.
+     */
+    private AnnotationSpec createLocaleFilterDef(String translationClassName, LocaleStorage localeStorage) {
+        String condition = localeStorage == LocaleStorage.DICTIONARY
+                ? "locale in (select r.id from " + LOCALE_REGISTRY_TABLE + " r where r.code in (:"
+                        + LOCALE_FILTER_PARAMETER + "))"
+                : "locale in (:" + LOCALE_FILTER_PARAMETER + ")";
+        return AnnotationSpec.builder(FILTER_DEF_ANNOTATION)
+                .addMember("name", "$S", localeFilterName(translationClassName))
+                .addMember("defaultCondition", "$S", condition)
+                .addMember("parameters", "$L", AnnotationSpec.builder(PARAM_DEF_ANNOTATION)
+                        .addMember("name", "$S", LOCALE_FILTER_PARAMETER)
+                        .addMember("type", "$T.class", String.class)
+                        .build())
+                .build();
+    }
+
     private void addLocalizedField(TypeSpec.Builder classBuilder, 
                                    InterfaceGenerator.LocalizedFieldInfo field) {
         String fieldName = field.name();
@@ -162,18 +517,163 @@ public class TranslationEntityGenerator {
                 .build());
 
         // Setter
-        classBuilder.addMethod(MethodSpec.methodBuilder("set" + capitalizedName)
+        MethodSpec.Builder setter = MethodSpec.methodBuilder("set" + capitalizedName)
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(fieldType, fieldName)
-                .addStatement("this.$N = $N", fieldName, fieldName)
+                .addStatement("this.$N = $N", fieldName, fieldName);
+
+        if (field.searchable()) {
+            setter.addStatement(searchAssignment(field));
+            addSearchField(classBuilder, field);
+        }
+        if (field.sortable()) {
+            setter.addStatement(sortKeyAssignment(field));
+            addSortKeyField(classBuilder, field);
+        }
+
+        classBuilder.addMethod(setter.build());
+    }
+
+    /**
+     * Adds the normalized search column and its read-only getter for a searchable field.
+     */
+    private void addSearchField(TypeSpec.Builder classBuilder, InterfaceGenerator.LocalizedFieldInfo field) {
+        String searchFieldName = field.name() + SEARCH_FIELD_SUFFIX;
+
+        classBuilder.addField(FieldSpec.builder(String.class, searchFieldName, Modifier.PRIVATE)
+                .addAnnotation(AnnotationSpec.builder(COLUMN_ANNOTATION)
+                        .addMember("name", "$S", toSnakeCase(searchFieldName))
+                        .addMember("length", "$L", searchLength(field))
+                        .build())
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("get" + capitalize(searchFieldName))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String.class)
+                .addStatement("return $N", searchFieldName)
+                .build());
+    }
+
+    /**
+     * Adds the collation-key column and its read-only getter for a sortable field.
+     */
+    private void addSortKeyField(TypeSpec.Builder classBuilder, InterfaceGenerator.LocalizedFieldInfo field) {
+        String sortFieldName = field.name() + SORT_FIELD_SUFFIX;
+
+        classBuilder.addField(FieldSpec.builder(byte[].class, sortFieldName, Modifier.PRIVATE)
+                .addAnnotation(AnnotationSpec.builder(COLUMN_ANNOTATION)
+                        .addMember("name", "$S", toSnakeCase(sortFieldName))
+                        .addMember("length", "$L", SORT_KEY_LENGTH)
+                        .build())
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("get" + capitalize(sortFieldName))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(byte[].class)
+                .addStatement("return $N", sortFieldName)
                 .build());
     }
 
+    /**
+     * Creates the {@code @PrePersist}/{@code @PreUpdate} callback recomputing all search and sort-key columns.
+     */
+    private MethodSpec createDerivedColumnsCallback(List<InterfaceGenerator.LocalizedFieldInfo> localizedFields) {
+        MethodSpec.Builder callback = MethodSpec.methodBuilder("updateDerivedColumns")
+                .addModifiers(Modifier.PROTECTED)
+                .addAnnotation(PRE_PERSIST_ANNOTATION)
+                .addAnnotation(PRE_UPDATE_ANNOTATION);
+
+        for (InterfaceGenerator.LocalizedFieldInfo field : localizedFields) {
+            if (field.searchable()) {
+                callback.addStatement(searchAssignment(field));
+            }
+            if (field.sortable()) {
+                callback.addStatement(sortKeyAssignment(field));
+            }
+        }
+        return callback.build();
+    }
+
+    private CodeBlock searchAssignment(InterfaceGenerator.LocalizedFieldInfo field) {
+        return CodeBlock.of("this.$N = $T.normalize($N, getLocale(), $L)",
+                field.name() + SEARCH_FIELD_SUFFIX, SEARCH_NORMALIZER, field.name(), searchLength(field));
+    }
+
+    private CodeBlock sortKeyAssignment(InterfaceGenerator.LocalizedFieldInfo field) {
+        return CodeBlock.of("this.$N = $T.of($N, getLocale(), $L)",
+                field.name() + SORT_FIELD_SUFFIX, COLLATION_KEYS, field.name(), SORT_KEY_LENGTH);
+    }
+
+    /**
+     * Creates {@code @Index(name = "ix_{table}_{column}", columnList = "locale, {column}")}.
+     * The locale leads because every lookup filters by it.
+     */
+    private AnnotationSpec createIndex(String translationTableName, String column) {
+        return AnnotationSpec.builder(INDEX_ANNOTATION)
+                .addMember("name", "$S", "ix_" + translationTableName + "_" + column)
+                .addMember("columnList", "$S", "locale, " + column)
+                .build();
+    }
+
+    private int searchLength(InterfaceGenerator.LocalizedFieldInfo field) {
+        Integer length = field.columnInfo().length();
+        return length != null ? length : DEFAULT_SEARCH_LENGTH;
+    }
+
     private String capitalize(String str) {
         return StringUtils.capitalize(str);
     }
 
+    /**
+     * Creates {@code @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "...")};
+     * the region is omitted when empty so Hibernate names it after the entity.
+     */
+    private AnnotationSpec createCacheAnnotation(TranslationCacheStrategy strategy, String region) {
+        AnnotationSpec.Builder cacheBuilder = AnnotationSpec.builder(CACHE_ANNOTATION)
+                .addMember("usage", "$T.$L", CACHE_CONCURRENCY_STRATEGY, strategy.name());
+        if (!region.isEmpty()) {
+            cacheBuilder.addMember("region", "$S", region);
+        }
+        return cacheBuilder.build();
+    }
+
     private String toSnakeCase(String str) {
         return StringUtils.toSnakeCase(str);
     }
+
+    /**
+     * Translation table options, read from {@code @TranslationTable}.
+     *
+     * @param name Name of the translation table
+     * @param uniqueLocale Whether to generate the unique constraint on (parent, locale)
+     * @param idStrategy Id generation strategy of the translation entity
+     * @param allocationSize Allocation size of pooled id generators
+     * @param localeStorage Storage of the locale column
+     * @param cache Resolved second-level cache strategy, {@link TranslationCacheStrategy#NONE} if not cached
+     * @param cacheRegion Cache region of the translation entity, empty for Hibernate's default
+     */
+    public record TranslationTableInfo(String name, boolean uniqueLocale,
+                                       TranslationIdStrategy idStrategy, int allocationSize,
+                                       LocaleStorage localeStorage,
+                                       TranslationCacheStrategy cache, String cacheRegion) {
+        public static TranslationTableInfo defaults(String entityTableName) {
+            return new TranslationTableInfo(entityTableName + "_translations", true,
+                    TranslationIdStrategy.IDENTITY, 50, LocaleStorage.STRING,
+                    TranslationCacheStrategy.NONE, "");
+        }
+
+        /**
+         * Whether the translation entity and collection are second-level cached.
+         */
+        public boolean cached() {
+            return cache != TranslationCacheStrategy.NONE && cache != TranslationCacheStrategy.DEFAULT;
+        }
+
+        /**
+         * Cache region of the parent's {@code translations} collection, empty for Hibernate's default.
+         */
+        public String collectionCacheRegion() {
+            return cacheRegion.isEmpty() ? "" : cacheRegion + COLLECTION_REGION_SUFFIX;
+        }
+    }
 }
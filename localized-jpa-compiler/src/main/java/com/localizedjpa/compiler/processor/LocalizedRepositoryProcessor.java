@@ -2,6 +2,7 @@ package com.localizedjpa.compiler.processor;
 
 import com.google.auto.service.AutoService;
 import com.localizedjpa.annotations.Localized;
+import com.localizedjpa.compiler.TranslationEntityGenerator;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
@@ -11,8 +12,11 @@ import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +29,76 @@ import java.util.stream.Collectors;
 @AutoService(Processor.class)
 public class LocalizedRepositoryProcessor extends AbstractProcessor {
 
+    private static final String UPSERT_OPERATIONS_TYPE = "com.localizedjpa.runtime.TranslationUpsertOperations";
+    private static final String LOCALE_TYPE = "java.util.Locale";
+    private static final String PAGEABLE_TYPE = "org.springframework.data.domain.Pageable";
+    private static final String SCROLL_POSITION_TYPE = "org.springframework.data.domain.ScrollPosition";
+    private static final String KEYSET_POSITION_TYPE = "org.springframework.data.domain.KeysetScrollPosition";
+    private static final String LIMIT_TYPE = "org.springframework.data.domain.Limit";
+
+    /**
+     * Placeholder for the presented localized value in keyset JPQL templates.
+     */
+    private static final String SORT_VALUE = "{sortValue}";
+
+    /**
+     * Placeholder for a projected fallback field in projection JPQL templates, e.g. {@code {coalesce:name}}.
+     */
+    private static final Pattern COALESCED_VALUE = Pattern.compile("\\{coalesce:(\\w+)}");
+
+    /**
+     * Types a generated implementation may refer to by simple name; only the used ones are imported.
+     */
+    private static final List<String> IMPLEMENTATION_IMPORTS = List.of(
+        "org.springframework.stereotype.Component",
+        "org.springframework.beans.factory.annotation.Autowired",
+        "jakarta.persistence.EntityManager",
+        "jakarta.persistence.TypedQuery",
+        "org.springframework.context.i18n.LocaleContextHolder",
+        "com.localizedjpa.runtime.LocaleFallback",
+        "com.localizedjpa.runtime.LocalizedSort",
+        "com.localizedjpa.runtime.LocalizedStreams",
+        "com.localizedjpa.runtime.SearchNormalizer",
+        "com.localizedjpa.runtime.bulk.TranslationUpserts",
+        "com.localizedjpa.runtime.cache.FinderResultCache",
+        "org.springframework.data.domain.KeysetScrollPosition",
+        "org.springframework.data.domain.ScrollPosition",
+        "org.springframework.data.domain.SliceImpl",
+        "org.springframework.data.domain.Window",
+        "org.springframework.data.support.PageableExecutionUtils",
+        "org.springframework.transaction.annotation.Transactional",
+        "java.util.ArrayList",
+        "java.util.Collections",
+        "java.util.List",
+        "java.util.Locale",
+        "java.util.Map",
+        "java.util.Set");
+
+    /**
+     * Matches an unqualified use of any {@link #IMPLEMENTATION_IMPORTS} simple name.
+     */
+    private static final Pattern IMPLEMENTATION_IMPORT_USE = Pattern.compile("(?<![\\w.])("
+        + IMPLEMENTATION_IMPORTS.stream()
+            .map(qualifiedName -> qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+            .collect(Collectors.joining("|"))
+        + ")\\b");
+
+    /**
+     * Result shape of a generated finder, derived from its return type.
+     */
+    private enum ResultKind {
+        /** {@code List<T>} - all matches. */
+        LIST,
+        /** {@code Page<T>} - one page plus a count query for the total. */
+        PAGE,
+        /** {@code Slice<T>} - one page; fetches one extra row instead of counting. */
+        SLICE,
+        /** {@code Window<T>} - keyset page after a {@code (value, id)} cursor. */
+        WINDOW,
+        /** {@code Stream<T>} - all matches, read through a forward-only cursor. */
+        STREAM
+    }
+
     private Filer filer;
     private Messager messager;
     // Thread-safe set for multi-threaded annotation processing
@@ -106,7 +180,8 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
             if (member.getKind() == ElementKind.METHOD) {
                 ExecutableElement method = (ExecutableElement) member;
                 
-                if (shouldImplementMethod(method, repositoryInterface)) {
+                if (shouldImplementMethod(method, repositoryInterface) && hasRequiredParameters(method)
+                    && (!isProjection(method) || isValidProjection(method, getEntityType(repositoryInterface)))) {
                     methodsToImplement.add(method);
                     messager.printMessage(Diagnostic.Kind.NOTE,
                         "  - Will implement: " + method.getSimpleName());
@@ -114,9 +189,21 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
             }
         }
 
-        if (!methodsToImplement.isEmpty()) {
+        // TranslationUpsertOperations needs an implementation even without finders; failing here
+        // beats Spring Data trying to derive a query from upsertTranslation at startup
+        TypeMirror upsertIdType = isDeclaredRepository(repositoryInterface)
+            ? getUpsertIdType(repositoryInterface.asType()) : null;
+        if (upsertIdType != null && !hasLocalizedFields(getEntityType(repositoryInterface))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                repositoryName + " extends TranslationUpsertOperations but its entity declares no @Localized"
+                    + " fields; upsertTranslation cannot be implemented", repositoryInterface);
+            upsertIdType = null;
+        }
+
+        if (!methodsToImplement.isEmpty() || upsertIdType != null) {
             try {
-                generateImplementation(packageName, repositoryName, methodsToImplement);
+                generateImplementation(packageName, repositoryName, getEntityType(repositoryInterface),
+                    methodsToImplement, upsertIdType);
             } catch (IOException e) {
                 messager.printMessage(Diagnostic.Kind.ERROR,
                     "Failed to generate implementation for " + repositoryName + ": " + e.getMessage());
@@ -151,9 +238,14 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
     }
     
     private String removeQueryKeywords(String fieldPart) {
-        // Remove "Containing" keyword first
+        // Remove match keywords (IgnoreCase, Containing, StartingWith) first
+        if (fieldPart.endsWith("IgnoreCase")) {
+            fieldPart = fieldPart.substring(0, fieldPart.length() - 10);
+        }
         if (fieldPart.endsWith("Containing")) {
             fieldPart = fieldPart.substring(0, fieldPart.length() - 10);
+        } else if (fieldPart.endsWith("StartingWith")) {
+            fieldPart = fieldPart.substring(0, fieldPart.length() - 12);
         }
         
         // Handle multiple fields (And/Or)
@@ -173,10 +265,95 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
         return methodName.contains("Containing");
     }
     
-    private boolean isPageableQuery(ExecutableElement method) {
+    private boolean isStartingWithQuery(String methodName) {
+        return methodName.contains("StartingWith");
+    }
+    
+    private boolean isIgnoreCaseQuery(String methodName) {
+        return methodName.endsWith("IgnoreCase");
+    }
+    
+    private VariableElement findParameter(ExecutableElement method, String typeName) {
+        for (VariableElement param : method.getParameters()) {
+            if (param.asType().toString().equals(typeName)) {
+                return param;
+            }
+        }
+        return null;
+    }
+
+    private VariableElement getPageableParameter(ExecutableElement method) {
+        return findParameter(method, PAGEABLE_TYPE);
+    }
+
+    private VariableElement getScrollPositionParameter(ExecutableElement method) {
+        VariableElement position = findParameter(method, SCROLL_POSITION_TYPE);
+        return position != null ? position : findParameter(method, KEYSET_POSITION_TYPE);
+    }
+
+    /**
+     * Parameters after the value that are passed through to the locale version:
+     * everything except the value and the locale, e.g. a {@code Pageable}.
+     */
+    private List<VariableElement> getPagingParameters(ExecutableElement method) {
+        List<VariableElement> pagingParams = new ArrayList<>();
         List<? extends VariableElement> params = method.getParameters();
-        return !params.isEmpty() && 
-               params.get(params.size() - 1).asType().toString().contains("Pageable");
+        for (int i = 1; i < params.size(); i++) {
+            if (!params.get(i).asType().toString().equals(LOCALE_TYPE)) {
+                pagingParams.add(params.get(i));
+            }
+        }
+        return pagingParams;
+    }
+
+    private boolean hasRequiredParameters(ExecutableElement method) {
+        if (getResultKind(method) == ResultKind.WINDOW
+            && (getScrollPositionParameter(method) == null || findParameter(method, LIMIT_TYPE) == null)) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Window finders need a ScrollPosition and a Limit parameter", method);
+            return false;
+        }
+        return true;
+    }
+
+    private ResultKind getResultKind(ExecutableElement method) {
+        String erasure = processingEnv.getTypeUtils().erasure(method.getReturnType()).toString();
+        return switch (erasure) {
+            case "org.springframework.data.domain.Page" -> ResultKind.PAGE;
+            case "org.springframework.data.domain.Slice" -> ResultKind.SLICE;
+            case "org.springframework.data.domain.Window" -> ResultKind.WINDOW;
+            case "java.util.stream.Stream" -> ResultKind.STREAM;
+            default -> ResultKind.LIST;
+        };
+    }
+
+    /**
+     * @return The element type of the finder's result, e.g. {@code ProductNameView} for {@code List<ProductNameView>}
+     */
+    private TypeElement getResultElement(ExecutableElement method) {
+        if (method.getReturnType() instanceof DeclaredType returnType && !returnType.getTypeArguments().isEmpty()
+            && returnType.getTypeArguments().get(0) instanceof DeclaredType elementType) {
+            return (TypeElement) elementType.asElement();
+        }
+        return null;
+    }
+
+    /**
+     * A finder returning anything but an entity - a DTO class, a record or an interface - is a projection.
+     */
+    private boolean isProjection(ExecutableElement method) {
+        TypeElement result = getResultElement(method);
+        if (result == null) {
+            return false;
+        }
+        for (AnnotationMirror annotation : result.getAnnotationMirrors()) {
+            String annotationName = annotation.getAnnotationType().toString();
+            if (annotationName.equals("jakarta.persistence.Entity") ||
+                annotationName.equals("javax.persistence.Entity")) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private TypeElement getEntityType(TypeElement repositoryInterface) {
@@ -202,21 +379,106 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
         return null;
     }
 
+    /**
+     * @return The {@code ID} type argument of {@code TranslationUpsertOperations} if the type extends
+     *         it, directly or through intermediate interfaces
+     */
+    private TypeMirror getUpsertIdType(TypeMirror type) {
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declaredType
+                && ((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(UPSERT_OPERATIONS_TYPE)
+                && declaredType.getTypeArguments().size() == 1) {
+                return declaredType.getTypeArguments().get(0);
+            }
+            TypeMirror idType = getUpsertIdType(supertype);
+            if (idType != null) {
+                return idType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Whether Spring Data creates a repository for the interface: it is neither generic nor
+     *         a {@code @NoRepositoryBean} base interface
+     */
+    private boolean isDeclaredRepository(TypeElement repositoryInterface) {
+        return repositoryInterface.getTypeParameters().isEmpty() && repositoryInterface.getAnnotationMirrors().stream()
+            .noneMatch(annotation -> annotation.getAnnotationType().toString()
+                .equals("org.springframework.data.repository.NoRepositoryBean"));
+    }
+
+    private boolean hasLocalizedFields(TypeElement entityType) {
+        return entityType != null && entityType.getEnclosedElements().stream()
+            .anyMatch(member -> member.getKind() == ElementKind.FIELD && member.getAnnotation(Localized.class) != null);
+    }
+
     private boolean isLocalizedField(TypeElement entityType, String fieldName) {
+        return getLocalizedAnnotation(entityType, fieldName) != null;
+    }
+
+    private boolean isFallbackField(TypeElement entityType, String fieldName) {
+        Localized localized = getLocalizedAnnotation(entityType, fieldName);
+        return localized != null && localized.fallback();
+    }
+
+    private boolean isSearchableField(TypeElement entityType, String fieldName) {
+        Localized localized = getLocalizedAnnotation(entityType, fieldName);
+        return localized != null && localized.searchable() && isStringField(entityType, fieldName);
+    }
+
+    private boolean isSortableField(TypeElement entityType, String fieldName) {
+        Localized localized = getLocalizedAnnotation(entityType, fieldName);
+        return localized != null && localized.sortable() && isStringField(entityType, fieldName);
+    }
+
+    private boolean isStringField(TypeElement entityType, String fieldName) {
+        for (Element member : entityType.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && member.getSimpleName().toString().equals(fieldName)) {
+                return member.asType().toString().equals("java.lang.String");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The length of the field's search column: its {@code @Column(length)}, like the
+     *         generated translation entity uses, or {@link TranslationEntityGenerator#DEFAULT_SEARCH_LENGTH}
+     */
+    private int getSearchLength(TypeElement entityType, String fieldName) {
+        for (Element member : entityType.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && member.getSimpleName().toString().equals(fieldName)) {
+                for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+                    String annotationName = mirror.getAnnotationType().toString();
+                    if (annotationName.equals("jakarta.persistence.Column")
+                            || annotationName.equals("javax.persistence.Column")) {
+                        for (var entry : mirror.getElementValues().entrySet()) {
+                            if (entry.getKey().getSimpleName().contentEquals("length")) {
+                                return (Integer) entry.getValue().getValue();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return TranslationEntityGenerator.DEFAULT_SEARCH_LENGTH;
+    }
+
+    private Localized getLocalizedAnnotation(TypeElement entityType, String fieldName) {
         for (Element member : entityType.getEnclosedElements()) {
             if (member.getKind() == ElementKind.FIELD) {
                 VariableElement field = (VariableElement) member;
                 if (field.getSimpleName().toString().equals(fieldName)) {
-                    return field.getAnnotation(Localized.class) != null;
+                    return field.getAnnotation(Localized.class);
                 }
             }
         }
         
-        return false;
+        return null;
     }
 
-    private void generateImplementation(String packageName, String repositoryName,
-                                       List<ExecutableElement> methods) throws IOException {
+    private void generateImplementation(String packageName, String repositoryName, TypeElement entityType,
+                                       List<ExecutableElement> methods, TypeMirror upsertIdType) throws IOException {
         
         String implClassName = repositoryName + "Impl";
         
@@ -229,26 +491,42 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
         javax.tools.JavaFileObject sourceFile = filer.createSourceFile(
             packageName + "." + implClassName);
         
-        try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
-            writer.println("package " + packageName + ";");
-            writer.println();
-            writer.println("import org.springframework.stereotype.Component;");
-            writer.println("import org.springframework.beans.factory.annotation.Autowired;");
-            writer.println("import jakarta.persistence.EntityManager;");
-            writer.println("import jakarta.persistence.criteria.*;");
-            writer.println("import org.springframework.context.i18n.LocaleContextHolder;");
-            writer.println("import java.util.List;");
-            writer.println("import java.util.Locale;");
-            writer.println();
+        StringWriter body = new StringWriter();
+        try (PrintWriter writer = new PrintWriter(body)) {
             writer.println("/**");
             writer.println(" * Generated implementation for " + repositoryName + ".");
             writer.println(" * DO NOT EDIT - This file is auto-generated by LocalizedRepositoryProcessor.");
             writer.println(" * ");
-            writer.println(" * <p>Implements query methods for @Localized fields using JPA Criteria API.");
+            writer.println(" * <p>Implements query methods for @Localized fields with constant JPQL strings,");
+            writer.println(" * so Hibernate's query plan cache resolves each finder after its first call.");
+            writer.println(" * upsertTranslation writes the translation table with a single statement.");
             writer.println(" */");
             writer.println("@Component");
             writer.println("public class " + implClassName + " {");
             writer.println();
+            String entityName = getEntityName(entityType);
+            for (Map.Entry<String, List<ExecutableElement>> entry : methodGroups.entrySet()) {
+                String methodName = entry.getKey();
+                String fieldName = extractFieldName(methodName);
+                boolean counted = entry.getValue().stream().anyMatch(m -> getResultKind(m) == ResultKind.PAGE);
+                boolean keyset = entry.getValue().stream().anyMatch(m -> getResultKind(m) == ResultKind.WINDOW);
+                boolean entityResults = entry.getValue().stream().anyMatch(m -> !isProjection(m));
+                List<TypeElement> projections = entry.getValue().stream()
+                    .filter(this::isProjection)
+                    .map(this::getResultElement)
+                    .distinct()
+                    .toList();
+                writeQueryConstants(writer, entityType, entityName, packageName + "." + implClassName,
+                    methodName, fieldName,
+                    isFallbackField(entityType, fieldName), isSearchableField(entityType, fieldName),
+                    isSortableField(entityType, fieldName), entityResults, projections, counted, keyset);
+            }
+            boolean sorted = methods.stream()
+                .anyMatch(m -> getResultKind(m) == ResultKind.PAGE || getResultKind(m) == ResultKind.SLICE);
+            if (sorted) {
+                writeSortConstants(writer, entityType);
+            }
+            writer.println();
             writer.println("    @Autowired");
             writer.println("    private EntityManager entityManager;");
             writer.println();
@@ -258,45 +536,98 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
                 String methodName = entry.getKey();
                 List<ExecutableElement> methodOverloads = entry.getValue();
                 
-                ExecutableElement localeVersion = methodOverloads.stream()
-                    .filter(m -> hasLocaleParameter(m))
-                    .findFirst()
-                    .orElse(null);
-                
-                ExecutableElement nonLocaleVersion = methodOverloads.stream()
-                    .filter(m -> !hasLocaleParameter(m))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (localeVersion != null) {
-                    generateFullMethodImpl(writer, localeVersion, methodSignatures);
-                }
+                String fieldName = extractFieldName(methodName);
+                boolean fallback = isFallbackField(entityType, fieldName);
+                boolean searchable = isSearchableField(entityType, fieldName);
+                int searchLength = getSearchLength(entityType, fieldName);
                 
-                if (nonLocaleVersion != null && localeVersion != null) {
-                    generateDelegatingMethod(writer, nonLocaleVersion, methodSignatures);
+                // Declared locale versions first, so implied ones never duplicate them
+                for (ExecutableElement method : methodOverloads) {
+                    if (hasLocaleParameter(method)) {
+                        generateFullMethodImpl(writer, method, fallback, searchable, searchLength, methodSignatures);
+                    }
                 }
                 
-                if (nonLocaleVersion != null && localeVersion == null) {
-                    generateDelegatingMethod(writer, nonLocaleVersion, methodSignatures);
-                    generateImpliedLocaleMethod(writer, nonLocaleVersion, methodSignatures);
+                for (ExecutableElement method : methodOverloads) {
+                    if (!hasLocaleParameter(method)) {
+                        generateDelegatingMethod(writer, method, methodSignatures);
+                        generateImpliedLocaleMethod(writer, method, fallback, searchable, searchLength,
+                            methodSignatures);
+                    }
                 }
             }
+
+            if (upsertIdType != null) {
+                writeUpsertMethods(writer, entityType, upsertIdType);
+            }
+
+            List<TypeElement> interfaceProjections = methods.stream()
+                .filter(this::isProjection)
+                .map(this::getResultElement)
+                .filter(type -> type.getKind() == ElementKind.INTERFACE)
+                .distinct()
+                .toList();
+            for (TypeElement projection : interfaceProjections) {
+                writeProjectionRow(writer, projection);
+            }
             
             writer.println("}");
         }
+
+        try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+            writer.println("package " + packageName + ";");
+            writer.println();
+            writeImports(writer, body.toString());
+            writer.println();
+            writer.print(body);
+        }
         
         messager.printMessage(Diagnostic.Kind.NOTE,
             "Successfully generated: " + implClassName);
     }
 
+    /**
+     * Writes the imports of {@link #IMPLEMENTATION_IMPORTS} whose simple name the class body uses
+     * unqualified, so no generated implementation carries unused imports.
+     */
+    private void writeImports(PrintWriter writer, String body) {
+        Set<String> used = new HashSet<>();
+        Matcher matcher = IMPLEMENTATION_IMPORT_USE.matcher(body);
+        while (matcher.find()) {
+            used.add(matcher.group(1));
+        }
+        for (String qualifiedName : IMPLEMENTATION_IMPORTS) {
+            if (used.contains(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))) {
+                writer.println("import " + qualifiedName + ";");
+            }
+        }
+    }
+
+    /**
+     * Writes {@code TranslationUpsertOperations.upsertTranslation}, delegating to {@code TranslationUpserts}
+     * with the entity's generated translation class.
+     */
+    private void writeUpsertMethods(PrintWriter writer, TypeElement entityType, TypeMirror idType) {
+        String translationClass = processingEnv.getElementUtils().getPackageOf(entityType).getQualifiedName()
+            + "." + entityType.getSimpleName() + "Translation";
+        writer.println("    @Transactional");
+        writer.println("    public void upsertTranslation(" + idType + " id, Locale locale, String field, String value) {");
+        writer.println("        upsertTranslation(id, locale, Collections.singletonMap(field, value));");
+        writer.println("    }");
+        writer.println();
+        writer.println("    @Transactional");
+        writer.println("    public void upsertTranslation(" + idType + " id, Locale locale, Map<String, String> values) {");
+        writer.println("        TranslationUpserts.upsert(entityManager, " + translationClass + ".class, id, locale, values);");
+        writer.println("    }");
+        writer.println();
+    }
+
     private boolean hasLocaleParameter(ExecutableElement method) {
-        List<? extends VariableElement> params = method.getParameters();
-        return params.size() > 1 && 
-               params.get(params.size() - 1).asType().toString().contains("Locale");
+        return method.getParameters().size() > 1 && findParameter(method, LOCALE_TYPE) != null;
     }
 
-    private void generateFullMethodImpl(PrintWriter writer, ExecutableElement method,
-                                       Set<String> methodSignatures) {
+    private void generateFullMethodImpl(PrintWriter writer, ExecutableElement method, boolean fallback,
+                                       boolean searchable, int searchLength, Set<String> methodSignatures) {
         String methodName = method.getSimpleName().toString();
         String fieldName = extractFieldName(methodName);
         List<? extends VariableElement> params = method.getParameters();
@@ -307,46 +638,18 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
         }
         methodSignatures.add(signature);
         
-        writer.print("    public List");
-        
-        String returnType = method.getReturnType().toString();
-        int genericStart = returnType.indexOf('<');
-        if (genericStart > 0) {
-            writer.print(returnType.substring(genericStart));
-        }
-        
-        writer.print(" " + methodName + "(");
+        writer.print("    public " + method.getReturnType() + " " + methodName + "(");
         for (int i = 0; i < params.size(); i++) {
             if (i > 0) writer.print(", ");
             writer.print(params.get(i).asType() + " " + params.get(i).getSimpleName());
         }
         writer.println(") {");
         
-        String localeParam = params.get(params.size() - 1).getSimpleName().toString();
+        String localeParam = findParameter(method, LOCALE_TYPE).getSimpleName().toString();
         String valueParam = params.get(0).getSimpleName().toString();
         
-        String entityClass = returnType.substring(returnType.indexOf('<') + 1, returnType.indexOf('>'));
-        
-        writer.println("        CriteriaBuilder cb = entityManager.getCriteriaBuilder();");
-        writer.println("        CriteriaQuery<" + entityClass + "> query = cb.createQuery(" + entityClass + ".class);");
-        writer.println("        Root<" + entityClass + "> root = query.from(" + entityClass + ".class);");
-        writer.println("        Join translations = root.join(\"translations\", JoinType.INNER);");
-        writer.println();
-        writer.println("        Predicate localePredicate = cb.equal(translations.get(\"locale\"), " + localeParam + ".getLanguage());");
-        
-        // Use LIKE or EQUAL depending on method name
-        boolean isContaining = methodName.contains("Containing");
-        if (isContaining) {
-            writer.println("        Predicate fieldPredicate = cb.like(translations.get(\"" + fieldName + "\"), \"%\" + " + valueParam + " + \"%\");");
-        } else {
-            writer.println("        Predicate fieldPredicate = cb.equal(translations.get(\"" + fieldName + "\"), " + valueParam + ");");
-        }
-        writer.println();
-        writer.println("        query.where(cb.and(localePredicate, fieldPredicate));");
-        writer.println();
-        writer.println("        return entityManager.createQuery(query).getResultList();");
-        writer.println("    }");
-        writer.println();
+        writeQueryBody(writer, method, fieldName, valueParam, localeParam, methodName, fallback, searchable,
+            searchLength);
     }
 
     private void generateDelegatingMethod(PrintWriter writer, ExecutableElement method,
@@ -360,71 +663,627 @@ public class LocalizedRepositoryProcessor extends AbstractProcessor {
         }
         methodSignatures.add(signature);
         
-        writer.print("    public List");
-        
-        String returnType = method.getReturnType().toString();
-        int genericStart = returnType.indexOf('<');
-        if (genericStart > 0) {
-            writer.print(returnType.substring(genericStart));
-        }
-        
-        writer.print(" " + methodName + "(");
+        writer.print("    public " + method.getReturnType() + " " + methodName + "(");
         for (int i = 0; i < params.size(); i++) {
             if (i > 0) writer.print(", ");
             writer.print(params.get(i).asType() + " " + params.get(i).getSimpleName());
         }
         writer.println(") {");
-        writer.println("        return " + methodName + "(" + params.get(0).getSimpleName() + ", LocaleContextHolder.getLocale());");
+        
+        StringBuilder pagingArguments = new StringBuilder();
+        for (VariableElement param : getPagingParameters(method)) {
+            pagingArguments.append(", ").append(param.getSimpleName());
+        }
+        writer.println("        return " + methodName + "(" + params.get(0).getSimpleName()
+            + ", LocaleContextHolder.getLocale()" + pagingArguments + ");");
         writer.println("    }");
         writer.println();
     }
 
-    private void generateImpliedLocaleMethod(PrintWriter writer, ExecutableElement method,
-                                            Set<String> methodSignatures) {
+    private void generateImpliedLocaleMethod(PrintWriter writer, ExecutableElement method, boolean fallback,
+                                            boolean searchable, int searchLength, Set<String> methodSignatures) {
         String methodName = method.getSimpleName().toString();
         String fieldName = extractFieldName(methodName);
         List<? extends VariableElement> params = method.getParameters();
+        List<VariableElement> pagingParams = getPagingParameters(method);
+        
+        StringBuilder pagingTypes = new StringBuilder();
+        StringBuilder pagingDeclarations = new StringBuilder();
+        for (VariableElement param : pagingParams) {
+            pagingTypes.append(",").append(param.asType());
+            pagingDeclarations.append(", ").append(param.asType()).append(" ").append(param.getSimpleName());
+        }
         
-        String localeSignature = methodName + "(" + params.get(0).asType() + ",Locale)";
+        String localeSignature = methodName + "(" + params.get(0).asType() + "," + LOCALE_TYPE + pagingTypes + ")";
         if (methodSignatures.contains(localeSignature)) {
             return;
         }
         methodSignatures.add(localeSignature);
         
-        String returnType = method.getReturnType().toString();
-        int genericStart = returnType.indexOf('<');
-        String entityClass = returnType.substring(returnType.indexOf('<') + 1, returnType.indexOf('>'));
         String valueParam = params.get(0).getSimpleName().toString();
         
-        writer.print("    public List");
-        if (genericStart > 0) {
-            writer.print(returnType.substring(genericStart));
-        }
+        writer.println("    public " + method.getReturnType() + " " + methodName + "("
+            + params.get(0).asType() + " " + valueParam + ", Locale locale" + pagingDeclarations + ") {");
         
-        writer.println(" " + methodName + "(" + params.get(0).asType() + " " + valueParam + ", Locale locale) {");
-        
-        writer.println("        CriteriaBuilder cb = entityManager.getCriteriaBuilder();");
-        writer.println("        CriteriaQuery<" + entityClass + "> query = cb.createQuery(" + entityClass + ".class);");
-        writer.println("        Root<" + entityClass + "> root = query.from(" + entityClass + ".class);");
-        writer.println("        Join translations = root.join(\"translations\", JoinType.INNER);");
+        writeQueryBody(writer, method, fieldName, valueParam, "locale", methodName, fallback, searchable,
+            searchLength);
+    }
+
+    private String getEntityClass(ExecutableElement method) {
+        String returnType = method.getReturnType().toString();
+        return returnType.substring(returnType.indexOf('<') + 1, returnType.lastIndexOf('>'));
+    }
+
+    /**
+     * Writes the JPQL constants of a finder. Each finder runs one of these strings unchanged,
+     * with the locale and the value bound as parameters, so Hibernate parses and translates it
+     * once and serves later calls from its query plan cache.
+     *
+     * <p>For fields with {@code @Localized(fallback = true)} the translations are LEFT joined
+     * twice - once for the requested locale and once for {@link com.localizedjpa.runtime.LocaleFallback}
+     * - and the predicate is applied to {@code COALESCE(requested, fallback)}, so the fallback is
+     * resolved in the same statement. A second constant without the fallback join serves requests
+     * in the fallback locale itself. Other fields keep the single INNER join on the requested locale.
+     *
+     * <p>For {@code @Localized(searchable = true)} fields, {@code Containing}, {@code StartingWith}
+     * and {@code IgnoreCase} finders compare the normalized search column with the normalized value
+     * instead of applying {@code lower()} at query time. The value is truncated to the column length
+     * like the stored one; with fallback, the fallback row is compared with a second value normalized
+     * by the rules of the fallback language.
+     */
+    private void writeQueryConstants(PrintWriter writer, TypeElement entityType, String entityName,
+                                     String implName, String methodName, String fieldName, boolean fallback, boolean searchable,
+                                     boolean sortable, boolean entityResults, List<TypeElement> projections,
+                                     boolean counted, boolean keyset) {
+        boolean isLike = isContainingQuery(methodName) || isStartingWithQuery(methodName);
+        boolean isIgnoreCase = isIgnoreCaseQuery(methodName);
+        boolean useSearchColumn = searchable && (isLike || isIgnoreCase);
+        boolean lower = isIgnoreCase && !useSearchColumn;
+
+        String column = useSearchColumn ? fieldName + "Search" : fieldName;
+        String operator = isLike ? " like :value" : " = :value";
+        String constant = queryConstantName(methodName);
+
+        if (entityResults) {
+            writeQueryConstant(writer, constant, "select e", "", entityName, fieldName, column, operator,
+                fallback, lower, useSearchColumn, "t." + fieldName);
+        }
+        for (TypeElement projection : projections) {
+            // Constructor expression over the id and translation columns: no entity is hydrated
+            String select = "select new " + instantiatedName(implName, projection) + "("
+                + String.join(", ", projectionArguments(entityType, projection)) + ")";
+            writeQueryConstant(writer, projectionConstantName(methodName, projection), select, "", entityName,
+                fieldName, column, operator, fallback, lower, useSearchColumn, "t." + fieldName);
+        }
+        if (counted) {
+            // No fetch joins, no ordering: just the matching roots
+            writeQueryConstant(writer, countConstantName(methodName), "select count(distinct e)", "", entityName,
+                fieldName, column, operator, fallback, lower, useSearchColumn, "t." + fieldName);
+        }
+        if (keyset) {
+            // Ordered by (value, id) - by the collation key for sortable fields; the seek variant
+            // continues after the cursor's key. Collation keys of different locales are not
+            // comparable, so the fallback variant orders by the presented value itself
+            String sortValue = "t." + (sortable ? fieldName + "Sort" : fieldName);
+            String order = " order by " + SORT_VALUE + ", id(e)";
+            String select = "select e, " + SORT_VALUE + ", id(e)";
+            writeQueryConstant(writer, keysetConstantName(methodName, false), select, order, entityName,
+                fieldName, column, operator, fallback, lower, useSearchColumn, sortValue);
+            writeQueryConstant(writer, keysetConstantName(methodName, true), select,
+                " and (" + SORT_VALUE + " > :keyValue or (" + SORT_VALUE + " = :keyValue and id(e) > :keyId))" + order,
+                entityName, fieldName, column, operator, fallback, lower, useSearchColumn, sortValue);
+        }
+    }
+
+    /**
+     * Writes one JPQL constant, plus its {@code _WITHOUT_FALLBACK} variant for fallback fields.
+     * {@link #SORT_VALUE} in {@code select} and {@code suffix} stands for the localized value the
+     * entity is presented with: {@code COALESCE(requested, fallback)} or {@code sortValue}, the
+     * requested translation's value or collation key.
+     * {@link #COALESCED_VALUE} placeholders are resolved the same way for projected fallback fields.
+     */
+    private void writeQueryConstant(PrintWriter writer, String constant, String select, String suffix,
+                                    String entityName, String fieldName, String column, String operator,
+                                    boolean fallback, boolean lower, boolean searchColumn, String sortValue) {
+        if (fallback) {
+            String from = " from " + entityName + " e"
+                + " left join e.translations t on t.locale = :locale";
+            // Search columns are normalized by each row's language, so the fallback row is compared
+            // with the value normalized for the fallback language
+            String predicate = searchColumn
+                ? "(t." + column + operator + " or (t." + column + " is null and f." + column
+                    + operator.replace(":value", ":fallbackValue") + "))"
+                : lowered("coalesce(t." + column + ", f." + column + ")", lower) + operator;
+            String withFallback = from
+                + " left join e.translations f on f.locale = :fallbackLocale"
+                + " where " + predicate;
+            String withoutFallback = from
+                + " where " + lowered("t." + column, lower) + operator;
+            String fallbackValue = "coalesce(t." + fieldName + ", f." + fieldName + ")";
+
+            writer.println("    private static final String " + constant + " =");
+            writer.println("        \"" + COALESCED_VALUE.matcher(select + withFallback + suffix)
+                .replaceAll("coalesce(t.$1, f.$1)").replace(SORT_VALUE, fallbackValue) + "\";");
+            writer.println("    private static final String " + constant + "_WITHOUT_FALLBACK =");
+            writer.println("        \"" + COALESCED_VALUE.matcher(select + withoutFallback + suffix)
+                .replaceAll("t.$1").replace(SORT_VALUE, sortValue) + "\";");
+        } else {
+            String jpql = select + " from " + entityName + " e join e.translations t"
+                + " where t.locale = :locale and " + lowered("t." + column, lower) + operator + suffix;
+
+            writer.println("    private static final String " + constant + " =");
+            writer.println("        \"" + COALESCED_VALUE.matcher(jpql).replaceAll("t.$1")
+                .replace(SORT_VALUE, sortValue) + "\";");
+        }
+    }
+
+    /**
+     * @return The JPQL select arguments of a projection, in constructor order: {@code t.field} for
+     *         localized fields ({@link #COALESCED_VALUE} for fallback ones) and {@code e.attribute} otherwise
+     */
+    private List<String> projectionArguments(TypeElement entityType, TypeElement projection) {
+        List<String> arguments = new ArrayList<>();
+        for (ProjectionProperty property : getProjectionProperties(projection)) {
+            Localized localized = getLocalizedAnnotation(entityType, property.name());
+            if (localized == null) {
+                arguments.add("e." + property.name());
+            } else if (localized.fallback()) {
+                arguments.add("{coalesce:" + property.name() + "}");
+            } else {
+                arguments.add("t." + property.name());
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * Writes the record instantiated for an interface projection: the constructor expression needs a
+     * concrete class, and the record implements the interface's accessors over its components.
+     */
+    private void writeProjectionRow(PrintWriter writer, TypeElement projection) {
+        List<ProjectionProperty> properties = getProjectionProperties(projection);
+        writer.println("    public record " + projectionRowName(projection) + "("
+            + properties.stream().map(p -> p.type() + " " + p.name()).collect(Collectors.joining(", "))
+            + ") implements " + projection.getQualifiedName() + " {");
+        for (ProjectionProperty property : properties) {
+            if (!property.accessor().equals(property.name())) {
+                writer.println();
+                writer.println("        @Override");
+                writer.println("        public " + property.type() + " " + property.accessor() + "() {");
+                writer.println("            return " + property.name() + ";");
+                writer.println("        }");
+            }
+        }
+        writer.println("    }");
         writer.println();
-        writer.println("        Predicate localePredicate = cb.equal(translations.get(\"locale\"), locale.getLanguage());");
+    }
+
+    /**
+     * A projected property: its name, declared type and, for interfaces, the accessor implementing it.
+     */
+    private record ProjectionProperty(String name, String type, String accessor) {
+    }
+
+    /**
+     * @return The properties of a projection in constructor order: the record components, the
+     *         parameters of a class's widest public constructor, or the accessors of an interface
+     */
+    private List<ProjectionProperty> getProjectionProperties(TypeElement projection) {
+        List<ProjectionProperty> properties = new ArrayList<>();
+        if (projection.getKind() == ElementKind.RECORD) {
+            for (RecordComponentElement component : projection.getRecordComponents()) {
+                String name = component.getSimpleName().toString();
+                properties.add(new ProjectionProperty(name, component.asType().toString(), name));
+            }
+        } else if (projection.getKind() == ElementKind.INTERFACE) {
+            for (Element member : projection.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.METHOD && member.getModifiers().contains(Modifier.ABSTRACT)) {
+                    ExecutableElement accessor = (ExecutableElement) member;
+                    String accessorName = accessor.getSimpleName().toString();
+                    properties.add(new ProjectionProperty(propertyName(accessorName),
+                        accessor.getReturnType().toString(), accessorName));
+                }
+            }
+        } else {
+            ExecutableElement widest = null;
+            for (Element member : projection.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.CONSTRUCTOR && member.getModifiers().contains(Modifier.PUBLIC)) {
+                    ExecutableElement constructor = (ExecutableElement) member;
+                    if (widest == null || constructor.getParameters().size() > widest.getParameters().size()) {
+                        widest = constructor;
+                    }
+                }
+            }
+            if (widest != null) {
+                for (VariableElement parameter : widest.getParameters()) {
+                    String name = parameter.getSimpleName().toString();
+                    properties.add(new ProjectionProperty(name, parameter.asType().toString(), name));
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return The property of an accessor: {@code getName} and {@code isActive} map to {@code name}
+     *         and {@code active}, any other accessor name is the property itself
+     */
+    private String propertyName(String accessor) {
+        for (String prefix : List.of("get", "is")) {
+            if (accessor.length() > prefix.length() && accessor.startsWith(prefix)
+                && Character.isUpperCase(accessor.charAt(prefix.length()))) {
+                return Character.toLowerCase(accessor.charAt(prefix.length())) + accessor.substring(prefix.length() + 1);
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * Reports projections the finder cannot construct: a property matching no entity attribute, an
+     * accessor with parameters, or a class without a public constructor with parameters.
+     */
+    private boolean isValidProjection(ExecutableElement method, TypeElement entityType) {
+        TypeElement projection = getResultElement(method);
+        if (getResultKind(method) == ResultKind.WINDOW) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Window finders must return the entity, not the projection " + projection.getSimpleName(), method);
+            return false;
+        }
+        for (Element member : projection.getEnclosedElements()) {
+            if (projection.getKind() == ElementKind.INTERFACE && member.getKind() == ElementKind.METHOD
+                && member.getModifiers().contains(Modifier.ABSTRACT)
+                && !((ExecutableElement) member).getParameters().isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Projection accessor " + member.getSimpleName() + " must not take parameters", method);
+                return false;
+            }
+        }
+        List<ProjectionProperty> properties = getProjectionProperties(projection);
+        if (properties.isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Projection " + projection.getSimpleName() + " declares no properties to select", method);
+            return false;
+        }
+        for (ProjectionProperty property : properties) {
+            if (!hasEntityAttribute(entityType, property.name())) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Projection property '" + property.name() + "' of " + projection.getSimpleName()
+                        + " matches no attribute of " + entityType.getSimpleName(), method);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasEntityAttribute(TypeElement entityType, String name) {
+        for (TypeElement type = entityType; type != null; type = superclassOf(type)) {
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.FIELD && member.getSimpleName().toString().equals(name)
+                    && !member.getModifiers().contains(Modifier.STATIC)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass instanceof DeclaredType declared) {
+            TypeElement element = (TypeElement) declared.asElement();
+            return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+        }
+        return null;
+    }
+
+    /**
+     * @return The class named in the constructor expression: the binary name of a DTO or record
+     *         (nested classes as {@code Outer$Inner}), or the generated row record of an interface
+     */
+    private String instantiatedName(String implName, TypeElement projection) {
+        if (projection.getKind() == ElementKind.INTERFACE) {
+            return implName + "$" + projectionRowName(projection);
+        }
+        return processingEnv.getElementUtils().getBinaryName(projection).toString();
+    }
+
+    private String projectionRowName(TypeElement projection) {
+        return projection.getSimpleName() + "Row";
+    }
+
+    /**
+     * @return The constant name of a projection finder's JPQL, e.g. {@code FIND_BY_NAME_PRODUCT_NAME_VIEW_QUERY}
+     */
+    private String projectionConstantName(String methodName, TypeElement projection) {
+        String constant = queryConstantName(methodName);
+        return constant.substring(0, constant.length() - "_QUERY".length()) + "_"
+            + projection.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT)
+            + "_QUERY";
+    }
+
+    /**
+     * Writes the translation attribute each localized property is ordered by - its collation key when
+     * sortable - and the fallback property names, which {@code LocalizedSort.applySorting} maps onto
+     * the translation joins when a pageable sorts by them.
+     */
+    private void writeSortConstants(PrintWriter writer, TypeElement entityType) {
+        List<String> attributes = new ArrayList<>();
+        List<String> fallback = new ArrayList<>();
+        for (Element member : entityType.getEnclosedElements()) {
+            Localized annotation = member.getAnnotation(Localized.class);
+            if (member.getKind() == ElementKind.FIELD && annotation != null) {
+                String name = member.getSimpleName().toString();
+                String attribute = isSortableField(entityType, name) ? name + "Sort" : name;
+                attributes.add("Map.entry(\"" + name + "\", \"" + attribute + "\")");
+                if (annotation.fallback()) {
+                    fallback.add("\"" + name + "\"");
+                }
+            }
+        }
+        writer.println("    private static final Map<String, String> LOCALIZED_PROPERTIES = Map.ofEntries("
+            + String.join(", ", attributes) + ");");
+        writer.println("    private static final Set<String> FALLBACK_PROPERTIES = Set.of("
+            + String.join(", ", fallback) + ");");
+    }
+
+    private String lowered(String expression, boolean lower) {
+        return lower ? "lower(" + expression + ")" : expression;
+    }
+
+    /**
+     * @return The constant name of a finder's JPQL, e.g. {@code FIND_BY_NAME_CONTAINING_QUERY}
+     */
+    private String queryConstantName(String methodName) {
+        return methodName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT) + "_QUERY";
+    }
+
+    /**
+     * @return The constant name of a finder's count JPQL, e.g. {@code FIND_BY_NAME_CONTAINING_COUNT_QUERY}
+     */
+    private String countConstantName(String methodName) {
+        String constant = queryConstantName(methodName);
+        return constant.substring(0, constant.length() - "_QUERY".length()) + "_COUNT_QUERY";
+    }
+
+    /**
+     * @return The constant name of a finder's keyset JPQL, e.g. {@code FIND_BY_NAME_KEYSET_SEEK_QUERY}
+     */
+    private String keysetConstantName(String methodName, boolean seek) {
+        String constant = queryConstantName(methodName);
+        return constant.substring(0, constant.length() - "_QUERY".length())
+            + (seek ? "_KEYSET_SEEK_QUERY" : "_KEYSET_QUERY");
+    }
+
+    /**
+     * Writes the body of a finder: picks its JPQL constant, binds the parameters and runs it.
+     *
+     * <p>{@code Page} finders apply the pageable's offset, limit and sort in SQL and run the
+     * count query only when {@link org.springframework.data.support.PageableExecutionUtils}
+     * cannot derive the total from the page itself. {@code Slice} finders never count: they
+     * fetch one row more than the page size to know whether a next slice exists. Sorts on
+     * localized properties order by the translation join the finder already filters on.
+     * {@code Stream} finders scroll the same query as {@code List} finders through
+     * {@link com.localizedjpa.runtime.LocalizedStreams}, so the result is never held in memory.
+     * {@code List} finders of entities run through the
+     * {@link com.localizedjpa.runtime.cache.FinderResultCache}, keyed by their JPQL and bound
+     * parameters; it runs the query directly unless enabled.
+     */
+    private void writeQueryBody(PrintWriter writer, ExecutableElement method, String fieldName, String valueParam,
+                                String localeParam, String methodName, boolean fallback, boolean searchable,
+                                int searchLength) {
+        String entityClass = getEntityClass(method);
+        ResultKind kind = getResultKind(method);
+        VariableElement pageable = getPageableParameter(method);
+        String pageableParam = pageable == null ? null : pageable.getSimpleName().toString();
+        boolean isContaining = isContainingQuery(methodName);
+        boolean isStartingWith = isStartingWithQuery(methodName);
+        boolean isIgnoreCase = isIgnoreCaseQuery(methodName);
+        boolean useSearchColumn = searchable && (isContaining || isStartingWith || isIgnoreCase);
         
-        // Use LIKE or EQUAL depending on method name
-        boolean isContaining = methodName.contains("Containing");
+        String value;
+        String fallbackValue = null;
+        if (useSearchColumn) {
+            // Truncated like the stored search column, normalized by the language it is compared with
+            value = "SearchNormalizer.normalize(" + valueParam + ", " + localeParam + ".getLanguage(), "
+                + searchLength + ")";
+            if (fallback) {
+                fallbackValue = "SearchNormalizer.normalize(" + valueParam + ", fallbackLanguage, " + searchLength + ")";
+            }
+        } else if (isIgnoreCase) {
+            value = valueParam + ".toLowerCase(" + localeParam + ")";
+        } else {
+            value = valueParam;
+        }
         if (isContaining) {
-            writer.println("        Predicate fieldPredicate = cb.like(translations.get(\"" + fieldName + "\"), \"%\" + " + valueParam + " + \"%\");");
+            value = "\"%\" + " + value + " + \"%\"";
+            fallbackValue = fallbackValue == null ? null : "\"%\" + " + fallbackValue + " + \"%\"";
+        } else if (isStartingWith) {
+            value = value + " + \"%\"";
+            fallbackValue = fallbackValue == null ? null : fallbackValue + " + \"%\"";
+        }
+        boolean separateFallbackValue = fallbackValue != null;
+        String constant = isProjection(method)
+            ? projectionConstantName(methodName, getResultElement(method))
+            : queryConstantName(methodName);
+        String jpql = fallback ? "useFallback ? " + constant + " : " + constant + "_WITHOUT_FALLBACK" : constant;
+        
+        if (fallback) {
+            writer.println("        String fallbackLanguage = LocaleFallback.getDefaultLanguage();");
+            writer.println("        boolean useFallback = !fallbackLanguage.equals(" + localeParam + ".getLanguage());");
+        }
+        writer.println("        Object boundValue = " + value + ";");
+        if (separateFallbackValue) {
+            writer.println("        Object fallbackBoundValue = useFallback ? " + fallbackValue + " : null;");
+        }
+        if (kind == ResultKind.WINDOW) {
+            writeKeysetQueryBody(writer, method, entityClass, fieldName, localeParam, methodName, fallback,
+                separateFallbackValue);
+            return;
+        }
+        if (kind == ResultKind.LIST && !isProjection(method)) {
+            writeCachedListQueryBody(writer, entityClass, jpql, localeParam, fallback, separateFallbackValue);
+            return;
+        }
+        if (kind == ResultKind.LIST || kind == ResultKind.STREAM) {
+            writer.println("        TypedQuery<" + entityClass + "> query = entityManager.createQuery(");
+            writer.println("            " + jpql + ", " + entityClass + ".class);");
         } else {
-            writer.println("        Predicate fieldPredicate = cb.equal(translations.get(\"" + fieldName + "\"), " + valueParam + ");");
+            writer.println("        TypedQuery<" + entityClass + "> query = entityManager.createQuery(");
+            String coalesced = fallback ? "useFallback ? FALLBACK_PROPERTIES : Set.of()" : "Set.of()";
+            writer.println("            LocalizedSort.applySorting(" + jpql + ", " + pageableParam + ".getSort(),");
+            writer.println("                LOCALIZED_PROPERTIES, " + coalesced + "), " + entityClass + ".class);");
         }
+        writeParameterBindings(writer, "query", "        ", localeParam, fallback, separateFallbackValue);
+        writer.println();
+        
+        switch (kind) {
+            case LIST -> writer.println("        return query.getResultList();");
+            case STREAM -> writer.println("        return LocalizedStreams.stream(entityManager, query);");
+            case PAGE -> {
+                String countConstant = countConstantName(methodName);
+                String countJpql = fallback
+                    ? "useFallback ? " + countConstant + " : " + countConstant + "_WITHOUT_FALLBACK"
+                    : countConstant;
+                writer.println("        if (" + pageableParam + ".isPaged()) {");
+                writer.println("            query.setFirstResult((int) " + pageableParam + ".getOffset());");
+                writer.println("            query.setMaxResults(" + pageableParam + ".getPageSize());");
+                writer.println("        }");
+                writer.println("        List<" + entityClass + "> content = query.getResultList();");
+                writer.println();
+                writer.println("        return PageableExecutionUtils.getPage(content, " + pageableParam + ", () -> {");
+                writer.println("            TypedQuery<Long> countQuery = entityManager.createQuery(" + countJpql + ", Long.class);");
+                writeParameterBindings(writer, "countQuery", "            ", localeParam, fallback,
+                    separateFallbackValue);
+                writer.println("            return countQuery.getSingleResult();");
+                writer.println("        });");
+            }
+            case SLICE -> {
+                writer.println("        if (" + pageableParam + ".isUnpaged()) {");
+                writer.println("            return new SliceImpl<>(query.getResultList(), " + pageableParam + ", false);");
+                writer.println("        }");
+                writer.println("        int pageSize = " + pageableParam + ".getPageSize();");
+                writer.println("        query.setFirstResult((int) " + pageableParam + ".getOffset());");
+                writer.println("        query.setMaxResults(pageSize + 1);");
+                writer.println("        List<" + entityClass + "> content = query.getResultList();");
+                writer.println();
+                writer.println("        boolean hasNext = content.size() > pageSize;");
+                writer.println("        return new SliceImpl<>(hasNext ? content.subList(0, pageSize) : content, "
+                    + pageableParam + ", hasNext);");
+            }
+            case WINDOW -> throw new IllegalStateException("Keyset finders are written by writeKeysetQueryBody");
+        }
+        writer.println("    }");
+        writer.println();
+    }
+
+    /**
+     * Writes the body of a {@code List} finder of entities: the query runs inside the loader of
+     * {@link com.localizedjpa.runtime.cache.FinderResultCache#list}, whose key holds every bound
+     * parameter so results of different locales or fallback languages never mix.
+     */
+    private void writeCachedListQueryBody(PrintWriter writer, String entityClass, String jpql, String localeParam,
+                                          boolean fallback, boolean separateFallbackValue) {
+        String arguments = fallback
+            ? localeParam + ".getLanguage(), useFallback ? fallbackLanguage : null, boundValue"
+            : localeParam + ".getLanguage(), boundValue";
+        writer.println("        return FinderResultCache.list(entityManager, " + entityClass + ".class, " + jpql + ",");
+        writer.println("            new Object[] {" + arguments + "}, () -> {");
+        writer.println("            TypedQuery<" + entityClass + "> query = entityManager.createQuery(");
+        writer.println("                " + jpql + ", " + entityClass + ".class);");
+        writeParameterBindings(writer, "query", "            ", localeParam, fallback, separateFallbackValue);
+        writer.println("            return query.getResultList();");
+        writer.println("        });");
+        writer.println("    }");
         writer.println();
-        writer.println("        query.where(cb.and(localePredicate, fieldPredicate));");
+    }
+
+    /**
+     * Writes the body of a {@code Window} finder. Rows are ordered by the presented localized value
+     * and the id; a non-initial keyset position continues strictly after its {@code (value, id)} key,
+     * so every window costs the same index seek regardless of how far the client has scrolled.
+     * Each element's position carries its own key, so {@code positionAt(size - 1)} is the next cursor.
+     * A position without both keys is rejected rather than bound as null, which would match no row.
+     */
+    private void writeKeysetQueryBody(PrintWriter writer, ExecutableElement method, String entityClass,
+                                      String fieldName, String localeParam, String methodName, boolean fallback,
+                                      boolean separateFallbackValue) {
+        String positionParam = getScrollPositionParameter(method).getSimpleName().toString();
+        String limitParam = findParameter(method, LIMIT_TYPE).getSimpleName().toString();
+        String initial = keysetConstantName(methodName, false);
+        String seek = keysetConstantName(methodName, true);
+        String jpql = fallback
+            ? "seek ? (useFallback ? " + seek + " : " + seek + "_WITHOUT_FALLBACK)"
+                + " : (useFallback ? " + initial + " : " + initial + "_WITHOUT_FALLBACK)"
+            : "seek ? " + seek + " : " + initial;
+
+        writer.println("        if (!(" + positionParam + " instanceof KeysetScrollPosition keyset) || keyset.scrollsBackward()) {");
+        writer.println("            throw new IllegalArgumentException(\"Only forward keyset positions are supported: \" + "
+            + positionParam + ");");
+        writer.println("        }");
+        writer.println("        boolean seek = !keyset.isInitial();");
+        writer.println("        if (seek && (keyset.getKeys().get(\"" + fieldName + "\") == null"
+            + " || keyset.getKeys().get(\"id\") == null)) {");
+        writer.println("            throw new IllegalArgumentException(\"Keyset position must hold the keys '"
+            + fieldName + "' and 'id': \" + keyset.getKeys());");
+        writer.println("        }");
+        writer.println("        TypedQuery<Object[]> query = entityManager.createQuery(" + jpql + ", Object[].class);");
+        writeParameterBindings(writer, "query", "        ", localeParam, fallback, separateFallbackValue);
+        writer.println("        if (seek) {");
+        writer.println("            query.setParameter(\"keyValue\", keyset.getKeys().get(\"" + fieldName + "\"));");
+        writer.println("            query.setParameter(\"keyId\", keyset.getKeys().get(\"id\"));");
+        writer.println("        }");
+        writer.println("        if (" + limitParam + ".isLimited()) {");
+        writer.println("            query.setMaxResults(" + limitParam + ".max() + 1);");
+        writer.println("        }");
+        writer.println("        List<Object[]> rows = query.getResultList();");
         writer.println();
-        writer.println("        return entityManager.createQuery(query).getResultList();");
+        writer.println("        boolean hasNext = " + limitParam + ".isLimited() && rows.size() > " + limitParam + ".max();");
+        writer.println("        List<Object[]> window = hasNext ? rows.subList(0, " + limitParam + ".max()) : rows;");
+        writer.println("        List<" + entityClass + "> content = new ArrayList<>(window.size());");
+        writer.println("        for (Object[] row : window) {");
+        writer.println("            content.add((" + entityClass + ") row[0]);");
+        writer.println("        }");
+        writer.println("        return Window.from(content, index -> ScrollPosition.forward(");
+        writer.println("            Map.of(\"" + fieldName + "\", window.get(index)[1], \"id\", window.get(index)[2])), hasNext);");
         writer.println("    }");
         writer.println();
     }
 
+    private void writeParameterBindings(PrintWriter writer, String queryVariable, String indent,
+                                        String localeParam, boolean fallback, boolean separateFallbackValue) {
+        writer.println(indent + queryVariable + ".setParameter(\"locale\", " + localeParam + ".getLanguage());");
+        if (fallback) {
+            writer.println(indent + "if (useFallback) {");
+            writer.println(indent + "    " + queryVariable + ".setParameter(\"fallbackLocale\", fallbackLanguage);");
+            if (separateFallbackValue) {
+                writer.println(indent + "    " + queryVariable + ".setParameter(\"fallbackValue\", fallbackBoundValue);");
+            }
+            writer.println(indent + "}");
+        }
+        writer.println(indent + queryVariable + ".setParameter(\"value\", boundValue);");
+    }
+
+    /**
+     * @return The JPQL entity name: {@code @Entity(name)} if set, otherwise the simple class name
+     */
+    private String getEntityName(TypeElement entityType) {
+        for (AnnotationMirror annotation : entityType.getAnnotationMirrors()) {
+            String annotationName = annotation.getAnnotationType().toString();
+            if (annotationName.equals("jakarta.persistence.Entity") ||
+                annotationName.equals("javax.persistence.Entity")) {
+                for (var entry : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().toString().equals("name")) {
+                        String value = entry.getValue().getValue().toString();
+                        if (!value.isEmpty()) {
+                            return value;
+                        }
+                    }
+                }
+            }
+        }
+        return entityType.getSimpleName().toString();
+    }
+
     private String getMethodSignature(ExecutableElement method) {
         String methodName = method.getSimpleName().toString();
         String params = method.getParameters().stream()
@@ -0,0 +1,36 @@
+package com.localizedjpa.compiler;
+
+import com.google.testing.compile.Compilation;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads the classes a test compilation wrote to its class output, delegating all others to
+ * the test class path.
+ */
+public final class CompiledClassLoader extends ClassLoader {
+
+    private final Compilation compilation;
+
+    public CompiledClassLoader(Compilation compilation) {
+        super(CompiledClassLoader.class.getClassLoader());
+        this.compilation = compilation;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        JavaFileObject classFile = compilation
+            .generatedFile(StandardLocation.CLASS_OUTPUT, name.replace('.', '/') + ".class")
+            .orElseThrow(() -> new ClassNotFoundException(name));
+        try (InputStream in = classFile.openInputStream()) {
+            byte[] bytes = in.readAllBytes();
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
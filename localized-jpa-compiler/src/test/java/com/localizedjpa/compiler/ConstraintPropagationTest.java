@@ -98,18 +98,26 @@ class ConstraintPropagationTest {
                     
                     import com.fasterxml.jackson.annotation.JsonIgnore;
                     import com.localizedjpa.runtime.BaseTranslation;
+                    import com.localizedjpa.runtime.cache.TranslationCacheListener;
                     import jakarta.persistence.Basic;
                     import jakarta.persistence.Column;
                     import jakarta.persistence.Entity;
+                    import jakarta.persistence.EntityListeners;
                     import jakarta.persistence.FetchType;
                     import jakarta.persistence.JoinColumn;
                     import jakarta.persistence.Lob;
                     import jakarta.persistence.ManyToOne;
                     import jakarta.persistence.Table;
+                    import jakarta.persistence.UniqueConstraint;
                     import jakarta.validation.constraints.NotNull;
                     import jakarta.validation.constraints.Size;
+                    import java.lang.Override;
                     import java.lang.String;
+                    import java.util.HashMap;
+                    import java.util.Map;
                     import org.hibernate.annotations.BatchSize;
+                    import org.hibernate.annotations.FilterDef;
+                    import org.hibernate.annotations.ParamDef;
                     
                     /**
                      * Generated translation entity for {@code TestEntity}.
@@ -119,11 +127,18 @@ class ConstraintPropagationTest {
                      */
                     @Entity
                     @Table(
-                        name = "test_entity_translations"
+                        name = "test_entity_translations",
+                        uniqueConstraints = @UniqueConstraint(name = "uk_test_entity_translations_parent_locale", columnNames = {"test_entity_id", "locale"})
                     )
                     @BatchSize(
                         size = 25
                     )
+                    @FilterDef(
+                        name = "localizedJpaLocales_TestEntityTranslation",
+                        defaultCondition = "locale in (:locales)",
+                        parameters = @ParamDef(name = "locales", type = String.class)
+                    )
+                    @EntityListeners(TranslationCacheListener.class)
                     public class TestEntityTranslation extends BaseTranslation {
                       @JsonIgnore
                       @ManyToOne(
@@ -180,6 +195,14 @@ class ConstraintPropagationTest {
                       public void setDescription(String description) {
                         this.description = description;
                       }
+                    
+                      @Override
+                      public Map<String, String> localizedValues() {
+                        Map<String, String> values = new HashMap<>(4);
+                        values.put("name", this.name);
+                        values.put("description", this.description);
+                        return values;
+                      }
                     }
                     """
             ));
@@ -0,0 +1,99 @@
+package com.localizedjpa.compiler;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import com.localizedjpa.runtime.LocaleFallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.util.List;
+import java.util.Locale;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the getters {@link JavacAstModifier} injects into localized entities.
+ */
+class LocalizedGetterTest {
+
+    private static final JavaFileObject ARTICLE = JavaFileObjects.forSourceString(
+        "com.example.Article",
+        """
+        package com.example;
+
+        import com.localizedjpa.annotations.Localized;
+        import jakarta.persistence.*;
+
+        @Entity
+        public class Article {
+
+            @Id
+            @GeneratedValue
+            private Long id;
+
+            @Localized
+            private String title;
+
+            @Localized(fallback = false)
+            private String body;
+        }
+        """
+    );
+
+    @AfterEach
+    void tearDown() {
+        LocaleFallback.configure(Locale.ENGLISH);
+    }
+
+    @Test
+    void getter_shouldWalkFallbackChainOnlyForFallbackFields() throws Exception {
+        // Given
+        LocaleFallback.configure(Locale.ENGLISH, List.of(Locale.ENGLISH, Locale.GERMAN));
+        Object article = newArticle();
+        set(article, "setTitle", "Hello", Locale.ENGLISH);
+        set(article, "setBody", "Body", Locale.ENGLISH);
+        set(article, "setTitle", null, Locale.GERMAN);
+
+        // When / Then
+        assertThat(get(article, "getTitle", Locale.GERMAN)).isEqualTo("Hello");
+        assertThat(get(article, "getTitle", Locale.FRENCH)).isEqualTo("Hello");
+        assertThat(get(article, "getBody", Locale.GERMAN)).isNull();
+        set(article, "setTitle", "Hallo", Locale.GERMANY);
+        assertThat(get(article, "getTitle", Locale.GERMAN)).isEqualTo("Hallo");
+        assertThat(get(article, "getTitle", Locale.ENGLISH)).isEqualTo("Hello");
+    }
+
+    @Test
+    void getter_shouldReturnNullWithoutAnyTranslation() throws Exception {
+        // Given
+        LocaleFallback.configure(Locale.GERMAN, List.of());
+        Object article = newArticle();
+        set(article, "setTitle", "Hello", Locale.ENGLISH);
+
+        // When / Then
+        assertThat(get(article, "getTitle", Locale.ENGLISH)).isEqualTo("Hello");
+        assertThat(get(article, "getTitle", Locale.FRENCH)).isNull();
+    }
+
+    private Object newArticle() throws ReflectiveOperationException {
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .compile(ARTICLE);
+        assertThat(compilation).succeeded();
+        return new CompiledClassLoader(compilation).loadClass("com.example.Article")
+            .getConstructor()
+            .newInstance();
+    }
+
+    private static void set(Object entity, String setter, String value, Locale locale)
+        throws ReflectiveOperationException {
+        entity.getClass().getMethod(setter, String.class, Locale.class).invoke(entity, value, locale);
+    }
+
+    private static Object get(Object entity, String getter, Locale locale) throws ReflectiveOperationException {
+        return entity.getClass().getMethod(getter, Locale.class).invoke(entity, locale);
+    }
+}
@@ -0,0 +1,545 @@
+package com.localizedjpa.compiler;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import com.localizedjpa.runtime.LocaleFallback;
+import com.localizedjpa.runtime.LocaleRegistry;
+import com.localizedjpa.runtime.TranslationFilter;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.RootClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.testing.compile.Compiler.javac;
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the translation entities {@link TranslationEntityGenerator} generates and the
+ * mappings {@link JavacAstModifier} injects into localized entities.
+ */
+class TranslationTableGenerationTest {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+
+    @AfterEach
+    void tearDown() {
+        LocaleFallback.configure(Locale.ENGLISH);
+    }
+
+    @Test
+    void shouldRejectSecondTranslationOfSameLocale() throws Exception {
+        // Given
+        CompiledClassLoader loader = compile(article(""));
+
+        try (SessionFactory sessionFactory = boot(loader).buildSessionFactory()) {
+            // When
+            Object id = persistArticle(sessionFactory, loader);
+
+            // Then
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+            try (Session session = sessionFactory.openSession()) {
+                session.beginTransaction();
+                assertThatThrownBy(() -> session.createNativeMutationQuery(
+                        "insert into article_translations (article_id, locale, title) values (:id, 'tr', 'Sehpa')")
+                    .setParameter("id", id)
+                    .executeUpdate())
+                    .isInstanceOf(ConstraintViolationException.class)
+                    .hasMessageContaining("UK_ARTICLE_TRANSLATIONS_PARENT_LOCALE");
+            }
+        }
+    }
+
+    @Test
+    void shouldCreateConfiguredTableAndIndexes() throws Exception {
+        // Given
+        CompiledClassLoader loader = compile(article("@TranslationTable(name = \"article_i18n\", uniqueLocale = false)"));
+
+        try (SessionFactory sessionFactory = boot(loader).buildSessionFactory()) {
+            // When
+            Object id = persistArticle(sessionFactory, loader);
+
+            // Then
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+            assertThat(nativeList(sessionFactory, "select index_name from information_schema.indexes"
+                + " where table_name = 'ARTICLE_I18N' and index_type_name <> 'PRIMARY KEY'"
+                + " and index_name not like 'FK%'")).containsExactly("IX_ARTICLE_I18N_TITLE");
+        }
+    }
+
+    @Test
+    void shouldDrawIdsFromPooledSequence() throws Exception {
+        // Given
+        CompiledClassLoader loader = compile(article(
+            "@TranslationTable(idStrategy = TranslationIdStrategy.SEQUENCE, allocationSize = 100)"));
+
+        try (SessionFactory sessionFactory = boot(loader).buildSessionFactory()) {
+            // When
+            Object id = persistArticle(sessionFactory, loader);
+
+            // Then
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+            assertThat(nativeList(sessionFactory, "select increment from information_schema.sequences"
+                + " where sequence_name = 'ARTICLE_TRANSLATIONS_SEQ'")).containsExactly(100L);
+            assertThat(nativeList(sessionFactory, "select id from article_translations")).doesNotContainNull().hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldDrawIdsFromPooledTable() throws Exception {
+        // Given
+        CompiledClassLoader loader = compile(article(
+            "@TranslationTable(idStrategy = TranslationIdStrategy.TABLE, allocationSize = 100)"));
+
+        try (SessionFactory sessionFactory = boot(loader).buildSessionFactory()) {
+            // When
+            Object id = persistArticle(sessionFactory, loader);
+
+            // Then
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+            assertThat(nativeList(sessionFactory, "select sequence_name from article_translations_seq"))
+                .containsExactly("article_translations");
+            assertThat(nativeList(sessionFactory, "select id from article_translations")).doesNotContainNull().hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldKeyTranslationsByParentAndLocale() throws Exception {
+        // Given
+        CompiledClassLoader loader = compile(article("@TranslationTable(idStrategy = TranslationIdStrategy.COMPOSITE)"));
+
+        try (SessionFactory sessionFactory = boot(loader).buildSessionFactory()) {
+            // When
+            Object id = persistArticle(sessionFactory, loader);
+
+            // Then
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+            assertThat(nativeList(sessionFactory, "select column_name from information_schema.columns"
+                + " where table_name = 'ARTICLE_TRANSLATIONS' order by column_name"))
+                .containsExactly("ARTICLE_ID", "BODY", "LOCALE", "TITLE");
+            Object key = loader.loadClass("com.example.ArticleTranslation$Key")
+                .getConstructor(Long.class, String.class)
+                .newInstance(id, "tr");
+            try (Session session = sessionFactory.openSession()) {
+                assertThat(session.get(loader.loadClass("com.example.ArticleTranslation"), key))
+                    .hasFieldOrPropertyWithValue("title", "Masa");
+            }
+        }
+    }
+
+    @Test
+    void shouldStoreLocaleAsRegistryIdForDictionaryStorage() throws Exception {
+        // Given
+        LocaleRegistry.configure(Map.of((short) 1, "en", (short) 2, "tr"));
+        CompiledClassLoader loader = compile(article("@TranslationTable(localeStorage = LocaleStorage.DICTIONARY)"));
+
+        try (SessionFactory sessionFactory = boot(loader).buildSessionFactory()) {
+            sessionFactory.inTransaction(session -> {
+                session.createNativeMutationQuery("create table " + LocaleRegistry.TABLE_NAME
+                    + " (id smallint primary key, code varchar(10) unique)").executeUpdate();
+                session.createNativeMutationQuery("insert into " + LocaleRegistry.TABLE_NAME
+                    + " values (1, 'en'), (2, 'tr')").executeUpdate();
+            });
+
+            // When
+            Object id = persistArticle(sessionFactory, loader);
+
+            // Then
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+            assertThat(nativeList(sessionFactory, "select locale from article_translations order by locale"))
+                .containsExactly((short) 1, (short) 2);
+            try (Session session = sessionFactory.openSession()) {
+                TranslationFilter.enable(session, Locale.GERMAN);
+                Object article = session.get(loader.loadClass("com.example.Article"), id);
+                assertThat(article).extracting("translations").asInstanceOf(InstanceOfAssertFactories.MAP)
+                    .containsOnlyKeys("en");
+            }
+        }
+    }
+
+    @Test
+    void shouldCacheTranslationEntityAndCollectionWhenConfigured() throws Exception {
+        // Given
+        CompiledClassLoader loader = compile(List.of("-Alocalizedjpa.cache.strategy=READ_WRITE"), article(
+            "@TranslationTable(cache = TranslationCacheStrategy.NONSTRICT_READ_WRITE, cacheRegion = \"article-i18n\")"));
+
+        // When
+        Metadata metadata = boot(loader);
+
+        // Then
+        RootClass translation = (RootClass) metadata.getEntityBinding("com.example.ArticleTranslation");
+        Collection translations = metadata.getCollectionBinding("com.example.Article.translations");
+        assertThat(translation.getCacheConcurrencyStrategy()).isEqualTo("nonstrict-read-write");
+        assertThat(translation.getCacheRegionName()).isEqualTo("article-i18n");
+        assertThat(translations.getCacheConcurrencyStrategy()).isEqualTo("nonstrict-read-write");
+        assertThat(translations.getCacheRegionName()).isEqualTo("article-i18n.translations");
+        try (SessionFactory sessionFactory = metadata.buildSessionFactory()) {
+            Object id = persistArticle(sessionFactory, loader);
+            assertThat(reloadTitles(sessionFactory, loader, id)).containsExactly("Table", "Masa");
+        }
+    }
+
+    @Test
+    void shouldApplyProcessorCacheOptionsUnlessEntityOptsOut() throws Exception {
+        // Given
+        JavaFileObject draft = JavaFileObjects.forSourceString(
+            "com.example.Draft",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import com.localizedjpa.annotations.TranslationCacheStrategy;
+            import com.localizedjpa.annotations.TranslationTable;
+            import jakarta.persistence.*;
+
+            @Entity
+            @TranslationTable(cache = TranslationCacheStrategy.NONE)
+            public class Draft {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized
+                private String title;
+            }
+            """
+        );
+        CompiledClassLoader loader = compile(
+            List.of("-Alocalizedjpa.cache.strategy=read_write", "-Alocalizedjpa.cache.region=translations"),
+            article(""), draft);
+
+        // When
+        Metadata metadata = boot(loader, "com.example.Draft", "com.example.DraftTranslation");
+
+        // Then
+        RootClass translation = (RootClass) metadata.getEntityBinding("com.example.ArticleTranslation");
+        assertThat(translation.getCacheConcurrencyStrategy()).isEqualTo("read-write");
+        assertThat(translation.getCacheRegionName()).isEqualTo("translations");
+        assertThat(metadata.getCollectionBinding("com.example.Article.translations").getCacheRegionName())
+            .isEqualTo("translations.translations");
+        assertThat(((RootClass) metadata.getEntityBinding("com.example.DraftTranslation")).isCached()).isFalse();
+        assertThat(metadata.getCollectionBinding("com.example.Draft.translations").getCacheConcurrencyStrategy())
+            .isNull();
+    }
+
+    @Test
+    void shouldRejectCompositeKeyForEmbeddedIdEntity() {
+        JavaFileObject entity = JavaFileObjects.forSourceString(
+            "com.example.Article",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import com.localizedjpa.annotations.TranslationIdStrategy;
+            import com.localizedjpa.annotations.TranslationTable;
+            import jakarta.persistence.*;
+
+            @Entity
+            @TranslationTable(idStrategy = TranslationIdStrategy.COMPOSITE)
+            public class Article {
+
+                @EmbeddedId
+                private ArticleId id;
+
+                @Localized
+                private String title;
+            }
+            """
+        );
+        JavaFileObject id = JavaFileObjects.forSourceString(
+            "com.example.ArticleId",
+            """
+            package com.example;
+
+            @jakarta.persistence.Embeddable
+            public class ArticleId implements java.io.Serializable {
+                private long value;
+            }
+            """
+        );
+
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .compile(entity, id);
+
+        assertThat(compilation).hadErrorContaining("requires a simple @Id");
+    }
+
+    @Test
+    void shouldGenerateIndexedCollationKeyForSortableField() throws IOException {
+        JavaFileObject entity = JavaFileObjects.forSourceString(
+            "com.example.Article",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import jakarta.persistence.*;
+
+            @Entity
+            public class Article {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized(sortable = true)
+                private String title;
+            }
+            """
+        );
+
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .compile(entity);
+
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleTranslation")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("@Index(name = \"ix_article_translations_title_sort\", columnList = \"locale, title_sort\")")
+            .contains("private byte[] titleSort;")
+            .contains("this.titleSort = CollationKeys.of(title, getLocale(), 512);")
+            .contains("protected void updateDerivedColumns()");
+    }
+
+    @Test
+    void shouldRejectUnknownCacheStrategyOption() {
+        JavaFileObject entity = JavaFileObjects.forSourceString(
+            "com.example.Article",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import jakarta.persistence.*;
+
+            @Entity
+            public class Article {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized
+                private String title;
+            }
+            """
+        );
+
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .withOptions("-Alocalizedjpa.cache.strategy=ALWAYS")
+            .compile(entity);
+
+        assertThat(compilation).hadErrorContaining("Invalid -Alocalizedjpa.cache.strategy=ALWAYS");
+    }
+
+    @Test
+    void shouldRejectCatalogForNonIntegralId() {
+        JavaFileObject entity = JavaFileObjects.forSourceString(
+            "com.example.Article",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import com.localizedjpa.annotations.TranslationTable;
+            import jakarta.persistence.*;
+
+            @Entity
+            @TranslationTable(catalog = true)
+            public class Article {
+
+                @Id
+                private String slug;
+
+                @Localized
+                private String title;
+            }
+            """
+        );
+
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .compile(entity);
+
+        assertThat(compilation).hadErrorContaining("@TranslationTable(catalog = true) requires a long, int or short @Id");
+    }
+
+    @Test
+    void shouldExposeValuesToRuntimeTranslationCache() throws IOException {
+        JavaFileObject entity = JavaFileObjects.forSourceString(
+            "com.example.Article",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import jakarta.persistence.*;
+
+            @Entity
+            public class Article {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized
+                private String title;
+
+                @Localized
+                private String values;
+            }
+            """
+        );
+
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .compile(entity);
+
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleTranslation")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("@EntityListeners(TranslationCacheListener.class)")
+            .contains("public Map<String, String> localizedValues() {")
+            .contains("values.put(\"title\", this.title);")
+            .contains("values.put(\"values\", this.values);");
+        assertThat(classFile(compilation, "com/example/Article.class"))
+            .contains("com/localizedjpa/runtime/cache/TranslationCache");
+    }
+
+    private static JavaFileObject article(String translationTable) {
+        return JavaFileObjects.forSourceString(
+            "com.example.Article",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.*;
+            import jakarta.persistence.*;
+
+            @Entity
+            %s
+            public class Article {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized(indexed = true)
+                private String title;
+
+                @Localized
+                private String body;
+            }
+            """.formatted(translationTable)
+        );
+    }
+
+    private static CompiledClassLoader compile(JavaFileObject... sources) {
+        return compile(List.of(), sources);
+    }
+
+    private static CompiledClassLoader compile(List<String> options, JavaFileObject... sources) {
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor())
+            .withOptions(options)
+            .compile(sources);
+        assertThat(compilation).succeeded();
+        return new CompiledClassLoader(compilation);
+    }
+
+    /**
+     * Maps the compiled {@code Article}, its translation entity and the given classes on an
+     * in-memory H2 database whose schema is created from the mapping.
+     */
+    private static Metadata boot(CompiledClassLoader loader, String... classNames) throws ClassNotFoundException {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder(
+                new BootstrapServiceRegistryBuilder().applyClassLoader(loader).build())
+            .applySetting("hibernate.connection.url", "jdbc:h2:mem:translations-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .applySetting("hibernate.hbm2ddl.auto", "create")
+            .build();
+        MetadataSources sources = new MetadataSources(registry)
+            .addAnnotatedClass(loader.loadClass("com.example.Article"))
+            .addAnnotatedClass(loader.loadClass("com.example.ArticleTranslation"));
+        for (String className : classNames) {
+            sources.addAnnotatedClass(loader.loadClass(className));
+        }
+        return sources.buildMetadata();
+    }
+
+    /**
+     * Persists an article titled in English and Turkish through its generated setters.
+     *
+     * @return The id of the article
+     */
+    private static Object persistArticle(SessionFactory sessionFactory, CompiledClassLoader loader)
+        throws ReflectiveOperationException {
+        Class<?> articleClass = loader.loadClass("com.example.Article");
+        Object article = articleClass.getConstructor().newInstance();
+        Method setTitle = articleClass.getMethod("setTitle", String.class, Locale.class);
+        setTitle.invoke(article, "Table", Locale.ENGLISH);
+        setTitle.invoke(article, "Masa", TURKISH);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.persist(article);
+            session.getTransaction().commit();
+        }
+        return sessionFactory.getPersistenceUnitUtil().getIdentifier(article);
+    }
+
+    /**
+     * @return The English and Turkish titles of the article, read in a new session
+     */
+    private static List<Object> reloadTitles(SessionFactory sessionFactory, CompiledClassLoader loader, Object id)
+        throws ReflectiveOperationException {
+        Class<?> articleClass = loader.loadClass("com.example.Article");
+        Method getTitle = articleClass.getMethod("getTitle", Locale.class);
+        try (Session session = sessionFactory.openSession()) {
+            Object article = session.get(articleClass, id);
+            return List.of(getTitle.invoke(article, Locale.ENGLISH), getTitle.invoke(article, TURKISH));
+        }
+    }
+
+    private static List<Object> nativeList(SessionFactory sessionFactory, String sql) {
+        return sessionFactory.fromSession(session -> session.createNativeQuery(sql, Object.class).getResultList());
+    }
+
+    /**
+     * Reads a compiled class file; its constant pool holds the names and values of the
+     * annotations injected into the entity.
+     */
+    private static String classFile(Compilation compilation, String path) throws IOException {
+        try (InputStream in = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, path)
+                .orElseThrow()
+                .openInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,586 @@
+package com.localizedjpa.compiler.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import com.localizedjpa.compiler.CompiledClassLoader;
+import com.localizedjpa.compiler.LocalizedProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link LocalizedRepositoryProcessor}.
+ */
+class LocalizedRepositoryProcessorTest {
+
+    private static final JavaFileObject ARTICLE = JavaFileObjects.forSourceString(
+        "com.example.Article",
+        """
+        package com.example;
+
+        import com.localizedjpa.annotations.Localized;
+        import jakarta.persistence.*;
+
+        @Entity(name = "NewsArticle")
+        public class Article {
+
+            @Id
+            @GeneratedValue
+            private Long id;
+
+            @Localized
+            private String title;
+
+            @Localized(fallback = false)
+            private String body;
+        }
+        """
+    );
+
+    @Test
+    void shouldGenerateFindersWithConstantJpql() throws IOException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.List;
+            import java.util.Locale;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+                List<Article> findByTitle(String title, Locale locale);
+                List<Article> findByBodyContaining(String body);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("private static final String FIND_BY_TITLE_QUERY =")
+            .contains("\"select e from NewsArticle e left join e.translations t on t.locale = :locale"
+                + " left join e.translations f on f.locale = :fallbackLocale"
+                + " where coalesce(t.title, f.title) = :value\"")
+            .contains("FIND_BY_TITLE_QUERY_WITHOUT_FALLBACK")
+            .contains("\"select e from NewsArticle e join e.translations t"
+                + " where t.locale = :locale and t.body like :value\"")
+            .contains("FIND_BY_BODY_CONTAINING_QUERY, com.example.Article.class);")
+            .contains("return FinderResultCache.list(entityManager, com.example.Article.class, FIND_BY_BODY_CONTAINING_QUERY,")
+            .contains("new Object[] {locale.getLanguage(), useFallback ? fallbackLanguage : null, boundValue}, () -> {")
+            .contains("import com.localizedjpa.runtime.cache.FinderResultCache;")
+            .doesNotContain("import org.springframework.data.domain.Window;")
+            .doesNotContain("import com.localizedjpa.runtime.LocalizedStreams;")
+            .doesNotContain("import com.localizedjpa.runtime.SearchNormalizer;")
+            .doesNotContain("CriteriaBuilder");
+    }
+
+    @Test
+    void shouldNormalizeSearchValuesPerLanguageAndColumnLength() throws IOException {
+        // Given
+        JavaFileObject product = JavaFileObjects.forSourceString(
+            "com.example.Product",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import jakarta.persistence.*;
+
+            @Entity
+            public class Product {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized(searchable = true)
+                @Column(length = 80)
+                private String name;
+            }
+            """
+        );
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ProductRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.List;
+            import java.util.Locale;
+
+            public interface ProductRepository extends LocalizedRepository<Product, Long> {
+                List<Product> findByNameContaining(String name, Locale locale);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(product, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ProductRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("where (t.nameSearch like :value or (t.nameSearch is null and f.nameSearch like :fallbackValue))")
+            .contains("Object boundValue = \"%\" + SearchNormalizer.normalize(name, locale.getLanguage(), 80) + \"%\";")
+            .contains("Object fallbackBoundValue = useFallback"
+                + " ? \"%\" + SearchNormalizer.normalize(name, fallbackLanguage, 80) + \"%\" : null;")
+            .contains("query.setParameter(\"fallbackValue\", fallbackBoundValue);");
+    }
+
+    @Test
+    void shouldGeneratePagedAndSlicedFinders() throws IOException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.List;
+            import java.util.Locale;
+            import org.springframework.data.domain.Page;
+            import org.springframework.data.domain.Pageable;
+            import org.springframework.data.domain.Slice;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+                List<Article> findByTitleContaining(String title);
+                Page<Article> findByTitleContaining(String title, Pageable pageable);
+                Slice<Article> findByBody(String body, Locale locale, Pageable pageable);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("return findByTitleContaining(title, LocaleContextHolder.getLocale(), pageable);")
+            .contains("\"select count(distinct e) from NewsArticle e left join e.translations t")
+            .contains("PageableExecutionUtils.getPage(content, pageable, () -> {")
+            .contains("query.setMaxResults(pageSize + 1);")
+            .contains("LOCALIZED_PROPERTIES = Map.ofEntries(Map.entry(\"title\", \"title\"), Map.entry(\"body\", \"body\"));")
+            .contains("FALLBACK_PROPERTIES = Set.of(\"title\");")
+            .contains("LOCALIZED_PROPERTIES, useFallback ? FALLBACK_PROPERTIES : Set.of()), com.example.Article.class);")
+            .doesNotContain("FIND_BY_BODY_COUNT_QUERY");
+    }
+
+    @Test
+    void shouldGenerateKeysetWindowFinders() throws IOException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import org.springframework.data.domain.Limit;
+            import org.springframework.data.domain.ScrollPosition;
+            import org.springframework.data.domain.Window;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+                Window<Article> findByBodyStartingWith(String body, ScrollPosition position, Limit limit);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("return findByBodyStartingWith(body, LocaleContextHolder.getLocale(), position, limit);")
+            .contains("and (t.body > :keyValue or (t.body = :keyValue and id(e) > :keyId)) order by t.body, id(e)\"")
+            .contains("query.setMaxResults(limit.max() + 1);")
+            .contains("Map.of(\"body\", window.get(index)[1], \"id\", window.get(index)[2])");
+    }
+
+    @Test
+    void shouldOrderFallbackKeysetByPresentedValueInsteadOfMixedCollationKeys() throws IOException {
+        // Given
+        JavaFileObject product = JavaFileObjects.forSourceString(
+            "com.example.Product",
+            """
+            package com.example;
+
+            import com.localizedjpa.annotations.Localized;
+            import jakarta.persistence.*;
+
+            @Entity
+            public class Product {
+
+                @Id
+                @GeneratedValue
+                private Long id;
+
+                @Localized(sortable = true)
+                private String name;
+            }
+            """
+        );
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ProductRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.Locale;
+            import org.springframework.data.domain.Limit;
+            import org.springframework.data.domain.ScrollPosition;
+            import org.springframework.data.domain.Window;
+
+            public interface ProductRepository extends LocalizedRepository<Product, Long> {
+                Window<Product> findByNameStartingWith(String name, Locale locale, ScrollPosition position, Limit limit);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(product, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ProductRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("order by coalesce(t.name, f.name), id(e)\"")
+            .contains("order by t.nameSort, id(e)\"")
+            .doesNotContain("coalesce(t.nameSort, f.nameSort)");
+    }
+
+    @Test
+    void shouldRejectKeysetPositionWithoutCursorKeys() throws ReflectiveOperationException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.Locale;
+            import org.springframework.data.domain.Limit;
+            import org.springframework.data.domain.ScrollPosition;
+            import org.springframework.data.domain.Window;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+                Window<Article> findByBodyStartingWith(String body, Locale locale, ScrollPosition position, Limit limit);
+            }
+            """
+        );
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+        assertThat(compilation).succeeded();
+        Class<?> implementation = new CompiledClassLoader(compilation).loadClass("com.example.ArticleRepositoryImpl");
+        Method finder = implementation.getMethod("findByBodyStartingWith",
+            String.class, Locale.class, ScrollPosition.class, Limit.class);
+        Object instance = implementation.getConstructor().newInstance();
+
+        // When / Then
+        for (Map<String, Object> keys : List.of(Map.<String, Object>of("id", 1L), Map.<String, Object>of("body", "B"))) {
+            assertThatThrownBy(() -> finder.invoke(instance, "B", Locale.ENGLISH, ScrollPosition.forward(keys), Limit.of(10)))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("Keyset position must hold the keys 'body' and 'id': " + keys);
+        }
+    }
+
+    @Test
+    void shouldGenerateStreamFindersOverScrollableResults() throws IOException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.stream.Stream;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+                Stream<Article> findByTitleStartingWith(String title);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("public java.util.stream.Stream<com.example.Article> findByTitleStartingWith(java.lang.String title, Locale locale) {")
+            .contains("useFallback ? FIND_BY_TITLE_STARTING_WITH_QUERY : FIND_BY_TITLE_STARTING_WITH_QUERY_WITHOUT_FALLBACK")
+            .contains("return LocalizedStreams.stream(entityManager, query);")
+            .doesNotContain("getResultList()");
+    }
+
+    @Test
+    void shouldImplementUpsertTranslationWithoutFinders() throws IOException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import com.localizedjpa.runtime.TranslationUpsertOperations;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long>,
+                    TranslationUpsertOperations<Long> {
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("public void upsertTranslation(java.lang.Long id, Locale locale, String field, String value) {")
+            .contains("public void upsertTranslation(java.lang.Long id, Locale locale, Map<String, String> values) {")
+            .contains("TranslationUpserts.upsert(entityManager, com.example.ArticleTranslation.class, id, locale, values);");
+    }
+
+    @Test
+    void shouldNotImplementUpsertTranslationWithoutOptIn() {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+        assertThat(compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")).isEmpty();
+    }
+
+    @Test
+    void shouldRejectUpsertOperationsForEntityWithoutLocalizedFields() {
+        // Given
+        JavaFileObject tag = JavaFileObjects.forSourceString(
+            "com.example.Tag",
+            """
+            package com.example;
+
+            import jakarta.persistence.*;
+
+            @Entity
+            public class Tag {
+
+                @Id
+                private Long id;
+            }
+            """
+        );
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.TagRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import com.localizedjpa.runtime.TranslationUpsertOperations;
+
+            public interface TagRepository extends LocalizedRepository<Tag, Long>, TranslationUpsertOperations<Long> {
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(tag, repository);
+
+        // Then
+        assertThat(compilation).hadErrorContaining(
+            "TagRepository extends TranslationUpsertOperations but its entity declares no @Localized fields");
+    }
+
+    @Test
+    void shouldRejectWindowFinderWithoutLimit() {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import org.springframework.data.domain.ScrollPosition;
+            import org.springframework.data.domain.Window;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+                Window<Article> findByBody(String body, ScrollPosition position);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).hadErrorContaining("Window finders need a ScrollPosition and a Limit parameter");
+    }
+
+    @Test
+    void shouldGenerateConstructorExpressionsForProjections() throws IOException {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.List;
+            import java.util.Locale;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+
+                record ArticleSummary(Long id, String title, String body) {}
+
+                interface ArticleTitle {
+                    Long getId();
+                    String getTitle();
+                }
+
+                List<ArticleSummary> findByBody(String body, Locale locale);
+                List<ArticleTitle> findByTitleContaining(String title, Locale locale);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).succeeded();
+
+        String source = compilation.generatedSourceFile("com.example.ArticleRepositoryImpl")
+            .orElseThrow()
+            .getCharContent(true)
+            .toString();
+
+        assertThat(source)
+            .contains("\"select new com.example.ArticleRepository$ArticleSummary(e.id, t.title, t.body) from NewsArticle e")
+            .contains("\"select new com.example.ArticleRepositoryImpl$ArticleTitleRow(e.id, coalesce(t.title, f.title))")
+            .contains("\"select new com.example.ArticleRepositoryImpl$ArticleTitleRow(e.id, t.title) from")
+            .contains("implements com.example.ArticleRepository.ArticleTitle {")
+            .doesNotContain("FIND_BY_BODY_QUERY =");
+    }
+
+    @Test
+    void shouldRejectProjectionPropertyWithoutEntityAttribute() {
+        // Given
+        JavaFileObject repository = JavaFileObjects.forSourceString(
+            "com.example.ArticleRepository",
+            """
+            package com.example;
+
+            import com.localizedjpa.runtime.LocalizedRepository;
+            import java.util.List;
+            import java.util.Locale;
+
+            public interface ArticleRepository extends LocalizedRepository<Article, Long> {
+
+                record ArticleHeadline(Long id, String headline) {}
+
+                List<ArticleHeadline> findByTitle(String title, Locale locale);
+            }
+            """
+        );
+
+        // When
+        Compilation compilation = javac()
+            .withProcessors(new LocalizedProcessor(), new LocalizedRepositoryProcessor())
+            .compile(ARTICLE, repository);
+
+        // Then
+        assertThat(compilation).hadErrorContaining("Projection property 'headline' of ArticleHeadline matches no attribute of Article");
+    }
+}
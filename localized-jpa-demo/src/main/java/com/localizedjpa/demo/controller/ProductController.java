@@ -2,6 +2,7 @@ package com.localizedjpa.demo.controller;
 
 import com.localizedjpa.demo.dto.BadgeDto;
 import com.localizedjpa.demo.dto.ProductDto;
+import com.localizedjpa.demo.dto.ProductSummaryDto;
 import com.localizedjpa.demo.entity.Product;
 import com.localizedjpa.demo.service.ProductService;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -89,6 +91,15 @@ public class ProductController {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Suggest products by localized name prefix.
+     * Returns projections straight from the query, no toDto mapping needed.
+     */
+    @GetMapping("/search/name/summaries")
+    public List<ProductSummaryDto> suggestByName(@RequestParam String prefix) {
+        return productService.findSummariesByNameStartingWith(prefix);
+    }
+
     /**
      * Search products where localized description CONTAINS search term.
      */
@@ -144,6 +155,17 @@ public class ProductController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Save localized values of a product for one locale, e.g. from a translation tool.
+     * Runs a single upsert on the translation table instead of loading and saving the product.
+     */
+    @PutMapping("/{id}/translations/{locale}")
+    public ResponseEntity<Void> upsertTranslation(@PathVariable Long id, @PathVariable String locale,
+                                                  @RequestBody Map<String, String> values) {
+        productService.upsertTranslation(id, Locale.forLanguageTag(locale), values);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Delete a product.
      */
@@ -0,0 +1,11 @@
+package com.localizedjpa.demo.dto;
+
+/**
+ * Projection of a Product: the id, the price and the name in the requested locale.
+ * Selected directly by the generated finder, without loading the entity or its translations.
+ */
+public record ProductSummaryDto(
+    Long id,
+    String name,         // Localized!
+    Double price
+) {}
@@ -1,7 +1,11 @@
 package com.localizedjpa.demo.entity;
 
 import com.localizedjpa.annotations.Localized;
+import com.localizedjpa.annotations.TranslationCacheStrategy;
+import com.localizedjpa.annotations.TranslationTable;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Badge entity with localized fields.
@@ -17,8 +21,16 @@ import jakarta.persistence.*;
  * badge.setName("Yeni Ürün", new Locale("tr"));
  * badge.setColor("#00FF00");
  * </pre>
+ * 
+ * <p>Badges are read on almost every request and rarely change, so the badge, its
+ * translations and its {@code translations} collection are second-level cached once
+ * a cache provider is configured. {@code catalog = true} keeps all badges' translations in
+ * memory, so {@code getName(locale)} in {@code ProductController.toDto} reads no translations.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@TranslationTable(cache = TranslationCacheStrategy.READ_WRITE, catalog = true)
 public class Badge {
 
     @Id
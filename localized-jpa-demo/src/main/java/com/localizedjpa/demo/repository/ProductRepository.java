@@ -1,7 +1,9 @@
 package com.localizedjpa.demo.repository;
 
+import com.localizedjpa.demo.dto.ProductSummaryDto;
 import com.localizedjpa.demo.entity.Product;
 import com.localizedjpa.runtime.LocalizedRepository;
+import com.localizedjpa.runtime.TranslationUpsertOperations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -32,7 +34,7 @@ import java.util.Locale;
  * Page&lt;Product&gt; page = repository.findByNameContaining("Table", PageRequest.of(0, 10));
  * </pre>
  */
-public interface ProductRepository extends LocalizedRepository<Product, Long> {
+public interface ProductRepository extends LocalizedRepository<Product, Long>, TranslationUpsertOperations<Long> {
 
     // ========== EXACT MATCH QUERIES ==========
 
@@ -78,4 +80,12 @@ public interface ProductRepository extends LocalizedRepository<Product, Long> {
 
     List<Product> findByNameContaining(String keyword, Locale locale);
 
+    // ========== PROJECTIONS ==========
+
+    /**
+     * Find id, name and price of products whose localized name starts with the prefix.
+     * Selects only those columns - no Product entities are loaded.
+     */
+    List<ProductSummaryDto> findByNameStartingWith(String prefix);
+
 }
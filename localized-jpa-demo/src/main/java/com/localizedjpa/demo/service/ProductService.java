@@ -1,5 +1,6 @@
 package com.localizedjpa.demo.service;
 
+import com.localizedjpa.demo.dto.ProductSummaryDto;
 import com.localizedjpa.demo.entity.Product;
 import com.localizedjpa.demo.repository.ProductRepository;
 import org.springframework.stereotype.Service;
@@ -7,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -72,6 +74,21 @@ public class ProductService {
         return productRepository.findByDescriptionContaining(searchTerm);
     }
 
+    /**
+     * Find summaries of products whose localized name starts with the prefix.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDto> findSummariesByNameStartingWith(String prefix) {
+        return productRepository.findByNameStartingWith(prefix);
+    }
+
+    /**
+     * Write localized values with a single statement, without loading the product.
+     */
+    public void upsertTranslation(Long id, Locale locale, Map<String, String> values) {
+        productRepository.upsertTranslation(id, locale, values);
+    }
+
     public void deleteById(Long id) {
         productRepository.deleteById(id);
     }
@@ -0,0 +1,62 @@
+package com.localizedjpa.runtime;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Common supertype of all generated translation entities: defines equality by locale,
+ * but leaves the mapping of the identifier and the locale column to subclasses.
+ *
+ * <p>Subclasses, by identifier strategy:
+ * <ul>
+ *   <li>{@link BaseTranslation} - surrogate {@code IDENTITY} id (default)</li>
+ *   <li>{@link NaturalKeyTranslation} - composite primary key {@code (parent_id, locale)}</li>
+ *   <li>Entities generated with {@code @TranslationTable(idStrategy = SEQUENCE)} or {@code TABLE}
+ *       extend this class directly and declare a pooled id, so Hibernate can batch their inserts</li>
+ * </ul>
+ */
+public abstract class AbstractTranslation {
+
+    public abstract String getLocale();
+
+    public abstract void setLocale(String locale);
+
+    /**
+     * The values of the localized fields by field name, as cached by
+     * {@link com.localizedjpa.runtime.cache.TranslationCache TranslationCache}.
+     * Generated translation entities override it; the default has no fields.
+     *
+     * @return A new map of the localized field values
+     */
+    public Map<String, String> localizedValues() {
+        return Map.of();
+    }
+
+    /**
+     * Two translations are equal if they have the same locale within the same parent.
+     * Using locale as business key is safer than using mutable id.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AbstractTranslation that = (AbstractTranslation) o;
+        return Objects.equals(getLocale(), that.getLocale());
+    }
+
+    /**
+     * Hash code based on locale only (business key).
+     * This ensures stable hashCode even when id changes after persist.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getLocale());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "locale='" + getLocale() + '\'' +
+                '}';
+    }
+}
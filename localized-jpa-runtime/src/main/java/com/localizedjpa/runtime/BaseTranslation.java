@@ -1,7 +1,6 @@
 package com.localizedjpa.runtime;
 
 import jakarta.persistence.*;
-import java.util.Objects;
 
 /**
  * Abstract base class for all generated translation entities.
@@ -20,9 +19,14 @@ import java.util.Objects;
  *     // getters/setters
  * }
  * </pre>
+ *
+ * <p>The {@code IDENTITY} id disables JDBC insert batching for translations. Use
+ * {@code @TranslationTable(idStrategy = SEQUENCE)} to generate an entity with a pooled id instead.
+ *
+ * @see AbstractTranslation
  */
 @MappedSuperclass
-public abstract class BaseTranslation {
+public abstract class BaseTranslation extends AbstractTranslation {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,35 +43,16 @@ public abstract class BaseTranslation {
         this.id = id;
     }
 
+    @Override
     public String getLocale() {
         return locale;
     }
 
+    @Override
     public void setLocale(String locale) {
         this.locale = locale;
     }
 
-    /**
-     * Two translations are equal if they have the same locale within the same parent.
-     * Using locale as business key is safer than using mutable id.
-     */
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        BaseTranslation that = (BaseTranslation) o;
-        return Objects.equals(locale, that.locale);
-    }
-
-    /**
-     * Hash code based on locale only (business key).
-     * This ensures stable hashCode even when id changes after persist.
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(locale);
-    }
-
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
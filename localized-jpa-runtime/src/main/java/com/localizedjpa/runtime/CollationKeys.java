@@ -0,0 +1,58 @@
+package com.localizedjpa.runtime;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes the sort keys stored in the sort-key columns of {@code @Localized(sortable = true)} fields.
+ *
+ * <p>A sort key is the {@link Collator} collation key of the value for the translation's locale.
+ * Comparing two keys byte by byte (unsigned, as {@code VARBINARY}/{@code bytea} columns compare)
+ * gives the same result as {@link Collator#compare} on the values, so the database can order by
+ * the indexed key column without a locale-specific collation.
+ *
+ * <p>Keys are truncated to the column's length. Collation keys list the primary (base letter)
+ * weights of all characters first, so truncation only loses the order of values that agree on
+ * their leading letters; those fall back to the id tie-breaker of keyset finders.
+ */
+public final class CollationKeys {
+
+    private static final Map<String, Collator> COLLATORS = new ConcurrentHashMap<>();
+
+    private CollationKeys() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Computes the sort key of a value.
+     *
+     * @param value The value to compute the key for (may be null)
+     * @param language The language key of the value's locale (e.g. "tr"), or null for root
+     * @param maxLength The maximum length of the sort-key column in bytes
+     * @return The sort key, at most {@code maxLength} bytes, or null if value is null
+     */
+    public static byte[] of(String value, String language, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+
+        byte[] key = collator(language).getCollationKey(value).toByteArray();
+        return key.length > maxLength ? Arrays.copyOf(key, maxLength) : key;
+    }
+
+    /**
+     * Collators are not thread-safe; each call works on a clone of the cached per-language prototype,
+     * which shares the compiled rules and skips the expensive rule parsing.
+     */
+    private static Collator collator(String language) {
+        Collator prototype = COLLATORS.computeIfAbsent(language == null ? "" : language, key -> {
+            Collator collator = Collator.getInstance(key.isEmpty() ? Locale.ROOT : Locale.forLanguageTag(key));
+            collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+            return collator;
+        });
+        return (Collator) prototype.clone();
+    }
+}
@@ -0,0 +1,114 @@
+package com.localizedjpa.runtime;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the fallback locale used by generated code and {@link LocalizedSpecifications}.
+ *
+ * <p>Generated repository implementations and AST-injected entity methods are not Spring beans,
+ * so they cannot receive {@code LocalizedJpaProperties} through injection. This holder is
+ * configured once at startup by {@code LocalizedJpaAutoConfiguration} and read on every query.
+ *
+ * <p>Translation rows are keyed by language ({@link Locale#getLanguage()}), so the fallback
+ * is exposed both as a {@link Locale} and as its language key.
+ *
+ * <p>The generated getters of {@code @Localized(fallback = true)} fields walk a {@linkplain #chain(Locale)
+ * fallback chain}: the requested language, then the fallback language. Chains are precomputed for the
+ * supported locales and shared, so resolving one is a single map probe without allocation.
+ *
+ * <p>Until configured, the fallback is English - the same default as {@code localized-jpa.default-locale}.
+ */
+public final class LocaleFallback {
+
+    private static volatile Locale defaultLocale = Locale.ENGLISH;
+    private static volatile String defaultLanguage = Locale.ENGLISH.getLanguage();
+
+    /**
+     * Bounds the chains added for unsupported languages, e.g. from arbitrary request headers.
+     */
+    private static final int MAX_CHAINS = 256;
+
+    private static volatile Map<String, String[]> chains = new ConcurrentHashMap<>();
+
+    private LocaleFallback() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Sets the locale used when a translation is missing for the requested locale.
+     *
+     * @param locale The configured default locale
+     */
+    public static void configure(Locale locale) {
+        configure(locale, List.of());
+    }
+
+    /**
+     * Sets the locale used when a translation is missing for the requested locale and
+     * precomputes the fallback chains of the supported locales.
+     *
+     * @param locale The configured default locale
+     * @param supportedLocales The configured supported locales, empty if all are supported
+     */
+    public static synchronized void configure(Locale locale, Collection<Locale> supportedLocales) {
+        if (locale == null) {
+            throw new IllegalArgumentException("Fallback locale must not be null");
+        }
+        Map<String, String[]> configured = new ConcurrentHashMap<>();
+        String language = locale.getLanguage();
+        configured.put(language, new String[] {language});
+        for (Locale supportedLocale : supportedLocales) {
+            configured.computeIfAbsent(supportedLocale.getLanguage(), key -> chain(key, language));
+        }
+        defaultLanguage = language;
+        defaultLocale = locale;
+        chains = configured;
+    }
+
+    /**
+     * @return The configured fallback locale
+     */
+    public static Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    /**
+     * @return The language key of the fallback locale, as stored in the translation tables
+     */
+    public static String getDefaultLanguage() {
+        return defaultLanguage;
+    }
+
+    /**
+     * Returns the language keys to look up for a locale, in order: its language, then the
+     * fallback language unless they are the same. Called by the generated getters.
+     *
+     * <p>The returned array is shared by all callers and must not be modified.
+     *
+     * @param locale The requested locale
+     * @return The fallback chain of the locale's language
+     */
+    public static String[] chain(Locale locale) {
+        String language = locale.getLanguage();
+        Map<String, String[]> current = chains;
+        String[] chain = current.get(language);
+        if (chain == null) {
+            chain = chain(language, defaultLanguage);
+            if (current.size() < MAX_CHAINS) {
+                String[] existing = current.putIfAbsent(language, chain);
+                chain = existing != null ? existing : chain;
+            }
+        }
+        return chain;
+    }
+
+    private static String[] chain(String language, String fallbackLanguage) {
+        return language.equals(fallbackLanguage)
+            ? new String[] {language}
+            : new String[] {language, fallbackLanguage};
+    }
+}
@@ -0,0 +1,26 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores the locale of dictionary-encoded translation tables as its {@link LocaleRegistry} id.
+ *
+ * <p>Applied by the generated translation entity when {@code @TranslationTable(localeStorage = DICTIONARY)}
+ * is set. The entity keeps exposing the language key; locale parameters of queries and
+ * {@link LocalizedSpecifications} are converted as well, so the locale predicate compares
+ * {@code smallint} values.
+ */
+@Converter
+public class LocaleIdConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String language) {
+        return language == null ? null : LocaleRegistry.idOf(language);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short id) {
+        return id == null ? null : LocaleRegistry.languageOf(id);
+    }
+}
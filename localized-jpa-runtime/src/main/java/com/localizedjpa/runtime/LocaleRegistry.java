@@ -0,0 +1,97 @@
+package com.localizedjpa.runtime;
+
+import java.util.Map;
+
+/**
+ * In-memory copy of the locale registry table used by {@code LocaleStorage.DICTIONARY} translation tables.
+ *
+ * <p>The registry maps each language key to a small id, which is what dictionary-encoded translation
+ * tables store in their {@code smallint} locale column. It is loaded and seeded once at startup by the
+ * auto-configuration ({@code localized-jpa.locale-dictionary=true}) and read by {@link LocaleIdConverter}
+ * on every conversion.
+ *
+ * <p>The lookup state is a single array indexed by id, published through a volatile field, so reads
+ * take no lock. Applications use a few dozen locales at most; scanning that array for the
+ * language-to-id direction is cheaper than hashing.
+ */
+public final class LocaleRegistry {
+
+    /**
+     * Name of the registry table ({@code id smallint primary key, code varchar(10) unique}).
+     */
+    public static final String TABLE_NAME = "localized_jpa_locales";
+
+    private static volatile String[] languagesById;
+
+    private LocaleRegistry() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Replaces the registry contents.
+     *
+     * @param languages Language keys by id, as stored in the registry table
+     */
+    public static void configure(Map<Short, String> languages) {
+        int maxId = 0;
+        for (Short id : languages.keySet()) {
+            if (id < 1) {
+                throw new IllegalArgumentException("Locale ids must be positive: " + id);
+            }
+            maxId = Math.max(maxId, id);
+        }
+
+        String[] byId = new String[maxId + 1];
+        languages.forEach((id, language) -> byId[id] = language);
+        languagesById = byId;
+    }
+
+    /**
+     * @return true once the registry has been loaded
+     */
+    public static boolean isConfigured() {
+        return languagesById != null;
+    }
+
+    /**
+     * Returns the id of a language key.
+     *
+     * @param language The language key (e.g. "tr")
+     * @return The registered id
+     * @throws IllegalArgumentException if the language is not registered
+     */
+    public static short idOf(String language) {
+        String[] byId = requireConfigured();
+        for (int id = 1; id < byId.length; id++) {
+            if (language.equals(byId[id])) {
+                return (short) id;
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+            "Locale '%s' is not in the locale registry. Add it to localized-jpa.supported-locales.", language));
+    }
+
+    /**
+     * Returns the language key of an id.
+     *
+     * @param id The registered id
+     * @return The language key
+     * @throws IllegalArgumentException if the id is not registered
+     */
+    public static String languageOf(short id) {
+        String[] byId = requireConfigured();
+        if (id < 1 || id >= byId.length || byId[id] == null) {
+            throw new IllegalArgumentException("Unknown locale id: " + id);
+        }
+        return byId[id];
+    }
+
+    private static String[] requireConfigured() {
+        String[] byId = languagesById;
+        if (byId == null) {
+            throw new IllegalStateException(
+                "Locale registry is not initialized. Set localized-jpa.locale-dictionary=true.");
+        }
+        return byId;
+    }
+}
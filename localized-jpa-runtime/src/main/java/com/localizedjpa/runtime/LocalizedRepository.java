@@ -24,6 +24,34 @@ import org.springframework.data.repository.NoRepositoryBean;
  * List&lt;Product&gt; products = productRepository.findAll(spec);
  * </pre>
  *
+ * <p>Derived {@code findBy{Field}} methods on {@code @Localized} fields are implemented by the
+ * annotation processor. Besides {@code List}, {@code Page} and {@code Slice}, they may return a
+ * {@code Window} for keyset pagination ordered by the localized value and the id:
+ * <pre>
+ * Window&lt;Product&gt; findByNameStartingWith(String prefix, Locale locale, ScrollPosition position, Limit limit);
+ *
+ * Window&lt;Product&gt; window = repository.findByNameStartingWith("", locale, ScrollPosition.keyset(), Limit.of(50));
+ * ScrollPosition next = window.positionAt(window.size() - 1);
+ * </pre>
+ *
+ * <p>Instead of the entity, such finders may return a record, a DTO class or an interface whose
+ * properties name the id, entity attributes or localized fields. They select only those columns,
+ * with localized values of the requested locale (and fallback), so no entity is loaded:
+ * <pre>
+ * record ProductName(Long id, String name) {}
+ *
+ * List&lt;ProductName&gt; findByNameContaining(String keyword, Locale locale);
+ * </pre>
+ *
+ * <p>A {@code Stream} finder walks all matches through a forward-only cursor in constant memory;
+ * see {@link LocalizedStreams}. It must be consumed inside a transaction and closed:
+ * <pre>
+ * Stream&lt;Product&gt; findByNameStartingWith(String prefix, Locale locale);
+ * </pre>
+ *
+ * <p>Repositories that also extend {@link TranslationUpsertOperations} get {@code upsertTranslation},
+ * which writes translations with a single statement, without loading the entity or its translations.
+ *
  * @param <T> The entity type
  * @param <ID> The ID type
  */
@@ -0,0 +1,235 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for ordering localized entity queries by localized fields.
+ *
+ * <p>Localized fields are not columns of the entity table, so a {@link Sort} on them cannot be
+ * passed to Spring Data directly. The specifications built here order by the translation row of
+ * the requested locale instead, over a LEFT join restricted to that locale, so entities without a
+ * translation stay in the result. Orders on the same locale, and fallback filters of
+ * {@link LocalizedSpecifications}, share that join.
+ *
+ * <p>Example usage:
+ * <pre>
+ * Specification&lt;Product&gt; spec = LocalizedSpecifications.&lt;Product&gt;byLocalizedFieldContaining(
+ *         "name", "table", locale, ProductTranslation.class)
+ *     .and(LocalizedSort.orderBy(Sort.by("name", "price"), locale, ProductTranslation.class));
+ * Page&lt;Product&gt; page = productRepository.findAll(spec, PageRequest.of(0, 20));
+ * </pre>
+ *
+ * <p>The pageable passed alongside must be unsorted; the specification orders by localized and
+ * regular properties alike. Fields declared {@code @Localized(sortable = true)} are ordered by
+ * their collation-key column, in the linguistic order of the locale. Collation keys of different
+ * locales are not comparable, so with fallback such fields order the entities translated into the
+ * requested locale first and the fallback ones after them, each by its own locale's key.
+ */
+public final class LocalizedSort {
+
+    /**
+     * Alias of the entity in generated repository JPQL.
+     */
+    public static final String ENTITY_ALIAS = "e";
+
+    /**
+     * Alias of the requested locale's translation join in generated repository JPQL.
+     */
+    public static final String TRANSLATION_ALIAS = "t";
+
+    /**
+     * Alias of the fallback locale's translation join in generated repository JPQL.
+     */
+    public static final String FALLBACK_ALIAS = "f";
+
+    /**
+     * Suffix of the collation-key field of {@code @Localized(sortable = true)} fields.
+     */
+    private static final String SORT_KEY_SUFFIX = "Sort";
+
+    private static final Pattern PROPERTY_PATH = Pattern.compile("[\\p{L}_$][\\p{L}\\p{N}_$]*(\\.[\\p{L}_$][\\p{L}\\p{N}_$]*)*");
+
+    private LocalizedSort() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Creates a specification that orders by the given sort. Properties declared on the translation
+     * class are ordered by the requested locale's translation; all others by the entity's attribute.
+     *
+     * @param sort The sort to apply
+     * @param locale The locale whose translations define the order
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification that only contributes ordering
+     */
+    public static <T> Specification<T> orderBy(Sort sort, Locale locale, Class<?> translationClass) {
+        return orderBy(sort, locale, null, translationClass);
+    }
+
+    /**
+     * Creates a specification that orders localized properties by {@code COALESCE(requested, fallback)},
+     * the value the entity is presented with, using the default locale as fallback.
+     *
+     * @param sort The sort to apply
+     * @param locale The locale whose translations define the order
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification that only contributes ordering
+     * @see LocaleFallback
+     */
+    public static <T> Specification<T> orderByWithFallback(Sort sort, Locale locale, Class<?> translationClass) {
+        return orderByWithFallback(sort, locale, LocaleFallback.getDefaultLocale(), translationClass);
+    }
+
+    /**
+     * Creates a specification that orders localized properties by {@code COALESCE(requested, fallback)}
+     * with an explicit fallback locale.
+     *
+     * @param sort The sort to apply
+     * @param locale The locale whose translations define the order
+     * @param fallbackLocale The locale to use when the requested locale has no value
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification that only contributes ordering
+     */
+    public static <T> Specification<T> orderByWithFallback(Sort sort, Locale locale, Locale fallbackLocale,
+                                                           Class<?> translationClass) {
+        return orderBy(sort, locale, fallbackLocale, translationClass);
+    }
+
+    /**
+     * Appends an {@code ORDER BY} for the given sort to a generated repository query. Localized
+     * properties are ordered by their translation attribute on the join {@value #TRANSLATION_ALIAS}
+     * the query already filters on, or by {@code COALESCE(t.attribute, f.attribute)} when they are in
+     * {@code coalescedProperties}; all other properties by the entity alias {@value #ENTITY_ALIAS}.
+     * Coalesced collation keys are ordered by {@code t.key nulls last, f.key} instead, as keys of
+     * different locales are not comparable.
+     *
+     * @param jpql The query to order
+     * @param sort The sort to apply
+     * @param localizedProperties The entity's localized field names, mapped to the translation attribute
+     *                            they are ordered by (the field itself or its collation-key field)
+     * @param coalescedProperties The localized field names whose fallback join {@value #FALLBACK_ALIAS} is present
+     * @return The query, unchanged when the sort is unsorted
+     * @throws IllegalArgumentException if a sort property is not a plain property path
+     */
+    public static String applySorting(String jpql, Sort sort, Map<String, String> localizedProperties,
+                                      Set<String> coalescedProperties) {
+        if (sort.isUnsorted()) {
+            return jpql;
+        }
+
+        StringBuilder query = new StringBuilder(jpql);
+        query.append(jpql.contains(" order by ") ? ", " : " order by ");
+        boolean first = true;
+        for (Sort.Order order : sort) {
+            String property = checkedProperty(order.getProperty());
+            String attribute = localizedProperties.get(property);
+            boolean sortKey = attribute != null && !attribute.equals(property);
+            String expression;
+            if (attribute == null) {
+                expression = ENTITY_ALIAS + "." + property;
+            } else if (coalescedProperties.contains(property) && sortKey) {
+                // Collation keys of different locales do not compare: requested-locale rows first,
+                // each group in its own locale's order
+                query.append(first ? "" : ", ")
+                    .append(TRANSLATION_ALIAS).append(".").append(attribute)
+                    .append(order.isAscending() ? " asc" : " desc").append(" nulls last");
+                first = false;
+                expression = FALLBACK_ALIAS + "." + attribute;
+            } else if (coalescedProperties.contains(property)) {
+                expression = "coalesce(" + TRANSLATION_ALIAS + "." + attribute + ", "
+                    + FALLBACK_ALIAS + "." + attribute + ")";
+            } else {
+                expression = TRANSLATION_ALIAS + "." + attribute;
+            }
+            // Collation keys differ by case only at the tertiary level, so they need no lower()
+            boolean lower = order.isIgnoreCase() && !sortKey;
+
+            if (!first) {
+                query.append(", ");
+            }
+            first = false;
+            query.append(lower ? "lower(" + expression + ")" : expression)
+                .append(order.isAscending() ? " asc" : " desc");
+            switch (order.getNullHandling()) {
+                case NULLS_FIRST -> query.append(" nulls first");
+                case NULLS_LAST -> query.append(" nulls last");
+                default -> { }
+            }
+        }
+        return query.toString();
+    }
+
+    private static <T> Specification<T> orderBy(Sort sort, Locale locale, Locale fallbackLocale,
+                                                Class<?> translationClass) {
+        return (root, query, cb) -> {
+            if (sort.isSorted() && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                List<Order> orders = new ArrayList<>(query.getOrderList());
+                for (Sort.Order order : sort) {
+                    String property = order.getProperty();
+                    Expression<?> expression;
+                    boolean sortKey = false;
+                    if (hasField(translationClass, property + SORT_KEY_SUFFIX)) {
+                        expression = LocalizedSpecifications.localizedValue(
+                            root, cb, property + SORT_KEY_SUFFIX, locale, null);
+                        sortKey = true;
+                        if (fallbackLocale != null && !locale.getLanguage().equals(fallbackLocale.getLanguage())) {
+                            // Collation keys of different locales do not compare: requested-locale rows
+                            // first, then the fallback rows, each group in its own locale's order
+                            orders.add(cb.asc(cb.<Integer>selectCase().when(cb.isNull(expression), 1).otherwise(0)));
+                            orders.add(order.isAscending() ? cb.asc(expression) : cb.desc(expression));
+                            expression = LocalizedSpecifications.localizedValue(
+                                root, cb, property + SORT_KEY_SUFFIX, fallbackLocale, null);
+                        }
+                    } else if (hasField(translationClass, property)) {
+                        expression = LocalizedSpecifications.localizedValue(root, cb, property, locale, fallbackLocale);
+                    } else {
+                        expression = propertyPath(root, property);
+                    }
+                    if (order.isIgnoreCase() && !sortKey) {
+                        expression = cb.lower(expression.as(String.class));
+                    }
+                    orders.add(order.isAscending() ? cb.asc(expression) : cb.desc(expression));
+                }
+                query.orderBy(orders);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    private static boolean hasField(Class<?> translationClass, String property) {
+        for (Field field : translationClass.getDeclaredFields()) {
+            if (field.getName().equals(property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path<?> propertyPath(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String segment : checkedProperty(property).split("\\.")) {
+            path = path.get(segment);
+        }
+        return path;
+    }
+
+    private static String checkedProperty(String property) {
+        if (!PROPERTY_PATH.matcher(property).matches()) {
+            throw new IllegalArgumentException("Invalid sort property: " + property);
+        }
+        return property;
+    }
+}
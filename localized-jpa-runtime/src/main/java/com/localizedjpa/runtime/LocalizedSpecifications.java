@@ -9,7 +9,8 @@ import java.util.Locale;
  * Utility class for creating JPA Specifications for localized entity queries.
  * 
  * <p>These specifications enable locale-aware querying by joining the translations
- * table and filtering by locale.
+ * table and filtering by locale. Fallback specifications and {@link LocalizedSort} orders
+ * join it once per locale, with the locale in the join condition, and share that join.
  * 
  * <p>Example usage:
  * <pre>
@@ -83,13 +84,150 @@ public final class LocalizedSpecifications {
             
             Predicate fieldPredicate = cb.like(
                 cb.lower(translations.get(fieldName)), 
-                "%" + value.toLowerCase() + "%"
+                "%" + value.toLowerCase(locale) + "%"
             );
             
             return cb.and(localePredicate, fieldPredicate);
         };
     }
 
+    /**
+     * Creates a specification for exact match on a localized field, falling back to the
+     * default locale's value when the requested locale has no value.
+     *
+     * <p>Resolved in a single statement: the translations table is joined once per locale
+     * and the comparison is made against {@code COALESCE(requested.field, fallback.field)}.
+     *
+     * @param fieldName The name of the localized field
+     * @param value The value to match
+     * @param locale The locale to search in
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification for the query
+     * @see LocaleFallback
+     */
+    public static <T> Specification<T> byLocalizedFieldWithFallback(
+            String fieldName,
+            String value,
+            Locale locale,
+            Class<?> translationClass) {
+
+        return byLocalizedFieldWithFallback(fieldName, value, locale, LocaleFallback.getDefaultLocale(), translationClass);
+    }
+
+    /**
+     * Creates a specification for exact match on a localized field with an explicit fallback locale.
+     *
+     * @param fieldName The name of the localized field
+     * @param value The value to match
+     * @param locale The locale to search in
+     * @param fallbackLocale The locale to use when the requested locale has no value
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification for the query
+     */
+    public static <T> Specification<T> byLocalizedFieldWithFallback(
+            String fieldName,
+            String value,
+            Locale locale,
+            Locale fallbackLocale,
+            Class<?> translationClass) {
+
+        return (root, query, cb) -> cb.equal(
+            localizedValue(root, cb, fieldName, locale, fallbackLocale),
+            value
+        );
+    }
+
+    /**
+     * Creates a specification for partial (LIKE) match on a localized field, falling back to the
+     * default locale's value when the requested locale has no value.
+     *
+     * @param fieldName The name of the localized field
+     * @param value The value to search for (will be wrapped in %)
+     * @param locale The locale to search in
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification for the query
+     * @see LocaleFallback
+     */
+    public static <T> Specification<T> byLocalizedFieldContainingWithFallback(
+            String fieldName,
+            String value,
+            Locale locale,
+            Class<?> translationClass) {
+
+        return byLocalizedFieldContainingWithFallback(fieldName, value, locale, LocaleFallback.getDefaultLocale(), translationClass);
+    }
+
+    /**
+     * Creates a specification for partial (LIKE) match on a localized field with an explicit fallback locale.
+     *
+     * @param fieldName The name of the localized field
+     * @param value The value to search for (will be wrapped in %)
+     * @param locale The locale to search in
+     * @param fallbackLocale The locale to use when the requested locale has no value
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification for the query
+     */
+    public static <T> Specification<T> byLocalizedFieldContainingWithFallback(
+            String fieldName,
+            String value,
+            Locale locale,
+            Locale fallbackLocale,
+            Class<?> translationClass) {
+
+        return (root, query, cb) -> cb.like(
+            cb.lower(localizedValue(root, cb, fieldName, locale, fallbackLocale)),
+            "%" + value.toLowerCase(locale) + "%"
+        );
+    }
+
+    /**
+     * Creates a specification for partial match on the normalized search column of a
+     * {@code @Localized(searchable = true)} field.
+     *
+     * <p>The value is normalized with {@link SearchNormalizer}, so the comparison is case- and
+     * accent-insensitive without applying SQL functions to the column.
+     *
+     * @param fieldName The name of the localized field (not the search field)
+     * @param value The value to search for (will be wrapped in %)
+     * @param locale The locale to search in
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification for the query
+     */
+    public static <T> Specification<T> bySearchableFieldContaining(
+            String fieldName,
+            String value,
+            Locale locale,
+            Class<?> translationClass) {
+
+        return bySearchColumn(fieldName, "%" + SearchNormalizer.normalize(value, locale.getLanguage()) + "%", locale);
+    }
+
+    /**
+     * Creates a specification for prefix match on the normalized search column of a
+     * {@code @Localized(searchable = true)} field. Prefix matches can use the
+     * {@code (locale, field_search)} index generated for the search column.
+     *
+     * @param fieldName The name of the localized field (not the search field)
+     * @param value The prefix to search for
+     * @param locale The locale to search in
+     * @param translationClass The translation entity class
+     * @param <T> The entity type
+     * @return A specification for the query
+     */
+    public static <T> Specification<T> bySearchableFieldStartingWith(
+            String fieldName,
+            String value,
+            Locale locale,
+            Class<?> translationClass) {
+
+        return bySearchColumn(fieldName, SearchNormalizer.normalize(value, locale.getLanguage()) + "%", locale);
+    }
+
     /**
      * Creates a specification that eagerly fetches translations to avoid N+1 queries.
      *
@@ -118,4 +256,55 @@ public final class LocalizedSpecifications {
             return cb.equal(translations.get("locale"), locale.getLanguage());
         };
     }
+
+    /**
+     * Builds {@code COALESCE(requested.field, fallback.field)} over two locale-restricted joins.
+     * When both locales share a language, or no fallback is given, a single join is used.
+     */
+    static Expression<String> localizedValue(Root<?> root, CriteriaBuilder cb, String fieldName,
+                                             Locale locale, Locale fallbackLocale) {
+        Expression<String> value = translationJoin(root, cb, locale.getLanguage()).get(fieldName);
+
+        if (fallbackLocale == null || locale.getLanguage().equals(fallbackLocale.getLanguage())) {
+            return value;
+        }
+
+        return cb.coalesce(value, translationJoin(root, cb, fallbackLocale.getLanguage()).<String>get(fieldName));
+    }
+
+    /**
+     * Returns the translations join restricted to one language, creating it on first use.
+     *
+     * <p>The join is tagged with an alias per language, so fallback specifications and
+     * {@link LocalizedSort} orders on the same locale share one join instead of adding their own.
+     * A translation table holds at most one row per parent and locale, so sharing never changes
+     * which rows match. Filters that restrict the locale in the {@code WHERE} clause keep their own
+     * join, so their results under {@link Specification#not} are unchanged.
+     */
+    static Join<Object, Object> translationJoin(Root<?> root, CriteriaBuilder cb, String language) {
+        String alias = "translations_" + language;
+        for (Join<?, ?> join : root.getJoins()) {
+            if (alias.equals(join.getAlias())) {
+                @SuppressWarnings("unchecked")
+                Join<Object, Object> existing = (Join<Object, Object>) join;
+                return existing;
+            }
+        }
+
+        Join<Object, Object> translations = root.join("translations", JoinType.LEFT);
+        translations.alias(alias);
+        translations.on(cb.equal(translations.get("locale"), language));
+        return translations;
+    }
+
+    private static <T> Specification<T> bySearchColumn(String fieldName, String pattern, Locale locale) {
+        return (root, query, cb) -> {
+            Join<Object, Object> translations = root.join("translations", JoinType.LEFT);
+
+            return cb.and(
+                cb.equal(translations.get("locale"), locale.getLanguage()),
+                cb.like(translations.get(fieldName + "Search"), pattern)
+            );
+        };
+    }
 }
@@ -0,0 +1,183 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams query results through a forward-only Hibernate {@link ScrollableResults}.
+ *
+ * <p>Generated {@code Stream} finders use it to walk large result sets - exports, reindexing - in
+ * constant memory: rows are fetched from the JDBC cursor in batches of the fetch size, entities are
+ * loaded read-only, and every {@code clearInterval} elements the entities already streamed are
+ * detached together with their translations, so the persistence context does not grow with the
+ * result. Only the streamed entities are detached; other managed entities of the session are kept.
+ *
+ * <p>The returned stream holds an open cursor. It must be consumed inside a transaction and closed,
+ * preferably with try-with-resources:
+ * <pre>
+ * &#64;Transactional(readOnly = true)
+ * public void export(Locale locale) {
+ *     try (Stream&lt;Product&gt; products = productRepository.findByNameStartingWith("", locale)) {
+ *         products.forEach(writer::write);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>An element is only guaranteed to be managed until the next one is requested; do not keep
+ * entities from the stream to use lazy associations later.
+ *
+ * <p>Fetch size and clear interval default to {@value #DEFAULT_FETCH_SIZE} and are configured at
+ * startup by {@code LocalizedJpaAutoConfiguration} from {@code localized-jpa.stream-fetch-size}
+ * and {@code localized-jpa.stream-clear-interval}.
+ */
+public final class LocalizedStreams {
+
+    /**
+     * Default number of rows fetched per database round trip, and of entities kept managed.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private static volatile int fetchSize = DEFAULT_FETCH_SIZE;
+    private static volatile int clearInterval = DEFAULT_FETCH_SIZE;
+
+    private LocalizedStreams() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Sets the defaults used by generated {@code Stream} finders.
+     *
+     * @param fetchSize The JDBC fetch size of streaming queries
+     * @param clearInterval The number of streamed entities after which they are detached, or 0 to never detach
+     */
+    public static void configure(int fetchSize, int clearInterval) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Stream fetch size must be positive: " + fetchSize);
+        }
+        if (clearInterval < 0) {
+            throw new IllegalArgumentException("Stream clear interval must not be negative: " + clearInterval);
+        }
+        LocalizedStreams.fetchSize = fetchSize;
+        LocalizedStreams.clearInterval = clearInterval;
+    }
+
+    /**
+     * @return The configured JDBC fetch size of streaming queries
+     */
+    public static int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @return The configured number of streamed entities after which they are detached
+     */
+    public static int getClearInterval() {
+        return clearInterval;
+    }
+
+    /**
+     * Streams the results of a query with the configured fetch size and clear interval.
+     *
+     * @param entityManager The entity manager that created the query
+     * @param query The query to stream
+     * @param <T> The result type
+     * @return A sequential stream over the results, which must be closed
+     * @throws IllegalStateException if the entity manager is not joined to a transaction
+     */
+    public static <T> Stream<T> stream(EntityManager entityManager, TypedQuery<T> query) {
+        return stream(entityManager, query, fetchSize, clearInterval);
+    }
+
+    /**
+     * Streams the results of a query.
+     *
+     * @param entityManager The entity manager that created the query
+     * @param query The query to stream
+     * @param fetchSize The JDBC fetch size
+     * @param clearInterval The number of streamed entities after which they are detached, or 0 to never detach
+     * @param <T> The result type
+     * @return A sequential stream over the results, which must be closed
+     * @throws IllegalStateException if the entity manager is not joined to a transaction
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> stream(EntityManager entityManager, TypedQuery<T> query,
+                                       int fetchSize, int clearInterval) {
+        if (!entityManager.isJoinedToTransaction()) {
+            throw new IllegalStateException(
+                "Streaming queries keep a database cursor open and must run inside a transaction");
+        }
+
+        Query<T> hibernateQuery = query.unwrap(Query.class);
+        hibernateQuery.setFetchSize(fetchSize);
+        hibernateQuery.setReadOnly(true);
+        ScrollableResults<T> results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+
+        return StreamSupport.stream(new ScrollSpliterator<>(entityManager, results, clearInterval), false)
+            .onClose(results::close);
+    }
+
+    /**
+     * Advances the cursor one row per element and detaches streamed entities in batches.
+     */
+    private static final class ScrollSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final EntityManager entityManager;
+        private final ScrollableResults<T> results;
+        private final int clearInterval;
+        private final List<Object> streamed;
+        private Boolean entities;
+
+        ScrollSpliterator(EntityManager entityManager, ScrollableResults<T> results, int clearInterval) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.entityManager = entityManager;
+            this.results = results;
+            this.clearInterval = clearInterval;
+            this.streamed = new ArrayList<>(clearInterval);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            // The previous element has been consumed; detach the batch before loading the next one
+            if (clearInterval > 0 && streamed.size() >= clearInterval) {
+                for (Object element : streamed) {
+                    entityManager.detach(element);
+                }
+                streamed.clear();
+            }
+            if (!results.next()) {
+                results.close();
+                return false;
+            }
+
+            T element = results.get();
+            if (clearInterval > 0 && element != null && isEntity(element)) {
+                streamed.add(element);
+            }
+            action.accept(element);
+            return true;
+        }
+
+        /**
+         * Projections are not managed and need no detaching. Results of one query share their type,
+         * so the metamodel is consulted for the first element only.
+         */
+        private boolean isEntity(Object element) {
+            if (entities == null) {
+                entities = entityManager.getMetamodel().getEntities().stream()
+                    .anyMatch(entityType -> entityType.getJavaType().isInstance(element));
+            }
+            return entities;
+        }
+    }
+}
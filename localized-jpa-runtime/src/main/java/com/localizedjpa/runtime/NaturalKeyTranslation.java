@@ -0,0 +1,43 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * Base class for translation entities keyed by the natural pair {@code (parent_id, locale)}.
+ *
+ * <p>Generated for {@code @TranslationTable(idStrategy = COMPOSITE)}. The generated entity
+ * declares the parent association as the second {@code @Id} and a nested {@code Key} id class:
+ * <pre>
+ * {@literal @}Entity
+ * {@literal @}IdClass(ProductTranslation.Key.class)
+ * public class ProductTranslation extends NaturalKeyTranslation {
+ *     {@literal @}Id
+ *     {@literal @}ManyToOne(fetch = FetchType.LAZY)
+ *     {@literal @}JoinColumn(name = "product_id", nullable = false)
+ *     private Product parent;
+ *     // localized fields
+ * }
+ * </pre>
+ *
+ * <p>Compared to {@link BaseTranslation}, rows carry no surrogate id and the table has a
+ * single (primary key) index, which is also the index of the per-entity translation lookup.
+ */
+@MappedSuperclass
+public abstract class NaturalKeyTranslation extends AbstractTranslation {
+
+    @Id
+    @Column(name = "locale", nullable = false, length = 10)
+    private String locale;
+
+    @Override
+    public String getLocale() {
+        return locale;
+    }
+
+    @Override
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+}
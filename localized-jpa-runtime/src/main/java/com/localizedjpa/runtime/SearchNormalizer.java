@@ -0,0 +1,108 @@
+package com.localizedjpa.runtime;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalizes localized values for the search columns of {@code @Localized(searchable = true)} fields.
+ *
+ * <p>Values are case-folded with the translation's locale and accent-folded (decomposed, with
+ * combining marks removed), so {@code "İstanbul"}, {@code "ISTANBUL"} and {@code "istanbul"}
+ * all normalize to {@code "istanbul"} regardless of the JVM default locale. Letters that do
+ * not decompose ({@code ı}, {@code ß}, {@code ø}, ...) are mapped to their ASCII equivalents.
+ *
+ * <p>The same normalization is applied when the search column is written (generated translation
+ * entity) and to the query value (generated finders and {@link LocalizedSpecifications}),
+ * so comparisons run against the stored column without SQL functions.
+ */
+public final class SearchNormalizer {
+
+    private SearchNormalizer() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Normalizes a value for search.
+     *
+     * @param value The value to normalize (may be null)
+     * @param language The language key of the value's locale (e.g. "tr"), or null for root
+     * @return The normalized value, or null if value is null
+     */
+    public static String normalize(String value, String language) {
+        if (value == null) {
+            return null;
+        }
+
+        // Fast path: plain ASCII needs only case folding
+        if (isAscii(value)) {
+            return toLowerAscii(value);
+        }
+
+        Locale locale = language == null ? Locale.ROOT : Locale.forLanguageTag(language);
+        String decomposed = Normalizer.normalize(value.toLowerCase(locale), Normalizer.Form.NFD);
+
+        StringBuilder result = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            switch (Character.getType(c)) {
+                case Character.NON_SPACING_MARK, Character.COMBINING_SPACING_MARK, Character.ENCLOSING_MARK -> {
+                    // Accent - dropped
+                }
+                default -> appendFolded(result, c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Normalizes a value and truncates it to the search column's length.
+     *
+     * @param value The value to normalize (may be null)
+     * @param language The language key of the value's locale, or null for root
+     * @param maxLength The maximum length of the search column
+     * @return The normalized value, at most {@code maxLength} characters
+     */
+    public static String normalize(String value, String language, int maxLength) {
+        String normalized = normalize(value, language);
+        if (normalized != null && normalized.length() > maxLength) {
+            return normalized.substring(0, maxLength);
+        }
+        return normalized;
+    }
+
+    private static void appendFolded(StringBuilder result, char c) {
+        switch (c) {
+            case 'ı' -> result.append('i');
+            case 'ß' -> result.append("ss");
+            case 'ø' -> result.append('o');
+            case 'æ' -> result.append("ae");
+            case 'œ' -> result.append("oe");
+            case 'đ' -> result.append('d');
+            case 'ł' -> result.append('l');
+            default -> result.append(c);
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toLowerAscii(String value) {
+        char[] chars = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (chars == null) {
+                    chars = value.toCharArray();
+                }
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+        return chars == null ? value : new String(chars);
+    }
+}
@@ -0,0 +1,135 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.collection.CollectionPersister;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Enables the locale filter that the compiler defines on every generated translation entity.
+ *
+ * <p>Each translation entity carries a Hibernate {@code @FilterDef} named
+ * {@code localizedJpaLocales_<TranslationClass>} and the injected {@code translations}
+ * collection references it. While the filter is enabled on a session, initializing the
+ * collection loads only the rows of the active locales - the requested locale and the
+ * fallback locale - instead of every locale stored for the entity.
+ *
+ * <p>With the filter enabled, translations of other locales are not in the map. The generated
+ * setters therefore look up a locale missing from a filtered map with
+ * {@link #findFilteredOut(Map, String)} before creating a new row, so writing a non-active locale
+ * updates its existing row instead of violating the {@code (parent, locale)} unique constraint.
+ *
+ * <p>Usually enabled per request by the auto-configuration when
+ * {@code localized-jpa.filter-translations=true}.
+ */
+public final class TranslationFilter {
+
+    /**
+     * Prefix of the generated filter names.
+     */
+    public static final String NAME_PREFIX = "localizedJpaLocales_";
+
+    /**
+     * Name of the filter parameter holding the active language keys.
+     */
+    public static final String LOCALES_PARAMETER = "locales";
+
+    private TranslationFilter() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Enables every translation filter on the entity manager's session for the given locale
+     * and the configured fallback locale. Calling it again replaces the active locales.
+     *
+     * @param entityManager The entity manager to filter
+     * @param locale The requested locale
+     */
+    public static void enable(EntityManager entityManager, Locale locale) {
+        Session session = entityManager.unwrap(Session.class);
+        Set<String> languages = activeLanguages(locale);
+
+        for (String filterName : session.getSessionFactory().getDefinedFilterNames()) {
+            if (filterName.startsWith(NAME_PREFIX)) {
+                session.enableFilter(filterName).setParameterList(LOCALES_PARAMETER, languages);
+            }
+        }
+    }
+
+    /**
+     * Disables every translation filter on the entity manager's session,
+     * so that collections initialized afterwards contain all locales again.
+     *
+     * @param entityManager The entity manager to unfilter
+     */
+    public static void disable(EntityManager entityManager) {
+        Session session = entityManager.unwrap(Session.class);
+
+        for (String filterName : session.getSessionFactory().getDefinedFilterNames()) {
+            if (filterName.startsWith(NAME_PREFIX)) {
+                session.disableFilter(filterName);
+            }
+        }
+    }
+
+    /**
+     * Finds a translation the locale filter kept out of a loaded {@code translations} collection
+     * and adds it to the collection. Called by the generated setters when the requested locale
+     * is not in the map; does not query unless a translation filter is enabled on the session.
+     *
+     * @param translations The entity's {@code translations} collection
+     * @param language The language key of the locale being written
+     * @return The existing translation, now in the map, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AbstractTranslation> T findFilteredOut(Map<String, T> translations, String language) {
+        if (!(translations instanceof AbstractPersistentCollection<?> collection)
+            || !collection.wasInitialized() || collection.getOwner() == null || collection.getRole() == null) {
+            return null;
+        }
+        SharedSessionContractImplementor session = collection.getSession();
+        if (!(session instanceof Session hibernateSession)
+            || session.getLoadQueryInfluencers().getEnabledFilterNames().stream()
+                .noneMatch(filterName -> filterName.startsWith(NAME_PREFIX))) {
+            return null;
+        }
+        CollectionPersister persister = session.getFactory().getMappingMetamodel()
+            .getCollectionDescriptor(collection.getRole());
+        if (!(persister.getAttributeMapping().getElementDescriptor() instanceof EntityValuedModelPart element)) {
+            return null;
+        }
+        List<?> found = hibernateSession.createSelectionQuery("select t from "
+                + element.getEntityMappingType().getEntityName() + " t where t.parent = :parent and t.locale = :locale",
+                Object.class)
+            .setParameter("parent", collection.getOwner())
+            .setParameter("locale", language)
+            .setHibernateFlushMode(FlushMode.MANUAL)
+            .getResultList();
+        if (found.isEmpty()) {
+            return null;
+        }
+        T translation = (T) found.get(0);
+        translations.put(language, translation);
+        return translation;
+    }
+
+    /**
+     * @param locale The requested locale
+     * @return The language keys to load: the requested language followed by the fallback language
+     */
+    static Set<String> activeLanguages(Locale locale) {
+        Set<String> languages = new LinkedHashSet<>(2);
+        languages.add(locale.getLanguage());
+        languages.add(LocaleFallback.getDefaultLanguage());
+        return languages;
+    }
+}
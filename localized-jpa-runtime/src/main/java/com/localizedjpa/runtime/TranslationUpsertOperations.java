@@ -0,0 +1,51 @@
+package com.localizedjpa.runtime;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Opt-in repository fragment for writing translations with a single statement, without loading
+ * the entity or its translations, e.g. for translation tools saving many edits.
+ *
+ * <p>Add it next to {@link LocalizedRepository} on a repository whose entity declares
+ * {@code @Localized} fields; the annotation processor then implements it in the generated
+ * repository implementation:
+ * <pre>
+ * public interface ProductRepository extends LocalizedRepository&lt;Product, Long&gt;,
+ *         TranslationUpsertOperations&lt;Long&gt; {
+ * }
+ *
+ * productRepository.upsertTranslation(42L, Locale.forLanguageTag("tr"), "name", "Masa");
+ * </pre>
+ *
+ * <p>Compilation fails when the processor cannot implement it, so a repository never reaches
+ * Spring Data with an unimplemented {@code upsertTranslation}.
+ *
+ * @param <ID> The ID type
+ * @see com.localizedjpa.runtime.bulk.TranslationUpserts
+ */
+public interface TranslationUpsertOperations<ID> {
+
+    /**
+     * Inserts or updates one localized field of an entity in a locale, as a single
+     * {@code MERGE} or {@code INSERT ... ON CONFLICT} statement on the translation table.
+     * Implemented by the generated repository implementation; see
+     * {@link com.localizedjpa.runtime.bulk.TranslationUpserts TranslationUpserts}.
+     *
+     * @param id The entity id
+     * @param locale The locale to write
+     * @param field The name of the {@code @Localized} field
+     * @param value The value; null clears it
+     */
+    void upsertTranslation(ID id, Locale locale, String field, String value);
+
+    /**
+     * Inserts or updates several localized fields of an entity in a locale with one statement.
+     * Fields not in the map keep their values.
+     *
+     * @param id The entity id
+     * @param locale The locale to write
+     * @param values The values by {@code @Localized} field name; null clears a field
+     */
+    void upsertTranslation(ID id, Locale locale, Map<String, String> values);
+}
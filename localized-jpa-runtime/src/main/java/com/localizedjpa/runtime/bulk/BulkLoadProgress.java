@@ -0,0 +1,22 @@
+package com.localizedjpa.runtime.bulk;
+
+import java.time.Duration;
+
+/**
+ * Progress of a {@link TranslationBulkLoader} run, reported after every committed chunk.
+ *
+ * @param records The number of records read so far
+ * @param inserted The number of translation rows inserted so far
+ * @param updated The number of existing translation rows updated so far
+ * @param elapsed The time since the load started
+ */
+public record BulkLoadProgress(long records, long inserted, long updated, Duration elapsed) {
+
+    /**
+     * @return The number of records processed per second, or 0 before any time has elapsed
+     */
+    public double recordsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : records * 1_000_000_000d / nanos;
+    }
+}
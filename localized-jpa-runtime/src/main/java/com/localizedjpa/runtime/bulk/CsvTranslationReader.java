@@ -0,0 +1,218 @@
+package com.localizedjpa.runtime.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads {@link TranslationRecord}s from CSV, one line at a time.
+ *
+ * <p>The first line is a header naming the columns {@value #ENTITY_ID}, {@value #LOCALE},
+ * {@value #FIELD} and {@value #VALUE} in any order; other columns are ignored. Fields follow
+ * RFC 4180: a quoted field may contain delimiters, line breaks and doubled quotes. An empty
+ * unquoted value is read as an empty string.
+ * <pre>
+ * entity_id,locale,field,value
+ * 42,tr,name,"Masa, meşe"
+ * 42,de,name,Eichentisch
+ * </pre>
+ *
+ * <p>The stream reads lazily and closes the reader when it is closed.
+ */
+public final class CsvTranslationReader {
+
+    public static final String ENTITY_ID = "entity_id";
+    public static final String LOCALE = "locale";
+    public static final String FIELD = "field";
+    public static final String VALUE = "value";
+
+    private CsvTranslationReader() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Reads comma-separated records.
+     *
+     * @param reader The CSV source, including the header line
+     * @return The records, read as the stream is consumed
+     * @throws IllegalArgumentException if the header misses a required column
+     */
+    public static Stream<TranslationRecord> read(Reader reader) {
+        return read(reader, ',');
+    }
+
+    /**
+     * Reads records separated by the given delimiter, e.g. {@code ';'} or {@code '\t'}.
+     *
+     * @param reader The CSV source, including the header line
+     * @param delimiter The field delimiter
+     * @return The records, read as the stream is consumed
+     * @throws IllegalArgumentException if the header misses a required column
+     */
+    public static Stream<TranslationRecord> read(Reader reader, char delimiter) {
+        CsvParser parser = new CsvParser(reader, delimiter);
+        List<String> header = parser.next();
+        if (header == null) {
+            header = List.of();
+        }
+        int[] columns = {
+            column(header, ENTITY_ID), column(header, LOCALE), column(header, FIELD), column(header, VALUE)
+        };
+
+        Spliterator<TranslationRecord> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super TranslationRecord> action) {
+                List<String> fields = parser.next();
+                if (fields == null) {
+                    return false;
+                }
+                for (int column : columns) {
+                    if (column >= fields.size()) {
+                        throw new IllegalArgumentException("CSV line " + parser.line()
+                            + " has " + fields.size() + " fields, expected at least " + (column + 1));
+                    }
+                }
+                action.accept(new TranslationRecord(fields.get(columns[0]), fields.get(columns[1]),
+                    fields.get(columns[2]), fields.get(columns[3])));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(parser::close);
+    }
+
+    private static int column(List<String> header, String name) {
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheet exports often start with a byte order mark
+            String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            if (column.equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("CSV header " + header + " has no '" + name + "' column");
+    }
+
+    /**
+     * Splits the input into records of fields, skipping blank lines.
+     */
+    private static final class CsvParser {
+
+        private final Reader reader;
+        private final char delimiter;
+        private final StringBuilder field = new StringBuilder();
+        private int line;
+        private int pushedBack = -2;
+
+        CsvParser(Reader reader, char delimiter) {
+            this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+            this.delimiter = delimiter;
+        }
+
+        int line() {
+            return line;
+        }
+
+        /**
+         * @return The fields of the next record, or null at the end of the input
+         */
+        List<String> next() {
+            try {
+                List<String> fields = new ArrayList<>();
+                int c = read();
+                while (c == '\r' || c == '\n') {
+                    countLine(c);
+                    c = read();
+                }
+                if (c == -1) {
+                    return null;
+                }
+                line++;
+
+                while (true) {
+                    field.setLength(0);
+                    if (c == '"') {
+                        c = readQuoted();
+                    }
+                    while (c != delimiter && c != '\r' && c != '\n' && c != -1) {
+                        field.append((char) c);
+                        c = read();
+                    }
+                    fields.add(field.toString());
+                    if (c == delimiter) {
+                        c = read();
+                        continue;
+                    }
+                    if (c == '\r') {
+                        int n = read();
+                        if (n != '\n') {
+                            pushedBack = n;
+                        }
+                    }
+                    return fields;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Reads a quoted field after its opening quote.
+         *
+         * @return The character after the closing quote
+         */
+        private int readQuoted() throws IOException {
+            int startLine = line;
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on CSV line " + startLine);
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        return n;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            }
+        }
+
+        private void countLine(int c) throws IOException {
+            line++;
+            if (c == '\r') {
+                int n = read();
+                if (n != '\n') {
+                    pushedBack = n;
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import com.localizedjpa.runtime.cache.TranslationCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Imports translations straight into a generated {@code *_translations} table.
+ *
+ * <p>Setting values through the entity ({@code product.setName(value, locale)} and {@code save})
+ * loads every parent, initializes its translations map and flushes rows one by one. This loader
+ * instead writes rows with JDBC batches on a Hibernate {@link StatelessSession}, without loading
+ * parent entities or holding anything in a persistence context:
+ * <ol>
+ *   <li>Records are read in batches of {@code batchSize}. Records for the same entity and
+ *       language are merged into one row; the last value of a field wins.</li>
+ *   <li>One query per language finds the rows of the batch that already exist.</li>
+ *   <li>Existing rows are updated and missing rows inserted, each as a single JDBC batch.
+ *       Only the imported fields and their derived search and sort columns are written;
+ *       other fields of an existing row keep their values.</li>
+ *   <li>The transaction is committed every {@code commitInterval} records, and progress is
+ *       reported to the listener after each commit.</li>
+ * </ol>
+ *
+ * <p>Each row's values come from the generated translation entity's setters, so search and
+ * sort-key columns are filled exactly as for rows written through the entity.
+ *
+ * <p>Example usage:
+ * <pre>
+ * TranslationBulkLoader loader = new TranslationBulkLoader(entityManagerFactory);
+ * try (Stream&lt;TranslationRecord&gt; records = CsvTranslationReader.read(Files.newBufferedReader(path))) {
+ *     BulkLoadProgress result = loader.load(ProductTranslation.class, records,
+ *         progress -&gt; log.info("{} records, {}/s", progress.records(), progress.recordsPerSecond()));
+ * }
+ * </pre>
+ *
+ * <p>The loader runs its own transactions, independent of any surrounding Spring transaction.
+ * Chunks committed before a failure stay committed; an import can safely be re-run since rows
+ * are upserted. Parents must exist. Entities loaded before the import do not see the new values;
+ * second-level cache regions of the translation entity and the parent's {@code translations}
+ * collection, and the {@link TranslationCache} entries of the entity type, are evicted once the
+ * import ends. Concurrent writers of the same rows are not coordinated.
+ */
+public class TranslationBulkLoader {
+
+    /**
+     * Default number of records per JDBC batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Default number of records per transaction.
+     */
+    public static final int DEFAULT_COMMIT_INTERVAL = 10_000;
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationBulkLoader.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final int batchSize;
+    private final int commitInterval;
+
+    /**
+     * Creates a loader with the default batch size and commit interval.
+     *
+     * @param entityManagerFactory The entity manager factory mapping the translation entities
+     */
+    public TranslationBulkLoader(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, DEFAULT_BATCH_SIZE, DEFAULT_COMMIT_INTERVAL);
+    }
+
+    /**
+     * @param entityManagerFactory The entity manager factory mapping the translation entities
+     * @param batchSize The number of records per JDBC batch
+     * @param commitInterval The number of records per transaction; rounded up to whole batches
+     */
+    public TranslationBulkLoader(EntityManagerFactory entityManagerFactory, int batchSize, int commitInterval) {
+        if (batchSize <= 0 || commitInterval <= 0) {
+            throw new IllegalArgumentException("Batch size and commit interval must be positive");
+        }
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Upserts the records into the translation table.
+     *
+     * @param translationClass The generated translation entity class, e.g. {@code ProductTranslation}
+     * @param records The records to import
+     * @return The final progress
+     */
+    public BulkLoadProgress load(Class<?> translationClass, Stream<TranslationRecord> records) {
+        return load(translationClass, records, progress -> { });
+    }
+
+    /**
+     * Upserts the records into the translation table, reporting progress after every commit.
+     *
+     * @param translationClass The generated translation entity class, e.g. {@code ProductTranslation}
+     * @param records The records to import
+     * @param progressListener Called after every committed chunk
+     * @return The final progress
+     * @throws IllegalArgumentException if the class is not a translation entity or a record names
+     *                                  a field that is not localized
+     */
+    public BulkLoadProgress load(Class<?> translationClass, Stream<TranslationRecord> records,
+                                 Consumer<BulkLoadProgress> progressListener) {
+        TranslationTableMapping mapping = TranslationTableMapping.of(sessionFactory, translationClass);
+        long start = System.nanoTime();
+        long[] counts = new long[3]; // records, inserted, updated
+        long uncommitted = 0;
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+            BatchWriter writer = new BatchWriter(mapping, sessionImplementor);
+            Transaction transaction = session.beginTransaction();
+            try {
+                Iterator<TranslationRecord> iterator = records.iterator();
+                List<TranslationRecord> batch = new ArrayList<>(batchSize);
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() == batchSize || !iterator.hasNext()) {
+                        List<TranslationRecord> current = batch;
+                        session.doWork(connection -> writer.write(connection, current, counts));
+                        counts[0] += batch.size();
+                        uncommitted += batch.size();
+                        batch = new ArrayList<>(batchSize);
+
+                        if (uncommitted >= commitInterval || !iterator.hasNext()) {
+                            transaction.commit();
+                            uncommitted = 0;
+                            BulkLoadProgress progress = progress(counts, start);
+                            log.debug("Committed {} translation records into {} ({} records/s)",
+                                progress.records(), mapping.table(), (long) progress.recordsPerSecond());
+                            progressListener.accept(progress);
+                            transaction = session.beginTransaction();
+                        }
+                    }
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            } finally {
+                evictCaches(mapping, sessionImplementor);
+            }
+        }
+
+        BulkLoadProgress result = progress(counts, start);
+        log.info("Loaded {} translation records into {}: {} inserted, {} updated in {} ms ({} records/s)",
+            result.records(), mapping.table(), result.inserted(), result.updated(),
+            result.elapsed().toMillis(), (long) result.recordsPerSecond());
+        return result;
+    }
+
+    /**
+     * Evicts the cached translations of every entity and invalidates cached queries over the table,
+     * since committed chunks may have changed any of them.
+     */
+    private void evictCaches(TranslationTableMapping mapping, SharedSessionContractImplementor session) {
+        if (mapping.persister().canWriteToCache()) {
+            sessionFactory.getCache().evictEntityData(mapping.persister().getEntityName());
+        }
+        if (mapping.translationsRole() != null) {
+            sessionFactory.getCache().evictCollectionData(mapping.translationsRole());
+        }
+        if (mapping.parentEntityName() != null) {
+            TranslationCache.evictAll(mapping.parentEntityName());
+        }
+        if (sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            String[] spaces = Arrays.stream(mapping.persister().getQuerySpaces())
+                .map(String.class::cast)
+                .toArray(String[]::new);
+            sessionFactory.getCache().getTimestampsCache().invalidate(spaces, session);
+        }
+    }
+
+    private static BulkLoadProgress progress(long[] counts, long start) {
+        return new BulkLoadProgress(counts[0], counts[1], counts[2], Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Key of a translation row.
+     */
+    private record RowKey(Object parentId, String language) {
+    }
+
+    /**
+     * Writes one batch of records as at most one existence query per language,
+     * one update batch and one insert batch per combination of imported fields.
+     */
+    private static final class BatchWriter {
+
+        private final TranslationTableMapping mapping;
+        private final SharedSessionContractImplementor session;
+        private final Map<List<String>, String> updateStatements = new HashMap<>();
+        private final Map<List<String>, String> insertStatements = new HashMap<>();
+
+        BatchWriter(TranslationTableMapping mapping, SharedSessionContractImplementor session) {
+            this.mapping = mapping;
+            this.session = session;
+        }
+
+        void write(Connection connection, List<TranslationRecord> records, long[] counts) throws SQLException {
+            Map<RowKey, Map<String, String>> rows = new LinkedHashMap<>();
+            for (TranslationRecord record : records) {
+                mapping.columns(record.field());
+                RowKey key = new RowKey(mapping.parentId(record.entityId(), session),
+                    Locale.forLanguageTag(record.locale()).getLanguage());
+                rows.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(record.field(), record.value());
+            }
+
+            Set<RowKey> existing = findExisting(connection, rows.keySet());
+            Map<List<String>, List<RowKey>> updates = new LinkedHashMap<>();
+            Map<List<String>, List<RowKey>> inserts = new LinkedHashMap<>();
+            for (Map.Entry<RowKey, Map<String, String>> row : rows.entrySet()) {
+                List<String> fields = List.copyOf(row.getValue().keySet());
+                (existing.contains(row.getKey()) ? updates : inserts)
+                    .computeIfAbsent(fields, k -> new ArrayList<>()).add(row.getKey());
+            }
+
+            for (Map.Entry<List<String>, List<RowKey>> group : updates.entrySet()) {
+                update(connection, group.getKey(), group.getValue(), rows);
+                counts[2] += group.getValue().size();
+            }
+            for (Map.Entry<List<String>, List<RowKey>> group : inserts.entrySet()) {
+                insert(connection, group.getKey(), group.getValue(), rows);
+                counts[1] += group.getValue().size();
+            }
+        }
+
+        private Set<RowKey> findExisting(Connection connection, Set<RowKey> keys) throws SQLException {
+            Map<String, List<Object>> parentIdsByLanguage = new LinkedHashMap<>();
+            for (RowKey key : keys) {
+                parentIdsByLanguage.computeIfAbsent(key.language(), k -> new ArrayList<>()).add(key.parentId());
+            }
+
+            Set<RowKey> existing = new HashSet<>();
+            for (Map.Entry<String, List<Object>> group : parentIdsByLanguage.entrySet()) {
+                List<Object> parentIds = group.getValue();
+                String sql = "select " + mapping.parentColumn() + " from " + mapping.table()
+                    + " where " + mapping.localeColumn() + " = ? and " + mapping.parentColumn()
+                    + " in (" + String.join(", ", Collections.nCopies(parentIds.size(), "?")) + ")";
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    mapping.bindLocale(statement, 1, group.getKey(), session);
+                    for (int i = 0; i < parentIds.size(); i++) {
+                        mapping.bindParent(statement, i + 2, parentIds.get(i), session);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            existing.add(new RowKey(mapping.extractParent(resultSet, 1, session), group.getKey()));
+                        }
+                    }
+                }
+            }
+            return existing;
+        }
+
+        private void update(Connection connection, List<String> fields, List<RowKey> keys,
+                            Map<RowKey, Map<String, String>> rows) throws SQLException {
+            String sql = updateStatements.computeIfAbsent(fields, k -> {
+                List<String> assignments = new ArrayList<>();
+                for (String field : fields) {
+                    for (TranslationTableMapping.Column column : mapping.columns(field)) {
+                        assignments.add(column.name() + " = ?");
+                    }
+                }
+                return "update " + mapping.table() + " set " + String.join(", ", assignments)
+                    + " where " + mapping.parentColumn() + " = ? and " + mapping.localeColumn() + " = ?";
+            });
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (RowKey key : keys) {
+                    AbstractTranslation translation = mapping.translation(key.language(), rows.get(key));
+                    int index = bindColumns(statement, 1, fields, translation);
+                    mapping.bindParent(statement, index++, key.parentId(), session);
+                    mapping.bindLocale(statement, index, key.language(), session);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        private void insert(Connection connection, List<String> fields, List<RowKey> keys,
+                            Map<RowKey, Map<String, String>> rows) throws SQLException {
+            String sql = insertStatements.computeIfAbsent(fields, k -> {
+                List<String> columns = new ArrayList<>();
+                if (mapping.idColumn() != null) {
+                    columns.add(mapping.idColumn());
+                }
+                columns.add(mapping.parentColumn());
+                columns.add(mapping.localeColumn());
+                for (String field : fields) {
+                    for (TranslationTableMapping.Column column : mapping.columns(field)) {
+                        columns.add(column.name());
+                    }
+                }
+                return "insert into " + mapping.table() + " (" + String.join(", ", columns) + ") values ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+            });
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (RowKey key : keys) {
+                    AbstractTranslation translation = mapping.translation(key.language(), rows.get(key));
+                    int index = 1;
+                    if (mapping.idColumn() != null) {
+                        mapping.bindId(statement, index++, mapping.generateId(session), session);
+                    }
+                    mapping.bindParent(statement, index++, key.parentId(), session);
+                    mapping.bindLocale(statement, index++, key.language(), session);
+                    bindColumns(statement, index, fields, translation);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        private int bindColumns(PreparedStatement statement, int index, List<String> fields,
+                                AbstractTranslation translation) throws SQLException {
+            for (String field : fields) {
+                for (TranslationTableMapping.Column column : mapping.columns(field)) {
+                    mapping.bindColumn(column, statement, index++, translation, session);
+                }
+            }
+            return index;
+        }
+    }
+}
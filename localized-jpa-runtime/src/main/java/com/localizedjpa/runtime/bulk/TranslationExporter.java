@@ -0,0 +1,417 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.LocaleFallback;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exports all values of one locale from a generated {@code *_translations} table.
+ *
+ * <p>Loading every entity with {@code findAll} and calling {@code getName(locale)} reads the
+ * table on a single connection and holds the entities in a persistence context. This exporter
+ * reads the table with plain JDBC instead, in parallel:
+ * <ol>
+ *   <li>The table is split into ranges of the parent id, {@code parallelism * 4} of them
+ *       between the smallest and the largest id. Tables with non-integer parent ids are read
+ *       as one range.</li>
+ *   <li>Up to {@code parallelism} ranges are read at the same time, each on its own
+ *       {@link StatelessSession} with a read-only connection and a JDBC fetch size of
+ *       {@value #FETCH_SIZE}, ordered by the parent id so the range scan uses the parent index.</li>
+ *   <li>Rows are formatted on the reading threads and handed to the calling thread through a
+ *       small bounded queue per range. The calling thread writes the ranges in order, so the
+ *       output is sorted by entity id and only a few thousand rows are in memory at any time.
+ *       A reader that gets ahead waits for the writer.</li>
+ * </ol>
+ *
+ * <p>Example usage:
+ * <pre>
+ * try (Writer out = Files.newBufferedWriter(Path.of("products-tr.xlf"))) {
+ *     new TranslationExporter(entityManagerFactory)
+ *         .export(ProductTranslation.class, Locale.forLanguageTag("tr"), TranslationFormat.XLIFF, out);
+ * }
+ * </pre>
+ *
+ * <p>By default each export runs on a fixed pool of {@code parallelism} platform threads. Another
+ * executor can be passed instead, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()} on
+ * Java 21; the exporter still runs at most {@code parallelism} ranges at once. Every range
+ * being read holds a pooled connection, so {@code parallelism} should stay well below the
+ * connection pool size. Ranges are read in separate transactions, so rows written during an
+ * export may or may not be included.
+ */
+public class TranslationExporter {
+
+    /**
+     * Number of rows fetched per database round trip.
+     */
+    static final int FETCH_SIZE = 1000;
+
+    private static final int RANGES_PER_THREAD = 4;
+    private static final int CHUNK_SIZE = 256;
+    private static final int CHUNKS_PER_RANGE = 4;
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationExporter.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Creates an exporter reading one range per available processor at a time.
+     *
+     * @param entityManagerFactory The entity manager factory mapping the translation entities
+     */
+    public TranslationExporter(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param entityManagerFactory The entity manager factory mapping the translation entities
+     * @param parallelism The number of ranges read at the same time
+     */
+    public TranslationExporter(EntityManagerFactory entityManagerFactory, int parallelism) {
+        this(entityManagerFactory, null, parallelism);
+    }
+
+    /**
+     * @param entityManagerFactory The entity manager factory mapping the translation entities
+     * @param executor Runs the range readers, or null for a fixed pool per export
+     * @param parallelism The number of ranges read at the same time
+     */
+    public TranslationExporter(EntityManagerFactory entityManagerFactory, Executor executor, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Writes all values of the locale in the given format. The writer is flushed, not closed.
+     *
+     * @param translationClass The generated translation entity class, e.g. {@code ProductTranslation}
+     * @param locale The locale to export; only its language is used
+     * @param format The output format
+     * @param out The output
+     * @return The number of exported values
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the class is not a translation entity
+     * @throws IllegalStateException if reading a range fails
+     */
+    public long export(Class<?> translationClass, Locale locale, TranslationFormat format, Writer out)
+            throws IOException {
+        TranslationTableMapping mapping = TranslationTableMapping.of(sessionFactory, translationClass);
+        String language = locale.getLanguage();
+        String sourceLanguage = format.needsSource() ? LocaleFallback.getDefaultLanguage() : null;
+        long start = System.nanoTime();
+
+        List<Range> ranges = ranges(mapping);
+        List<RangeReader> readers = new ArrayList<>(ranges.size());
+        for (Range range : ranges) {
+            readers.add(new RangeReader(mapping, range, format, language, sourceLanguage));
+        }
+
+        ExecutorService pool = executor == null ? Executors.newFixedThreadPool(parallelism, new ExportThreads()) : null;
+        List<CompletableFuture<Void>> started = new ArrayList<>(readers.size());
+        long exported = 0;
+        try {
+            out.write(format.header(mapping.table(), sourceLanguage, language));
+            for (int i = 0; i < readers.size(); i++) {
+                // A range is started only once the ranges before it leave a slot, so the range
+                // being written is always running even on an executor without a thread limit
+                while (started.size() < readers.size() && started.size() < i + parallelism) {
+                    started.add(CompletableFuture.runAsync(readers.get(started.size()), pool != null ? pool : executor));
+                }
+                exported = readers.get(i).drainTo(out, exported);
+            }
+            out.write(format.footer());
+            out.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Export of " + mapping.table() + " was interrupted", e);
+        } finally {
+            readers.forEach(RangeReader::cancel);
+            for (CompletableFuture<Void> reader : started) {
+                try {
+                    reader.join();
+                } catch (RuntimeException e) {
+                    // Already reported through the range's queue
+                }
+            }
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        log.info("Exported {} '{}' values from {} in {} ranges in {} ms", exported, language, mapping.table(),
+            ranges.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return exported;
+    }
+
+    /**
+     * Splits the table into parent id ranges of equal width.
+     */
+    private List<Range> ranges(TranslationTableMapping mapping) {
+        if (!mapping.hasIntegralParentKey()) {
+            return List.of(new Range(null, null));
+        }
+        long[] bounds = new long[2];
+        boolean[] empty = new boolean[1];
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement("select min(" + mapping.parentColumn()
+                        + "), max(" + mapping.parentColumn() + ") from " + mapping.table());
+                     ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    bounds[0] = resultSet.getLong(1);
+                    empty[0] = resultSet.wasNull();
+                    bounds[1] = resultSet.getLong(2);
+                }
+            });
+        }
+        if (empty[0]) {
+            return List.of();
+        }
+
+        long min = bounds[0];
+        long max = bounds[1];
+        long span = max - min;
+        if (span < 0) {
+            return List.of(new Range(null, null));
+        }
+        long count = Math.min((long) parallelism * RANGES_PER_THREAD, span + 1);
+        long width = span / count + 1;
+        List<Range> ranges = new ArrayList<>();
+        for (long from = min; from <= max && from >= min; from += width) {
+            ranges.add(new Range(from, Math.min(from + width - 1, max)));
+        }
+        return ranges;
+    }
+
+    /**
+     * An inclusive parent id range; null bounds select the whole table.
+     */
+    private record Range(Long from, Long to) {
+    }
+
+    /**
+     * A range reader's failure, handed to the writing thread.
+     */
+    private record Failure(Throwable cause) {
+    }
+
+    /**
+     * Reads one range and queues its formatted rows in chunks, ending with {@link #END}.
+     */
+    private final class RangeReader implements Runnable {
+
+        private static final List<String> END = List.of();
+
+        private final TranslationTableMapping mapping;
+        private final Range range;
+        private final TranslationFormat format;
+        private final String language;
+        private final String sourceLanguage;
+        private final List<String> fields;
+        private final BlockingQueue<Object> chunks = new ArrayBlockingQueue<>(CHUNKS_PER_RANGE);
+        private volatile boolean cancelled;
+        private List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        RangeReader(TranslationTableMapping mapping, Range range, TranslationFormat format,
+                    String language, String sourceLanguage) {
+            this.mapping = mapping;
+            this.range = range;
+            this.format = format;
+            this.language = language;
+            this.sourceLanguage = sourceLanguage;
+            this.fields = mapping.fields();
+        }
+
+        @Override
+        public void run() {
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                session.doWork(connection -> read(connection, (SharedSessionContractImplementor) session));
+                put(END);
+            } catch (CancellationException e) {
+                // The writer stopped
+            } catch (RuntimeException | Error e) {
+                try {
+                    put(new Failure(e));
+                } catch (CancellationException ignored) {
+                    // The writer stopped
+                }
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Writes the range's rows as they arrive.
+         *
+         * @return The number of rows written so far, including this range
+         */
+        long drainTo(Writer out, long written) throws IOException, InterruptedException {
+            while (true) {
+                Object next = chunks.take();
+                if (next instanceof Failure failure) {
+                    throw new IllegalStateException("Cannot export " + mapping.table() + " for parent ids "
+                        + (range.from() == null ? "all" : range.from() + ".." + range.to())
+                        + ": " + failure.cause().getMessage(), failure.cause());
+                }
+                List<?> rows = (List<?>) next;
+                if (rows == END) {
+                    return written;
+                }
+                for (Object row : rows) {
+                    if (written++ > 0) {
+                        out.write(format.separator());
+                    }
+                    out.write((String) row);
+                }
+            }
+        }
+
+        private void read(Connection connection, SharedSessionContractImplementor session) throws SQLException {
+            boolean readOnly = connection.isReadOnly();
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setReadOnly(true);
+            // Some drivers, e.g. PostgreSQL, only stream with a fetch size inside a transaction
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql())) {
+                statement.setFetchSize(FETCH_SIZE);
+                int index = 1;
+                mapping.bindLocale(statement, index++, language, session);
+                if (sourceLanguage != null) {
+                    mapping.bindLocale(statement, index++, sourceLanguage, session);
+                }
+                if (range.from() != null) {
+                    mapping.bindParent(statement, index++, mapping.parentId(range.from(), session), session);
+                    mapping.bindParent(statement, index, mapping.parentId(range.to(), session), session);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    Object parentId = null;
+                    String[] values = null;
+                    String[] sources = null;
+                    while (resultSet.next()) {
+                        Object rowParentId = mapping.extractParent(resultSet, 1, session);
+                        if (!rowParentId.equals(parentId)) {
+                            addRows(parentId, values, sources);
+                            parentId = rowParentId;
+                            values = null;
+                            sources = null;
+                        }
+                        String rowLanguage = mapping.extractLocale(resultSet, 2, session);
+                        String[] row = new String[fields.size()];
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = mapping.extractField(fields.get(i), resultSet, i + 3, session);
+                        }
+                        if (rowLanguage.equals(language)) {
+                            values = row;
+                        }
+                        if (rowLanguage.equals(sourceLanguage)) {
+                            sources = row;
+                        }
+                    }
+                    addRows(parentId, values, sources);
+                }
+                if (!chunk.isEmpty()) {
+                    put(chunk);
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+                connection.setReadOnly(readOnly);
+            }
+        }
+
+        private String sql() {
+            StringBuilder sql = new StringBuilder("select ").append(mapping.parentColumn())
+                .append(", ").append(mapping.localeColumn());
+            for (String field : fields) {
+                sql.append(", ").append(mapping.columns(field).get(0).name());
+            }
+            sql.append(" from ").append(mapping.table()).append(" where ").append(mapping.localeColumn())
+                .append(sourceLanguage == null ? " = ?" : " in (?, ?)");
+            if (range.from() != null) {
+                sql.append(" and ").append(mapping.parentColumn()).append(" between ? and ?");
+            }
+            return sql.append(" order by ").append(mapping.parentColumn()).toString();
+        }
+
+        private void addRows(Object parentId, String[] values, String[] sources) {
+            if (parentId == null) {
+                return;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                String row = format.row(parentId, language, fields.get(i),
+                    values == null ? null : values[i], sources == null ? null : sources[i]);
+                if (row != null) {
+                    chunk.add(row);
+                }
+            }
+            if (chunk.size() >= CHUNK_SIZE) {
+                put(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+
+        /**
+         * Queues an item, waiting while the writer is busy with earlier ranges.
+         *
+         * @throws CancellationException if the writer stopped
+         */
+        private void put(Object item) {
+            try {
+                while (!chunks.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    if (cancelled) {
+                        throw new CancellationException();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+    }
+
+    /**
+     * Daemon threads named {@code localized-jpa-export-N}.
+     */
+    private static final class ExportThreads implements ThreadFactory {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "localized-jpa-export-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.localizedjpa.runtime.bulk;
+
+/**
+ * Output formats of {@link TranslationExporter}. Each is readable by the matching reader, so an
+ * export can be sent to translators and loaded back with {@link TranslationBulkLoader}.
+ */
+public enum TranslationFormat {
+
+    /**
+     * RFC 4180 CSV with the header {@code entity_id,locale,field,value}, as read by
+     * {@link CsvTranslationReader}. Values are quoted when they contain a comma, a quote or a
+     * line break. Null values are not exported.
+     */
+    CSV {
+        @Override
+        String header(String table, String sourceLanguage, String language) {
+            return "entity_id,locale,field,value\r\n";
+        }
+
+        @Override
+        String row(Object entityId, String language, String field, String value, String source) {
+            if (value == null) {
+                return null;
+            }
+            return csv(String.valueOf(entityId)) + ',' + language + ',' + field + ',' + csv(value) + "\r\n";
+        }
+    },
+
+    /**
+     * A JSON array of {@code {"entityId", "locale", "field", "value"}} objects, one per line.
+     * Numeric entity ids are written as numbers. Null values are not exported.
+     */
+    JSON {
+        @Override
+        String header(String table, String sourceLanguage, String language) {
+            return "[\n";
+        }
+
+        @Override
+        String separator() {
+            return ",\n";
+        }
+
+        @Override
+        String row(Object entityId, String language, String field, String value, String source) {
+            if (value == null) {
+                return null;
+            }
+            return "{\"entityId\":" + (entityId instanceof Number ? entityId.toString() : json(String.valueOf(entityId)))
+                + ",\"locale\":" + json(language) + ",\"field\":" + json(field) + ",\"value\":" + json(value) + '}';
+        }
+
+        @Override
+        String footer() {
+            return "\n]\n";
+        }
+    },
+
+    /**
+     * An XLIFF 2.0 document with one {@code <file>} named after the table and one
+     * {@code <unit id="{entityId}.{field}">} per value, as read by {@link XliffTranslationReader}.
+     * The source text is the value in the default locale of {@code LocaleFallback}; the
+     * target is omitted where the exported locale has no value yet.
+     */
+    XLIFF {
+        @Override
+        boolean needsSource() {
+            return true;
+        }
+
+        @Override
+        String header(String table, String sourceLanguage, String language) {
+            return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<xliff version=\"2.0\" xmlns=\"urn:oasis:names:tc:xliff:document:2.0\" srcLang=\""
+                + xml(sourceLanguage) + "\" trgLang=\"" + xml(language) + "\">\n"
+                + "  <file id=\"" + xml(table) + "\">\n";
+        }
+
+        @Override
+        String row(Object entityId, String language, String field, String value, String source) {
+            if (value == null && source == null) {
+                return null;
+            }
+            return "    <unit id=\"" + xml(entityId + "." + field) + "\"><segment><source>"
+                + (source == null ? "" : xml(source)) + "</source>"
+                + (value == null ? "" : "<target>" + xml(value) + "</target>")
+                + "</segment></unit>\n";
+        }
+
+        @Override
+        String footer() {
+            return "  </file>\n</xliff>\n";
+        }
+    };
+
+    /**
+     * @return Whether rows need the value in the source language next to the exported one
+     */
+    boolean needsSource() {
+        return false;
+    }
+
+    abstract String header(String table, String sourceLanguage, String language);
+
+    /**
+     * @return The text written between two rows
+     */
+    String separator() {
+        return "";
+    }
+
+    /**
+     * @return The row of one field's value, or null if the value is not exported
+     */
+    abstract String row(Object entityId, String language, String field, String value, String source);
+
+    String footer() {
+        return "";
+    }
+
+    private static String csv(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    private static String json(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    /**
+     * Escapes text and attribute values; characters not allowed in XML 1.0 are dropped.
+     */
+    private static String xml(String value) {
+        StringBuilder xml = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> xml.append("&amp;");
+                case '<' -> xml.append("&lt;");
+                case '>' -> xml.append("&gt;");
+                case '"' -> xml.append("&quot;");
+                case '\r' -> xml.append("&#13;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n') {
+                        xml.append(c);
+                    }
+                }
+            }
+        }
+        return xml.toString();
+    }
+}
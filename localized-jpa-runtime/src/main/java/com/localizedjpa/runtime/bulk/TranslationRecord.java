@@ -0,0 +1,18 @@
+package com.localizedjpa.runtime.bulk;
+
+/**
+ * One localized value to import: the value of a field of an entity in a locale.
+ *
+ * @param entityId The id of the parent entity, or its string form (e.g. read from a file)
+ * @param locale The language tag of the value, e.g. "tr" or "tr-TR"; rows are keyed by the language
+ * @param field The name of the {@code @Localized} field, e.g. "name"
+ * @param value The localized value; null clears it
+ */
+public record TranslationRecord(Object entityId, String locale, String field, String value) {
+
+    public TranslationRecord {
+        if (entityId == null || locale == null || field == null) {
+            throw new IllegalArgumentException("Translation record needs an entity id, a locale and a field");
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import jakarta.persistence.IdClass;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.Association;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The table, columns and bindings of a generated translation entity, resolved once per load
+ * or export from Hibernate's mapping model, so physical naming strategies and the locale converter of
+ * {@code LocaleStorage.DICTIONARY} apply exactly as they do for the entity itself.
+ *
+ * <p>Column values are computed by the entity's own setters: each row is written through a
+ * transient translation instance, so the derived {@code {field}Search} and {@code {field}Sort}
+ * columns get the values the generated setter computes.
+ */
+final class TranslationTableMapping {
+
+    private static final String PARENT_ATTRIBUTE = "parent";
+    private static final String LOCALE_ATTRIBUTE = "locale";
+    private static final String TRANSLATIONS_ATTRIBUTE = "translations";
+    private static final String[] DERIVED_SUFFIXES = {"Search", "Sort"};
+
+    /**
+     * A column of a localized field: the field itself or one of its derived columns.
+     */
+    record Column(String name, BasicValuedModelPart part, Field field) {
+    }
+
+    private final Class<?> translationClass;
+    private final EntityPersister persister;
+    private final String parentEntityName;
+    private final String translationsRole;
+    private final String table;
+    private final BasicValuedModelPart parentKey;
+    private final BasicValuedModelPart locale;
+    private final BasicEntityIdentifierMapping id;
+    private final BeforeExecutionGenerator idGenerator;
+    private final Map<String, Method> setters = new LinkedHashMap<>();
+    private final Map<String, List<Column>> columns = new LinkedHashMap<>();
+
+    private TranslationTableMapping(Class<?> translationClass, EntityPersister persister) {
+        this.translationClass = translationClass;
+        this.persister = persister;
+        if (!(persister.findSubPart(PARENT_ATTRIBUTE, null) instanceof Association parent)
+            || !(parent.getForeignKeyDescriptor().getKeyPart() instanceof BasicValuedModelPart key)
+            || !(persister.findSubPart(LOCALE_ATTRIBUTE, null) instanceof BasicValuedModelPart localePart)) {
+            throw new IllegalArgumentException(translationClass.getName()
+                + " is not a generated translation entity with a single-column parent key");
+        }
+        this.parentKey = key;
+        this.locale = localePart;
+        this.table = localePart.getContainingTableExpression();
+        this.parentEntityName = parent instanceof EntityValuedModelPart parentEntity
+            ? parentEntity.getEntityMappingType().getEntityName()
+            : null;
+        String role = parentEntityName != null ? parentEntityName + "." + TRANSLATIONS_ATTRIBUTE : null;
+        this.translationsRole = role != null
+            && persister.getFactory().getMappingMetamodel().findCollectionDescriptor(role) != null ? role : null;
+
+        // Surrogate ids: IDENTITY columns fill themselves, pooled generators are called per row.
+        // Composite (parent, locale) keys need no id.
+        Generator generator = persister.getGenerator();
+        if (persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping idMapping
+            && !idMapping.getSelectionExpression().equals(localePart.getSelectionExpression())
+            && !generator.generatedOnExecution()) {
+            this.id = idMapping;
+            this.idGenerator = (BeforeExecutionGenerator) generator;
+        } else {
+            this.id = null;
+            this.idGenerator = null;
+        }
+
+        for (Field field : translationClass.getDeclaredFields()) {
+            Method setter = setter(field);
+            if (setter == null || field.getName().equals(PARENT_ATTRIBUTE) || field.getName().equals(LOCALE_ATTRIBUTE)
+                || field.getName().equals(persister.getIdentifierPropertyName())
+                || !(persister.findSubPart(field.getName(), null) instanceof BasicValuedModelPart part)) {
+                continue;
+            }
+            List<Column> fieldColumns = new ArrayList<>();
+            fieldColumns.add(column(part, field));
+            for (String suffix : DERIVED_SUFFIXES) {
+                Field derived = declaredField(field.getName() + suffix);
+                if (derived != null
+                    && persister.findSubPart(derived.getName(), null) instanceof BasicValuedModelPart derivedPart) {
+                    fieldColumns.add(column(derivedPart, derived));
+                }
+            }
+            setters.put(field.getName(), setter);
+            columns.put(field.getName(), fieldColumns);
+        }
+    }
+
+    /**
+     * @param sessionFactory The session factory mapping the translation entity
+     * @param translationClass The generated translation entity class, e.g. {@code ProductTranslation}
+     * @return The mapping of the translation table
+     * @throws IllegalArgumentException if the class is not a generated translation entity
+     */
+    static TranslationTableMapping of(SessionFactoryImplementor sessionFactory, Class<?> translationClass) {
+        if (!AbstractTranslation.class.isAssignableFrom(translationClass)) {
+            throw new IllegalArgumentException(translationClass.getName() + " is not a translation entity");
+        }
+        return new TranslationTableMapping(translationClass,
+            sessionFactory.getMappingMetamodel().getEntityDescriptor(translationClass));
+    }
+
+    EntityPersister persister() {
+        return persister;
+    }
+
+    /**
+     * @return The entity name of the parent entity
+     */
+    String parentEntityName() {
+        return parentEntityName;
+    }
+
+    /**
+     * @return The role of the parent's {@code translations} collection, or null if it has none
+     */
+    String translationsRole() {
+        return translationsRole;
+    }
+
+    String table() {
+        return table;
+    }
+
+    String parentColumn() {
+        return parentKey.getSelectionExpression();
+    }
+
+    String localeColumn() {
+        return locale.getSelectionExpression();
+    }
+
+    /**
+     * @return The id column to write, or null when the database or the key provides it
+     */
+    String idColumn() {
+        return id == null ? null : id.getSelectionExpression();
+    }
+
+    /**
+     * @return The names of the localized fields, in declaration order
+     */
+    List<String> fields() {
+        return List.copyOf(columns.keySet());
+    }
+
+    /**
+     * @return Whether parent ids are integers, so the table can be split into id ranges
+     */
+    boolean hasIntegralParentKey() {
+        Class<?> type = parentKey.getJavaType().getJavaTypeClass();
+        return type == Long.class || type == Integer.class || type == Short.class;
+    }
+
+    /**
+     * @return The columns written for a localized field, the field's own column first
+     * @throws IllegalArgumentException if the translation entity has no such localized field
+     */
+    List<Column> columns(String field) {
+        List<Column> fieldColumns = columns.get(field);
+        if (fieldColumns == null) {
+            throw new IllegalArgumentException("Unknown localized field '" + field + "' of "
+                + translationClass.getSimpleName() + "; expected one of " + columns.keySet());
+        }
+        return fieldColumns;
+    }
+
+    /**
+     * Converts an entity id - its string form read from a file, or e.g. an {@code Integer}
+     * for a {@code Long} key - to the type of the parent key.
+     */
+    Object parentId(Object entityId, SharedSessionContractImplementor session) {
+        JavaType<?> javaType = parentKey.getJavaType();
+        if (javaType.getJavaTypeClass().isInstance(entityId)) {
+            return entityId;
+        }
+        return entityId instanceof String value ? javaType.fromString(value) : javaType.wrap(entityId, session);
+    }
+
+    Object generateId(SharedSessionContractImplementor session) {
+        return idGenerator.generate(session, null, null, EventType.INSERT);
+    }
+
+    /**
+     * @return The id of a composite-key row: an instance of the entity's {@code @IdClass} holding
+     *         the parent id and the locale, or null if the entity has a surrogate id
+     */
+    Object compositeId(Object parentId, String language) {
+        IdClass idClass = translationClass.getAnnotation(IdClass.class);
+        if (idClass == null) {
+            return null;
+        }
+        try {
+            Object key = idClass.value().getDeclaredConstructor().newInstance();
+            for (Map.Entry<String, Object> attribute : Map.of(PARENT_ATTRIBUTE, parentId, LOCALE_ATTRIBUTE, language).entrySet()) {
+                Field field = idClass.value().getDeclaredField(attribute.getKey());
+                field.setAccessible(true);
+                field.set(key, attribute.getValue());
+            }
+            return key;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build the id of " + translationClass.getName(), e);
+        }
+    }
+
+    /**
+     * Builds the transient translation of one row, running the generated setters of the given fields.
+     */
+    AbstractTranslation translation(String language, Map<String, String> values) {
+        try {
+            AbstractTranslation translation = (AbstractTranslation) translationClass.getDeclaredConstructor().newInstance();
+            translation.setLocale(language);
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                Method setter = setters.get(value.getKey());
+                Class<?> type = setter.getParameterTypes()[0];
+                setter.invoke(translation, value.getValue() == null || type == String.class
+                    ? value.getValue()
+                    : columns.get(value.getKey()).get(0).part().getJavaType().fromString(value.getValue()));
+            }
+            return translation;
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException("Cannot set " + values.keySet() + " of "
+                + translationClass.getSimpleName() + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + translationClass.getName(), e);
+        }
+    }
+
+    void bindParent(PreparedStatement statement, int index, Object parentId,
+                    SharedSessionContractImplementor session) throws SQLException {
+        bind(parentKey, statement, index, parentId, session);
+    }
+
+    void bindLocale(PreparedStatement statement, int index, String language,
+                    SharedSessionContractImplementor session) throws SQLException {
+        bind(locale, statement, index, language, session);
+    }
+
+    void bindId(PreparedStatement statement, int index, Object value,
+                SharedSessionContractImplementor session) throws SQLException {
+        bind(id, statement, index, value, session);
+    }
+
+    void bindColumn(Column column, PreparedStatement statement, int index, AbstractTranslation translation,
+                    SharedSessionContractImplementor session) throws SQLException {
+        try {
+            bind(column.part(), statement, index, column.field().get(translation), session);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read " + column.field(), e);
+        }
+    }
+
+    Object extractParent(ResultSet resultSet, int index, SharedSessionContractImplementor session) throws SQLException {
+        return extract(parentKey, resultSet, index, session);
+    }
+
+    String extractLocale(ResultSet resultSet, int index, SharedSessionContractImplementor session) throws SQLException {
+        return (String) extract(locale, resultSet, index, session);
+    }
+
+    /**
+     * @return The string form of a localized field's value, or null
+     */
+    @SuppressWarnings("unchecked")
+    String extractField(String field, ResultSet resultSet, int index,
+                        SharedSessionContractImplementor session) throws SQLException {
+        BasicValuedModelPart part = columns(field).get(0).part();
+        Object value = extract(part, resultSet, index, session);
+        return value == null || value instanceof String ? (String) value
+            : ((JavaType<Object>) part.getJavaType()).toString(value);
+    }
+
+    private static Object extract(BasicValuedModelPart part, ResultSet resultSet, int index,
+                                  SharedSessionContractImplementor session) throws SQLException {
+        Object value = part.getJdbcMapping().getJdbcValueExtractor().extract(resultSet, index, session);
+        return part.getJdbcMapping().convertToDomainValue(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void bind(BasicValuedModelPart part, PreparedStatement statement, int index, Object value,
+                             SharedSessionContractImplementor session) throws SQLException {
+        Object relational = part.getJdbcMapping().convertToRelationalValue(value);
+        part.getJdbcMapping().getJdbcValueBinder().bind(statement, relational, index, session);
+    }
+
+    private Column column(BasicValuedModelPart part, Field field) {
+        field.setAccessible(true);
+        return new Column(part.getSelectionExpression(), part, field);
+    }
+
+    private Field declaredField(String name) {
+        try {
+            return translationClass.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private Method setter(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        String name = "set" + Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        try {
+            return translationClass.getMethod(name, field.getType());
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
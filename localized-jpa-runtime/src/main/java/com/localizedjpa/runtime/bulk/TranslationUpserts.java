@@ -0,0 +1,329 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import com.localizedjpa.runtime.cache.TranslationCache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes one translation row with a single statement, without loading the parent entity or
+ * its translations. Backs {@code TranslationUpsertOperations.upsertTranslation}.
+ *
+ * <p>The statement depends on the dialect:
+ * <ul>
+ *   <li>PostgreSQL, CockroachDB - {@code INSERT ... ON CONFLICT (parent, locale) DO UPDATE}</li>
+ *   <li>MySQL, MariaDB - {@code INSERT ... ON DUPLICATE KEY UPDATE}</li>
+ *   <li>H2, SQL Server, Oracle - {@code MERGE INTO ... USING (...) ON (parent, locale)}</li>
+ *   <li>Other databases - an {@code UPDATE}, followed by an {@code INSERT} if no row was updated</li>
+ * </ul>
+ * Tables whose ids come from a sequence or table generator run an {@code UPDATE} first and the
+ * statement above only when no row was updated, so an id is drawn only for rows actually inserted.
+ * Only the given fields and their derived search and sort-key columns are written; other fields
+ * of an existing row keep their values. Column values come from the generated entity's setters.
+ * The upsert relies on the {@code (parent, locale)} unique constraint or composite key of the
+ * translation table, so it must not be turned off with {@code @TranslationTable(uniqueLocale = false)}.
+ *
+ * <p>The statement runs on the connection of the current transaction. The second-level cache entries
+ * of the written translation row and of the parent's {@code translations} collection are evicted, as
+ * are the parent's {@link TranslationCache} entries, and cached queries over the table are invalidated,
+ * both now and after the transaction completes.
+ * Entities already loaded into the calling persistence context are not refreshed.
+ */
+public final class TranslationUpserts {
+
+    private static final Map<Class<?>, Upsert> UPSERTS = new ConcurrentHashMap<>();
+
+    private TranslationUpserts() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Inserts or updates the translation row of an entity and locale.
+     *
+     * @param entityManager The entity manager of the current transaction
+     * @param translationClass The generated translation entity class, e.g. {@code ProductTranslation}
+     * @param entityId The id of the parent entity, which must exist
+     * @param locale The locale to write; only its language is used
+     * @param values The values by localized field name; null clears a field
+     * @throws IllegalArgumentException if a field is not localized or no values are given
+     * @throws IllegalStateException if no transaction is active
+     */
+    public static void upsert(EntityManager entityManager, Class<?> translationClass, Object entityId,
+                              Locale locale, Map<String, String> values) {
+        if (entityId == null || locale == null) {
+            throw new IllegalArgumentException("Entity id and locale must not be null");
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No translation values to upsert");
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        if (!session.isTransactionInProgress()) {
+            throw new IllegalStateException("Translation upserts must run inside a transaction");
+        }
+        SessionFactoryImplementor sessionFactory = session.getFactory();
+        Upsert upsert = UPSERTS.get(translationClass);
+        if (upsert == null || upsert.sessionFactory != sessionFactory) {
+            upsert = new Upsert(sessionFactory, TranslationTableMapping.of(sessionFactory, translationClass));
+            UPSERTS.put(translationClass, upsert);
+        }
+        upsert.execute(session, entityId, locale.getLanguage(), values);
+    }
+
+    /**
+     * Statement shapes by dialect.
+     */
+    private enum Syntax {
+        ON_CONFLICT, ON_DUPLICATE_KEY, MERGE_VALUES, MERGE_FROM_DUAL, UPDATE_THEN_INSERT;
+
+        static Syntax of(Dialect dialect) {
+            if (dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect) {
+                return ON_CONFLICT;
+            }
+            if (dialect instanceof MySQLDialect) {
+                return ON_DUPLICATE_KEY;
+            }
+            if (dialect instanceof H2Dialect || dialect instanceof SQLServerDialect) {
+                return MERGE_VALUES;
+            }
+            if (dialect instanceof OracleDialect) {
+                return MERGE_FROM_DUAL;
+            }
+            return UPDATE_THEN_INSERT;
+        }
+    }
+
+    /**
+     * The SQL of one combination of fields: {@code upsert} is a plain insert for
+     * {@link Syntax#UPDATE_THEN_INSERT}, and {@code update} runs first for that syntax and for
+     * generated ids.
+     */
+    private record Statements(String update, String upsert) {
+    }
+
+    /**
+     * The statements of one translation entity, built once per combination of fields.
+     */
+    private static final class Upsert {
+
+        private final SessionFactoryImplementor sessionFactory;
+        private final TranslationTableMapping mapping;
+        private final Syntax syntax;
+        private final String terminator;
+        private final Map<List<String>, Statements> statements = new ConcurrentHashMap<>();
+
+        Upsert(SessionFactoryImplementor sessionFactory, TranslationTableMapping mapping) {
+            this.sessionFactory = sessionFactory;
+            this.mapping = mapping;
+            Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+            this.syntax = Syntax.of(dialect);
+            // SQL Server requires MERGE statements to be terminated
+            this.terminator = dialect instanceof SQLServerDialect ? ";" : "";
+        }
+
+        void execute(SessionImplementor session, Object entityId, String language, Map<String, String> values) {
+            List<String> fields = List.copyOf(values.keySet());
+            fields.forEach(mapping::columns);
+            Object parentId = mapping.parentId(entityId, session);
+            AbstractTranslation translation = mapping.translation(language, values);
+            Statements sql = statements.computeIfAbsent(fields, this::statements);
+            boolean updateFirst = syntax == Syntax.UPDATE_THEN_INSERT || mapping.idColumn() != null;
+
+            Object id = session.doReturningWork(connection -> {
+                if (updateFirst) {
+                    try (PreparedStatement statement = connection.prepareStatement(sql.update())) {
+                        int index = bindColumns(statement, 1, fields, translation, session);
+                        mapping.bindParent(statement, index++, parentId, session);
+                        mapping.bindLocale(statement, index, language, session);
+                        if (statement.executeUpdate() > 0) {
+                            return null;
+                        }
+                    }
+                }
+                // Only a row about to be inserted draws an id; the upsert still covers a concurrent insert
+                Object generatedId = mapping.idColumn() == null ? null : mapping.generateId(session);
+                try (PreparedStatement statement = connection.prepareStatement(sql.upsert())) {
+                    switch (syntax) {
+                        case ON_CONFLICT, ON_DUPLICATE_KEY, UPDATE_THEN_INSERT -> bindRow(statement, 1,
+                            generatedId, parentId, language, fields, translation, session);
+                        case MERGE_VALUES, MERGE_FROM_DUAL -> {
+                            int index = bindRow(statement, 1, null, parentId, language, fields, translation, session);
+                            if (generatedId != null) {
+                                mapping.bindId(statement, index, generatedId, session);
+                            }
+                        }
+                    }
+                    statement.executeUpdate();
+                }
+                return generatedId;
+            });
+            invalidate(session, parentId, id != null ? id : cachedRowId(session, parentId, language));
+        }
+
+        /**
+         * @return The id of the written row if the translation entity is cached in the second-level
+         *         cache, so only that entry is evicted; otherwise null, without a query
+         */
+        private Object cachedRowId(SessionImplementor session, Object parentId, String language) {
+            if (!mapping.persister().canWriteToCache()) {
+                return null;
+            }
+            Object compositeId = mapping.compositeId(parentId, language);
+            if (compositeId != null) {
+                return compositeId;
+            }
+            return session.createSelectionQuery("select id(t) from " + mapping.persister().getEntityName()
+                    + " t where fk(t.parent) = :parent and t.locale = :locale", Object.class)
+                .setParameter("parent", parentId)
+                .setParameter("locale", language)
+                .setHibernateFlushMode(FlushMode.MANUAL)
+                .setCacheMode(CacheMode.IGNORE)
+                .uniqueResult();
+        }
+
+        private Statements statements(List<String> fields) {
+            List<String> columns = new ArrayList<>();
+            for (String field : fields) {
+                for (TranslationTableMapping.Column column : mapping.columns(field)) {
+                    columns.add(column.name());
+                }
+            }
+            String table = mapping.table();
+            String parent = mapping.parentColumn();
+            String locale = mapping.localeColumn();
+            List<String> keyed = new ArrayList<>(List.of(parent, locale));
+            keyed.addAll(columns);
+
+            String update = "update " + table + " set " + assignments(columns, "?")
+                + " where " + parent + " = ? and " + locale + " = ?";
+
+            return switch (syntax) {
+                case ON_CONFLICT -> new Statements(update, insert(columns)
+                    + " on conflict (" + parent + ", " + locale + ") do update set "
+                    + assignments(columns, "excluded.%s"));
+                case ON_DUPLICATE_KEY -> new Statements(update, insert(columns)
+                    + " on duplicate key update " + assignments(columns, "values(%s)"));
+                case MERGE_VALUES, MERGE_FROM_DUAL -> {
+                    String source = syntax == Syntax.MERGE_VALUES
+                        ? "(values (" + placeholders(keyed.size()) + ")) s (" + String.join(", ", keyed) + ")"
+                        : "(select " + String.join(", ", keyed.stream().map(column -> "? " + column).toList())
+                            + " from dual) s";
+                    List<String> targets = new ArrayList<>();
+                    List<String> inserted = new ArrayList<>();
+                    if (mapping.idColumn() != null) {
+                        targets.add(mapping.idColumn());
+                        inserted.add("?");
+                    }
+                    targets.addAll(keyed);
+                    keyed.forEach(column -> inserted.add("s." + column));
+                    yield new Statements(update, "merge into " + table + " t using " + source
+                        + " on (t." + parent + " = s." + parent + " and t." + locale + " = s." + locale + ")"
+                        + " when matched then update set " + assignments(columns, "s.%s")
+                        + " when not matched then insert (" + String.join(", ", targets) + ")"
+                        + " values (" + String.join(", ", inserted) + ")" + terminator);
+                }
+                case UPDATE_THEN_INSERT -> new Statements(update, insert(columns));
+            };
+        }
+
+        private String insert(List<String> columns) {
+            List<String> inserted = new ArrayList<>();
+            if (mapping.idColumn() != null) {
+                inserted.add(mapping.idColumn());
+            }
+            inserted.add(mapping.parentColumn());
+            inserted.add(mapping.localeColumn());
+            inserted.addAll(columns);
+            return "insert into " + mapping.table() + " (" + String.join(", ", inserted) + ") values ("
+                + placeholders(inserted.size()) + ")";
+        }
+
+        private static String assignments(List<String> columns, String value) {
+            return String.join(", ", columns.stream()
+                .map(column -> column + " = " + value.formatted(column))
+                .toList());
+        }
+
+        private static String placeholders(int count) {
+            return String.join(", ", Collections.nCopies(count, "?"));
+        }
+
+        private int bindRow(PreparedStatement statement, int index, Object id, Object parentId, String language,
+                            List<String> fields, AbstractTranslation translation,
+                            SharedSessionContractImplementor session) throws SQLException {
+            if (id != null) {
+                mapping.bindId(statement, index++, id, session);
+            }
+            mapping.bindParent(statement, index++, parentId, session);
+            mapping.bindLocale(statement, index++, language, session);
+            return bindColumns(statement, index, fields, translation, session);
+        }
+
+        private int bindColumns(PreparedStatement statement, int index, List<String> fields,
+                                AbstractTranslation translation, SharedSessionContractImplementor session)
+                throws SQLException {
+            for (String field : fields) {
+                for (TranslationTableMapping.Column column : mapping.columns(field)) {
+                    mapping.bindColumn(column, statement, index++, translation, session);
+                }
+            }
+            return index;
+        }
+
+        /**
+         * Evicts cached state of the row now, so this transaction does not read it, and again after
+         * completion, so other transactions do not cache the old value in between.
+         */
+        private void invalidate(SessionImplementor session, Object parentId, Object rowId) {
+            String[] spaces = Arrays.stream(mapping.persister().getQuerySpaces())
+                .map(String.class::cast)
+                .toArray(String[]::new);
+            boolean queryCache = sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled();
+            TimestampsCache timestamps = sessionFactory.getCache().getTimestampsCache();
+            if (queryCache) {
+                timestamps.preInvalidate(spaces, session);
+            }
+            evict(parentId, rowId);
+            session.getActionQueue().registerProcess((success, completed) -> {
+                evict(parentId, rowId);
+                if (queryCache) {
+                    timestamps.invalidate(spaces, completed);
+                }
+            });
+        }
+
+        private void evict(Object parentId, Object rowId) {
+            if (rowId != null && mapping.persister().canWriteToCache()) {
+                sessionFactory.getCache().evictEntityData(mapping.persister().getEntityName(), rowId);
+            }
+            String role = mapping.translationsRole();
+            if (role != null) {
+                sessionFactory.getCache().evictCollectionData(role, parentId);
+            }
+            if (mapping.parentEntityName() != null) {
+                TranslationCache.evict(mapping.parentEntityName(), parentId);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.localizedjpa.runtime.bulk;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads {@link TranslationRecord}s from XLIFF 1.2 or 2.0 files with a streaming (StAX) parser.
+ *
+ * <p>Each translation unit ({@code <trans-unit>} in 1.2, {@code <unit>} in 2.0) with a
+ * {@code <target>} becomes one record. The unit id names the entity and the field as
+ * {@code {entityId}.{field}}, split at the last dot; the locale is the file's target language
+ * ({@code target-language} of {@code <file>} in 1.2, {@code trgLang} of {@code <xliff>} in 2.0).
+ * The text of all targets of a unit is concatenated; inline markup elements are dropped and
+ * their text kept.
+ * <pre>
+ * &lt;xliff version="2.0" srcLang="en" trgLang="tr"&gt;
+ *   &lt;file id="products"&gt;
+ *     &lt;unit id="42.name"&gt;
+ *       &lt;segment&gt;&lt;source&gt;Oak table&lt;/source&gt;&lt;target&gt;Meşe masa&lt;/target&gt;&lt;/segment&gt;
+ *     &lt;/unit&gt;
+ *   &lt;/file&gt;
+ * &lt;/xliff&gt;
+ * </pre>
+ *
+ * <p>DTDs and external entities are not processed. The stream reads lazily and closes the
+ * input when it is closed.
+ */
+public final class XliffTranslationReader {
+
+    private XliffTranslationReader() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * @param input The XLIFF document
+     * @return The records, read as the stream is consumed
+     * @throws IllegalArgumentException if the document is malformed, a unit id has no field
+     *                                  part or no target language is declared
+     */
+    public static Stream<TranslationRecord> read(InputStream input) {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader;
+        try {
+            reader = factory.createXMLStreamReader(input);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Cannot read XLIFF: " + e.getMessage(), e);
+        }
+
+        UnitParser parser = new UnitParser(reader);
+        Spliterator<TranslationRecord> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super TranslationRecord> action) {
+                TranslationRecord record = parser.next();
+                if (record == null) {
+                    return false;
+                }
+                action.accept(record);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                reader.close();
+                input.close();
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException(e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Pulls parser events until the next unit with a target is complete.
+     */
+    private static final class UnitParser {
+
+        private final XMLStreamReader reader;
+        private final StringBuilder target = new StringBuilder();
+        private String targetLanguage;
+        private String unitId;
+        private boolean hasTarget;
+        private int targetDepth;
+
+        UnitParser(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return The next record, or null at the end of the document
+         */
+        TranslationRecord next() {
+            try {
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> startElement();
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                            if (targetDepth > 0) {
+                                target.append(reader.getText());
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            TranslationRecord record = endElement();
+                            if (record != null) {
+                                return record;
+                            }
+                        }
+                        default -> { }
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IllegalArgumentException("Malformed XLIFF: " + e.getMessage(), e);
+            }
+        }
+
+        private void startElement() {
+            String name = reader.getLocalName();
+            if (targetDepth > 0) {
+                targetDepth++;
+                return;
+            }
+            switch (name) {
+                case "xliff" -> {
+                    String language = reader.getAttributeValue(null, "trgLang");
+                    if (language != null) {
+                        targetLanguage = language;
+                    }
+                }
+                case "file" -> {
+                    String language = reader.getAttributeValue(null, "target-language");
+                    if (language != null) {
+                        targetLanguage = language;
+                    }
+                }
+                case "trans-unit", "unit" -> {
+                    unitId = reader.getAttributeValue(null, "id");
+                    target.setLength(0);
+                    hasTarget = false;
+                }
+                case "target" -> {
+                    if (unitId != null) {
+                        targetDepth = 1;
+                        hasTarget = true;
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        private TranslationRecord endElement() {
+            if (targetDepth > 0) {
+                targetDepth--;
+                return null;
+            }
+            String name = reader.getLocalName();
+            if ((!name.equals("trans-unit") && !name.equals("unit")) || unitId == null) {
+                return null;
+            }
+
+            String id = unitId;
+            unitId = null;
+            if (!hasTarget) {
+                return null;
+            }
+            int separator = id.lastIndexOf('.');
+            if (separator <= 0 || separator == id.length() - 1) {
+                throw new IllegalArgumentException("XLIFF unit id '" + id + "' is not of the form {entityId}.{field}");
+            }
+            if (targetLanguage == null) {
+                throw new IllegalArgumentException("XLIFF document declares no target language");
+            }
+            return new TranslationRecord(id.substring(0, separator), targetLanguage,
+                id.substring(separator + 1), target.toString());
+        }
+    }
+}
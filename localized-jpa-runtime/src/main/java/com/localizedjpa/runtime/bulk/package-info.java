@@ -0,0 +1,25 @@
+/**
+ * Direct writes, bulk import and export of translations in generated translation tables.
+ *
+ * <ul>
+ *   <li>{@link com.localizedjpa.runtime.bulk.TranslationUpserts TranslationUpserts} -
+ *       Single-statement upsert of one translation row, behind {@code TranslationUpsertOperations.upsertTranslation}</li>
+ *   <li>{@link com.localizedjpa.runtime.bulk.TranslationBulkLoader TranslationBulkLoader} -
+ *       Batched JDBC upserts without loading parent entities</li>
+ *   <li>{@link com.localizedjpa.runtime.bulk.CsvTranslationReader CsvTranslationReader} and
+ *       {@link com.localizedjpa.runtime.bulk.XliffTranslationReader XliffTranslationReader} -
+ *       Streaming parsers producing {@link com.localizedjpa.runtime.bulk.TranslationRecord TranslationRecord}s</li>
+ *   <li>{@link com.localizedjpa.runtime.bulk.TranslationExporter TranslationExporter} -
+ *       Parallel, range-partitioned export of one locale in a
+ *       {@link com.localizedjpa.runtime.bulk.TranslationFormat TranslationFormat}</li>
+ * </ul>
+ *
+ * <p>Example: importing a partner catalog:
+ * <pre>{@code
+ * TranslationBulkLoader loader = new TranslationBulkLoader(entityManagerFactory);
+ * try (Stream<TranslationRecord> records = XliffTranslationReader.read(Files.newInputStream(path))) {
+ *     loader.load(ProductTranslation.class, records);
+ * }
+ * }</pre>
+ */
+package com.localizedjpa.runtime.bulk;
@@ -0,0 +1,298 @@
+package com.localizedjpa.runtime.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of the results of generated {@code List} finders, keyed by
+ * {@code (query, locale, arguments)}.
+ *
+ * <p>An entry holds the ids of the found entities, not the entities. On a hit the generated
+ * {@code *RepositoryImpl} loads them by id in one query - usually answered from the persistence
+ * context or the second-level cache - and returns them in the cached order, so repeated searches
+ * such as {@code findByNameContaining("phone", locale)} skip the filtering query. Entries of an
+ * entity type are dropped whenever a translation of that type is written, through the same
+ * evictions as the {@link TranslationCache}: {@link TranslationCacheListener} at flush,
+ * {@link TranslationCacheIntegrator} after commit, {@code upsertTranslation}, bulk loads and the
+ * invalidations of other nodes. A result whose entity has been deleted since is loaded again.
+ *
+ * <p>Empty results are cached for a shorter time than others, so a new translation written by
+ * another process is found soon. Changes of non-localized attributes a finder does not filter on
+ * need no invalidation, since the entities themselves are loaded fresh.
+ *
+ * <p>Disabled by default. Configured at startup by {@code LocalizedJpaAutoConfiguration} from
+ * {@code localized-jpa.finder-cache-size}, {@code localized-jpa.finder-cache-ttl} and
+ * {@code localized-jpa.finder-cache-negative-ttl}.
+ */
+public final class FinderResultCache {
+
+    /**
+     * Default time after which a non-empty result expires.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    /**
+     * Default time after which an empty result expires.
+     */
+    public static final Duration DEFAULT_NEGATIVE_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private static final int SEGMENTS = 16;
+
+    private static volatile Segment[] segments = new Segment[0];
+    private static volatile long timeToLiveNanos = DEFAULT_TIME_TO_LIVE.toNanos();
+    private static volatile long negativeTimeToLiveNanos = DEFAULT_NEGATIVE_TIME_TO_LIVE.toNanos();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+    private static final LongAdder hitNanos = new LongAdder();
+    private static final LongAdder missNanos = new LongAdder();
+
+    private FinderResultCache() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Enables the cache with the given bounds, or disables it if {@code maximumSize} is 0.
+     * Cached results are discarded.
+     *
+     * @param maximumSize The maximum number of cached results, 0 to disable
+     * @param timeToLive The time after which a non-empty result expires, {@link Duration#ZERO} for never
+     * @param negativeTimeToLive The time after which an empty result expires, {@link Duration#ZERO} for never
+     */
+    public static synchronized void configure(int maximumSize, Duration timeToLive, Duration negativeTimeToLive) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Finder cache size must not be negative: " + maximumSize);
+        }
+        if (timeToLive.isNegative() || negativeTimeToLive.isNegative()) {
+            throw new IllegalArgumentException("Finder cache time-to-live must not be negative: "
+                + (timeToLive.isNegative() ? timeToLive : negativeTimeToLive));
+        }
+        Segment[] configured = new Segment[maximumSize == 0 ? 0 : SEGMENTS];
+        int segmentSize = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < configured.length; i++) {
+            configured[i] = new Segment(segmentSize);
+        }
+        timeToLiveNanos = timeToLive.isZero() ? Long.MAX_VALUE : timeToLive.toNanos();
+        negativeTimeToLiveNanos = negativeTimeToLive.isZero() ? Long.MAX_VALUE : negativeTimeToLive.toNanos();
+        segments = configured;
+    }
+
+    /**
+     * @return Whether the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return segments.length > 0;
+    }
+
+    /**
+     * Returns the cached result of a finder call, or runs the finder query and caches the ids of
+     * its result. Called by the generated {@code List} finders.
+     *
+     * @param entityManager The entity manager of the repository
+     * @param entityType The entity class the finder returns
+     * @param query The finder's JPQL, identifying the finder
+     * @param arguments The finder's bound parameters, e.g. the language and the search value
+     * @param loader Runs the finder query
+     * @return The found entities, in the order the query returned them
+     */
+    public static <T> List<T> list(EntityManager entityManager, Class<T> entityType, String query,
+                                   Object[] arguments, Supplier<List<T>> loader) {
+        Segment[] current = segments;
+        if (current.length == 0) {
+            return loader.get();
+        }
+        long start = System.nanoTime();
+        Key key = new Key(entityType.getName(), query, Arrays.asList(arguments.clone()));
+        Segment segment = segment(current, key);
+        List<Object> ids = segment.get(key);
+        if (ids != null) {
+            List<T> entities = load(entityManager, entityType, ids);
+            if (entities != null) {
+                hits.increment();
+                hitNanos.add(System.nanoTime() - start);
+                return entities;
+            }
+            // An entity was deleted since the result was cached
+            segment.remove(key);
+        }
+        misses.increment();
+
+        long loadedGeneration = TranslationCache.generation();
+        TranslationCache.register(entityManager.getEntityManagerFactory());
+        List<T> result = loader.get();
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<Object> resultIds = new ArrayList<>(result.size());
+        for (T entity : result) {
+            resultIds.add(persistenceUnitUtil.getIdentifier(entity));
+        }
+        segment.put(key, Collections.unmodifiableList(resultIds), loadedGeneration);
+        missNanos.add(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Loads entities by id in the given order.
+     *
+     * @return The entities, or null if one of them no longer exists
+     */
+    private static <T> List<T> load(EntityManager entityManager, Class<T> entityType, List<Object> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String entityName = entityManager.getMetamodel().entity(entityType).getName();
+        List<T> loaded = entityManager
+            .createQuery("select e from " + entityName + " e where id(e) in :ids", entityType)
+            .setParameter("ids", ids)
+            .getResultList();
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, T> byId = new HashMap<>();
+        for (T entity : loaded) {
+            byId.put(persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+        List<T> entities = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            T entity = byId.get(id);
+            if (entity == null) {
+                return null;
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Evicts every cached result.
+     */
+    public static void clear() {
+        for (Segment segment : segments) {
+            segment.removeIf(key -> true);
+        }
+    }
+
+    /**
+     * @return The hit and miss counts and timings since startup or the last {@link #resetStats()}
+     */
+    public static FinderResultCacheStats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new FinderResultCacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size,
+            Duration.ofNanos(hitNanos.sum()), Duration.ofNanos(missNanos.sum()));
+    }
+
+    /**
+     * Resets the hit, miss, eviction and invalidation counts and timings.
+     */
+    public static void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        invalidations.reset();
+        hitNanos.reset();
+        missNanos.reset();
+    }
+
+    /**
+     * Drops the results of the invalidated entity type. Called by {@link TranslationCache} after
+     * it advanced its generation, so a result loaded before the write is never cached afterwards.
+     * An invalidation of one entity drops all results of its type, since the write may add the
+     * entity to any of them.
+     */
+    static void invalidate(TranslationInvalidation invalidation) {
+        Segment[] current = segments;
+        if (current.length == 0) {
+            return;
+        }
+        invalidations.increment();
+        String entityName = invalidation.entityName();
+        for (Segment segment : current) {
+            segment.removeIf(key -> entityName == null || key.entityName().equals(entityName));
+        }
+    }
+
+    private static Segment segment(Segment[] current, Key key) {
+        int hash = key.hashCode();
+        return current[(hash ^ (hash >>> 16)) & (current.length - 1)];
+    }
+
+    private record Key(String entityName, String query, List<Object> arguments) {
+    }
+
+    private record Entry(List<Object> ids, long expiresAt) {
+    }
+
+    /**
+     * A lock-striped part of the cache: an access-ordered map evicting its least recently used entry.
+     */
+    private static final class Segment {
+
+        private final LinkedHashMap<Key, Entry> entries;
+
+        Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized List<Object> get(Key key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() != Long.MAX_VALUE && System.nanoTime() - entry.expiresAt() > 0) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.ids();
+        }
+
+        synchronized void put(Key key, List<Object> ids, long loadedGeneration) {
+            // Checked under the lock, so an invalidation either precedes the check or removes the entry
+            if (TranslationCache.generation() != loadedGeneration) {
+                return;
+            }
+            long ttl = ids.isEmpty() ? negativeTimeToLiveNanos : timeToLiveNanos;
+            entries.put(key, new Entry(ids, ttl == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + ttl));
+        }
+
+        synchronized void remove(Key key) {
+            entries.remove(key);
+        }
+
+        synchronized void removeIf(Predicate<Key> matching) {
+            for (Iterator<Key> keys = entries.keySet().iterator(); keys.hasNext(); ) {
+                if (matching.test(keys.next())) {
+                    keys.remove();
+                }
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
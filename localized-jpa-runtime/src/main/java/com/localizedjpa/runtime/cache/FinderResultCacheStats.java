@@ -0,0 +1,38 @@
+package com.localizedjpa.runtime.cache;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the {@link FinderResultCache}.
+ *
+ * @param hits The number of finder calls answered from cached ids
+ * @param misses The number of finder calls that ran the finder query
+ * @param evictions The number of results removed for size or age
+ * @param invalidations The number of translation writes that dropped cached results
+ * @param size The current number of cached results
+ * @param hitTime The total time of the finder calls answered from the cache
+ * @param missTime The total time of the finder calls that ran the finder query
+ */
+public record FinderResultCacheStats(long hits, long misses, long evictions, long invalidations, long size,
+                                     Duration hitTime, Duration missTime) {
+
+    /**
+     * @return The share of finder calls answered from the cache, or 0 before any call
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return The estimated time the hits saved: their number times the difference between the
+     *         average miss and the average hit, or {@link Duration#ZERO} before any hit and miss
+     */
+    public Duration timeSaved() {
+        if (hits == 0 || misses == 0) {
+            return Duration.ZERO;
+        }
+        long saved = (missTime.toNanos() / misses - hitTime.toNanos() / hits) * hits;
+        return Duration.ofNanos(Math.max(0, saved));
+    }
+}
@@ -0,0 +1,293 @@
+package com.localizedjpa.runtime.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link TranslationInvalidationBus} over a notification table in the application's database.
+ *
+ * <p>Each published batch is inserted into {@value #TABLE_NAME} in one transaction. Row ids are
+ * taken from the single row of {@value #COUNTER_TABLE_NAME}, which stays locked until the batch
+ * commits, so ids have no gaps and become visible in increasing order. Every node polls the rows
+ * above its watermark - the highest id it has read - every poll interval, skips its own and applies
+ * the others. A gap in the ids means rows were pruned before this node read them; the node then
+ * clears its caches, as it does when a poll fails, so a node never serves values staler than
+ * about the poll interval while the database is reachable.
+ *
+ * <p>Rows older than the retention period are deleted by the polling nodes. The tables are created
+ * if they do not exist.
+ */
+public class JdbcTranslationInvalidationBus implements TranslationInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcTranslationInvalidationBus.class);
+
+    public static final String TABLE_NAME = "localized_jpa_invalidations";
+    public static final String COUNTER_TABLE_NAME = "localized_jpa_invalidation_counter";
+
+    /**
+     * Default interval between two polls.
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Default time after which notification rows are deleted.
+     */
+    public static final Duration DEFAULT_RETENTION = Duration.ofHours(1);
+
+    private static final int POLL_PAGE_SIZE = 1000;
+    private static final int MAX_COLUMN_LENGTH = 255;
+    private static final Duration MAX_PRUNE_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private ScheduledExecutorService poller;
+    private Consumer<List<TranslationInvalidation>> receiver;
+
+    // Only accessed by the poller thread after start
+    private long watermark;
+    private long lastPruned;
+    private boolean failing;
+
+    public JdbcTranslationInvalidationBus(DataSource dataSource) {
+        this(dataSource, DEFAULT_POLL_INTERVAL, DEFAULT_RETENTION);
+    }
+
+    /**
+     * @param dataSource The database shared by all nodes
+     * @param pollInterval The interval between two polls
+     * @param retention The time after which notification rows are deleted; must exceed the longest
+     *                  time a node may go without polling
+     */
+    public JdbcTranslationInvalidationBus(DataSource dataSource, Duration pollInterval, Duration retention) {
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Invalidation poll interval must be positive: " + pollInterval);
+        }
+        if (retention.compareTo(pollInterval) <= 0) {
+            throw new IllegalArgumentException("Invalidation retention must exceed the poll interval: " + retention);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    @Override
+    public synchronized void start(Consumer<List<TranslationInvalidation>> receiver) {
+        createTables();
+        this.receiver = receiver;
+        this.watermark = lastId();
+        this.lastPruned = System.nanoTime();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "localized-jpa-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = pollInterval.toNanos();
+        poller.scheduleWithFixedDelay(this::poll, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        log.info("Polling translation invalidations from '{}' every {} as node {}", TABLE_NAME, pollInterval, nodeId);
+    }
+
+    @Override
+    public void publish(List<TranslationInvalidation> invalidations) {
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE " + COUNTER_TABLE_NAME + " SET last_id = last_id + ? WHERE id = 1",
+                invalidations.size());
+            long firstId = lastId() - invalidations.size() + 1;
+            jdbcTemplate.batchUpdate("INSERT INTO " + TABLE_NAME
+                    + " (id, node_id, entity_name, entity_id, created_at) VALUES (?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int index) throws SQLException {
+                        TranslationInvalidation invalidation = storable(invalidations.get(index));
+                        statement.setLong(1, firstId + index);
+                        statement.setString(2, nodeId);
+                        setNullableString(statement, 3, invalidation.entityName());
+                        setNullableString(statement, 4, invalidation.entityId());
+                        statement.setTimestamp(5, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return invalidations.size();
+                    }
+                });
+        });
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (poller == null) {
+            return;
+        }
+        poller.shutdown();
+        try {
+            poller.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        poller = null;
+    }
+
+    /**
+     * Applies the rows above the watermark, then deletes expired rows at most once a minute.
+     */
+    void poll() {
+        try {
+            List<Row> rows;
+            do {
+                rows = rowsAfter(watermark);
+                List<TranslationInvalidation> received = new ArrayList<>(rows.size());
+                boolean missed = false;
+                for (Row row : rows) {
+                    missed |= row.id() != watermark + 1;
+                    watermark = row.id();
+                    if (!nodeId.equals(row.nodeId())) {
+                        received.add(row.invalidation());
+                    }
+                }
+                if (missed) {
+                    log.warn("Translation invalidations were pruned before they were read, clearing caches");
+                    received = List.of(TranslationInvalidation.all());
+                }
+                if (!received.isEmpty()) {
+                    receiver.accept(received);
+                }
+            } while (rows.size() == POLL_PAGE_SIZE);
+            failing = false;
+            prune();
+        } catch (RuntimeException e) {
+            if (!failing) {
+                log.warn("Polling translation invalidations failed, clearing caches until it succeeds", e);
+            }
+            failing = true;
+            receiver.accept(List.of(TranslationInvalidation.all()));
+        }
+    }
+
+    private List<Row> rowsAfter(long id) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT id, node_id, entity_name, entity_id FROM "
+                + TABLE_NAME + " WHERE id > ? ORDER BY id");
+            statement.setMaxRows(POLL_PAGE_SIZE);
+            statement.setLong(1, id);
+            return statement;
+        }, (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("node_id"),
+            new TranslationInvalidation(rs.getString("entity_name"), rs.getString("entity_id"))));
+    }
+
+    private void prune() {
+        long now = System.nanoTime();
+        if (now - lastPruned < Math.min(retention.toNanos(), MAX_PRUNE_INTERVAL.toNanos())) {
+            return;
+        }
+        lastPruned = now;
+        int deleted = jdbcTemplate.update("DELETE FROM " + TABLE_NAME + " WHERE created_at < ?",
+            Timestamp.from(Instant.now().minus(retention)));
+        log.debug("Deleted {} expired translation invalidations", deleted);
+    }
+
+    private long lastId() {
+        Long lastId = jdbcTemplate.queryForObject("SELECT last_id FROM " + COUNTER_TABLE_NAME + " WHERE id = 1", Long.class);
+        return lastId == null ? 0 : lastId;
+    }
+
+    private void createTables() {
+        if (!tableExists(TABLE_NAME)) {
+            createTable(TABLE_NAME, "CREATE TABLE " + TABLE_NAME + " (id BIGINT NOT NULL PRIMARY KEY,"
+                + " node_id VARCHAR(36) NOT NULL, entity_name VARCHAR(" + MAX_COLUMN_LENGTH + "),"
+                + " entity_id VARCHAR(" + MAX_COLUMN_LENGTH + "), created_at TIMESTAMP NOT NULL)");
+        }
+        if (!tableExists(COUNTER_TABLE_NAME)) {
+            createTable(COUNTER_TABLE_NAME, "CREATE TABLE " + COUNTER_TABLE_NAME
+                + " (id SMALLINT NOT NULL PRIMARY KEY, last_id BIGINT NOT NULL)");
+        }
+        try {
+            if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + COUNTER_TABLE_NAME, Integer.class) == 0) {
+                jdbcTemplate.update("INSERT INTO " + COUNTER_TABLE_NAME + " (id, last_id) VALUES (1, 0)");
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted the counter row concurrently
+        }
+    }
+
+    private void createTable(String table, String ddl) {
+        try {
+            jdbcTemplate.execute(ddl);
+            log.info("Created translation invalidation table '{}'", table);
+        } catch (DataAccessException e) {
+            // Another node may have created it concurrently
+            if (!tableExists(table)) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean tableExists(String table) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[] {"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * Widens invalidations whose names do not fit the columns.
+     */
+    private static TranslationInvalidation storable(TranslationInvalidation invalidation) {
+        if (invalidation.entityName() != null && invalidation.entityName().length() > MAX_COLUMN_LENGTH) {
+            return TranslationInvalidation.all();
+        }
+        if (invalidation.entityId() != null && invalidation.entityId().length() > MAX_COLUMN_LENGTH) {
+            return TranslationInvalidation.ofType(invalidation.entityName());
+        }
+        return invalidation;
+    }
+
+    private static void setNullableString(PreparedStatement statement, int index, String value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else {
+            statement.setString(index, value);
+        }
+    }
+
+    private record Row(long id, String nodeId, TranslationInvalidation invalidation) {
+    }
+}
@@ -0,0 +1,426 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import com.localizedjpa.runtime.catalog.TranslationCatalog;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * In-process cache of resolved translation values, keyed by {@code (entityType, parentId, locale)}.
+ *
+ * <p>The generated {@code get<Field>(Locale)} methods consult it while the entity's
+ * {@code translations} collection is not initialized yet. On a hit they return the cached
+ * value and the collection stays uninitialized, so listing the same badges or categories
+ * on every request no longer loads their translations. On a miss the collection is
+ * initialized as before and the values of the requested locale - including "no translation" -
+ * are cached. Entities whose collection is already initialized, e.g. after a setter call,
+ * always read the collection.
+ *
+ * <p>Entries are evicted by size, least recently used first, and a fixed time after they were
+ * written. Writes of translation entities evict the affected entries through
+ * {@link TranslationCacheListener} at flush and {@link TranslationCacheIntegrator} after commit;
+ * {@code TranslationUpsertOperations.upsertTranslation} and {@code TranslationBulkLoader} evict as well.
+ * Evictions are sent to the other application nodes when {@link TranslationInvalidations} is
+ * started; changes made by other processes are only seen after the time-to-live expires.
+ *
+ * <p>Disabled by default. Configured at startup by {@code LocalizedJpaAutoConfiguration} from
+ * {@code localized-jpa.translation-cache-size} and {@code localized-jpa.translation-cache-ttl}.
+ */
+public final class TranslationCache {
+
+    /**
+     * Default time after which an entry expires.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private static final String TRANSLATIONS_SUFFIX = ".translations";
+    private static final String PARENT_ATTRIBUTE = "parent";
+    private static final int SEGMENTS = 16;
+
+    private static volatile Segment[] segments = new Segment[0];
+    private static volatile long timeToLiveNanos = DEFAULT_TIME_TO_LIVE.toNanos();
+
+    /**
+     * Incremented by every invalidation; a value loaded while it changed is not cached,
+     * since it may predate the invalidated write.
+     */
+    private static final AtomicLong generation = new AtomicLong();
+    private static final Set<String> languages = ConcurrentHashMap.newKeySet();
+    private static final Set<SessionFactoryImplementor> sessionFactories = ConcurrentHashMap.newKeySet();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+
+    private TranslationCache() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Enables the cache with the given bounds, or disables it if {@code maximumSize} is 0.
+     * Cached entries are discarded.
+     *
+     * @param maximumSize The maximum number of cached {@code (entity, id, locale)} entries, 0 to disable
+     * @param timeToLive The time after which an entry expires, {@link Duration#ZERO} for never
+     */
+    public static synchronized void configure(int maximumSize, Duration timeToLive) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Translation cache size must not be negative: " + maximumSize);
+        }
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("Translation cache time-to-live must not be negative: " + timeToLive);
+        }
+        Segment[] configured = new Segment[maximumSize == 0 ? 0 : SEGMENTS];
+        int segmentSize = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < configured.length; i++) {
+            configured[i] = new Segment(segmentSize);
+        }
+        timeToLiveNanos = timeToLive.isZero() ? Long.MAX_VALUE : timeToLive.toNanos();
+        segments = configured;
+        generation.incrementAndGet();
+    }
+
+    /**
+     * @return Whether the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return segments.length > 0;
+    }
+
+    /**
+     * Returns the values of the requested locale from the cache, or loads them from the
+     * translations collection and caches them. Called by the generated getters.
+     *
+     * @param translations The entity's {@code translations} collection
+     * @param language The language key of the requested locale
+     * @return The values by localized field name, empty if the entity has no translation in the
+     *         locale, or null if the cache is disabled or the collection is already initialized
+     *         or not bound to a session. Entities of a {@link TranslationCatalog} are served from it.
+     */
+    public static Map<String, String> values(Map<String, ? extends AbstractTranslation> translations,
+                                             String language) {
+        if (!(translations instanceof AbstractPersistentCollection<?> collection)
+            || collection.wasInitialized() || collection.getKey() == null || collection.getRole() == null) {
+            return null;
+        }
+        Map<String, String> catalogValues = TranslationCatalog.values(collection.getRole(), collection.getKey(), language);
+        if (catalogValues != null) {
+            return catalogValues;
+        }
+        Segment[] current = segments;
+        if (current.length == 0) {
+            return null;
+        }
+        Key key = new Key(entityName(collection.getRole()), String.valueOf(collection.getKey()), language);
+        Segment segment = segment(current, key);
+        Map<String, String> cached = segment.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long loadedGeneration = generation.get();
+        SharedSessionContractImplementor session = collection.getSession();
+        if (session != null) {
+            sessionFactories.add(session.getFactory());
+        }
+        AbstractTranslation translation = translations.get(language);
+        Map<String, String> values = translation == null
+            ? Map.of()
+            : Collections.unmodifiableMap(translation.localizedValues());
+        languages.add(language);
+        segment.put(key, values, loadedGeneration);
+        return values;
+    }
+
+    /**
+     * @return The current invalidation generation, to be passed to
+     *         {@link #put(String, Object, Map, Collection, long)} for values loaded afterwards
+     */
+    static long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the values of an initialized translations collection, unless an invalidation
+     * happened since {@code loadedGeneration}. Does nothing if the cache is disabled.
+     *
+     * @param entityName The Hibernate entity name of the localized entity
+     * @param entityId The entity id
+     * @param translations The entity's initialized {@code translations} collection
+     * @param absentLanguages Further languages to cache as "no translation" if the collection lacks them
+     * @param loadedGeneration The {@linkplain #generation() generation} before the collection was loaded
+     */
+    static void put(String entityName, Object entityId, Map<String, ? extends AbstractTranslation> translations,
+                    Collection<String> absentLanguages, long loadedGeneration) {
+        Segment[] current = segments;
+        if (current.length == 0) {
+            return;
+        }
+        String id = String.valueOf(entityId);
+        for (Map.Entry<String, ? extends AbstractTranslation> translation : translations.entrySet()) {
+            Key key = new Key(entityName, id, translation.getKey());
+            languages.add(translation.getKey());
+            segment(current, key).put(key, Collections.unmodifiableMap(translation.getValue().localizedValues()),
+                loadedGeneration);
+        }
+        for (String language : absentLanguages) {
+            if (!translations.containsKey(language)) {
+                Key key = new Key(entityName, id, language);
+                languages.add(language);
+                segment(current, key).put(key, Map.of(), loadedGeneration);
+            }
+        }
+    }
+
+    /**
+     * Evicts the cached values of an entity in every locale.
+     *
+     * @param entityType The localized entity class, e.g. {@code Product.class}
+     * @param entityId The id of the entity
+     */
+    public static void evict(Class<?> entityType, Object entityId) {
+        evict(entityType.getName(), entityId);
+    }
+
+    /**
+     * Evicts the cached values of an entity in every locale.
+     *
+     * @param entityName The Hibernate entity name, i.e. the fully qualified class name
+     * @param entityId The id of the entity
+     */
+    public static void evict(String entityName, Object entityId) {
+        invalidate(TranslationInvalidation.ofEntity(entityName, entityId));
+    }
+
+    /**
+     * Evicts the cached values of every entity of a type.
+     *
+     * @param entityType The localized entity class, e.g. {@code Product.class}
+     */
+    public static void evictAll(Class<?> entityType) {
+        evictAll(entityType.getName());
+    }
+
+    /**
+     * Evicts the cached values of every entity of a type.
+     *
+     * @param entityName The Hibernate entity name, i.e. the fully qualified class name
+     */
+    public static void evictAll(String entityName) {
+        invalidate(TranslationInvalidation.ofType(entityName));
+    }
+
+    /**
+     * Evicts every cached value.
+     */
+    public static void clear() {
+        invalidate(TranslationInvalidation.all());
+    }
+
+    /**
+     * Evicts the cached values of a translation's parent entity. Does nothing if no
+     * translations of its type have been cached and no session factory is
+     * {@linkplain #register(EntityManagerFactory) registered}.
+     *
+     * @param translation A generated translation entity
+     */
+    public static void evict(AbstractTranslation translation) {
+        if (!tracksWrites()) {
+            return;
+        }
+        for (SessionFactoryImplementor sessionFactory : sessionFactories) {
+            if (sessionFactory.isClosed()) {
+                sessionFactories.remove(sessionFactory);
+                continue;
+            }
+            EntityPersister persister = sessionFactory.getMappingMetamodel()
+                .findEntityDescriptor(translation.getClass());
+            if (persister != null) {
+                evict(translation, persister);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Evicts the cached values of a translation's parent entity.
+     *
+     * @param translation A generated translation entity
+     * @param persister The persister of the translation entity
+     */
+    static void evict(AbstractTranslation translation, EntityPersister persister) {
+        Object parent = persister.getPropertyValue(translation, PARENT_ATTRIBUTE);
+        if (parent != null && persister.findSubPart(PARENT_ATTRIBUTE, null) instanceof EntityValuedModelPart part) {
+            evict(part.getEntityMappingType().getEntityName(),
+                persister.getFactory().getPersistenceUnitUtil().getIdentifier(parent));
+        }
+    }
+
+    /**
+     * @return Whether writes of translations must be resolved to evictions: the cache, the
+     *         {@link FinderResultCache} or a {@linkplain TranslationCatalog catalog} is in use, or
+     *         invalidations are sent to other nodes
+     */
+    static boolean tracksWrites() {
+        return segments.length > 0 || FinderResultCache.isEnabled() || TranslationCatalog.isEnabled()
+            || TranslationInvalidations.isStarted();
+    }
+
+    /**
+     * Makes the translation entities of a persistence unit known to {@link #evict(AbstractTranslation)}
+     * before any of their values are cached, so writes on this node are sent to other nodes even if
+     * it never read them.
+     *
+     * @param entityManagerFactory A Hibernate EntityManagerFactory
+     */
+    public static void register(EntityManagerFactory entityManagerFactory) {
+        sessionFactories.add(entityManagerFactory.unwrap(SessionFactoryImplementor.class));
+    }
+
+    /**
+     * @return The hit and miss counts since startup or the last {@link #resetStats()}
+     */
+    public static TranslationCacheStats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new TranslationCacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size);
+    }
+
+    /**
+     * Resets the hit, miss, eviction and invalidation counts.
+     */
+    public static void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        invalidations.reset();
+    }
+
+    private static void invalidate(TranslationInvalidation invalidation) {
+        apply(invalidation);
+        TranslationInvalidations.publish(invalidation);
+    }
+
+    /**
+     * Applies an invalidation to this node's cache only.
+     */
+    static void apply(TranslationInvalidation invalidation) {
+        TranslationCatalog.invalidate(invalidation);
+        generation.incrementAndGet();
+        FinderResultCache.invalidate(invalidation);
+        invalidations.increment();
+        Segment[] current = segments;
+        String entityName = invalidation.entityName();
+        if (entityName == null) {
+            for (Segment segment : current) {
+                segment.removeIf(key -> true);
+            }
+        } else if (invalidation.entityId() == null) {
+            for (Segment segment : current) {
+                segment.removeIf(key -> key.entityName().equals(entityName));
+            }
+        } else if (current.length > 0) {
+            for (String language : languages) {
+                Key key = new Key(entityName, invalidation.entityId(), language);
+                segment(current, key).remove(key);
+            }
+        }
+    }
+
+    private static String entityName(String role) {
+        return role.endsWith(TRANSLATIONS_SUFFIX)
+            ? role.substring(0, role.length() - TRANSLATIONS_SUFFIX.length())
+            : role.substring(0, role.lastIndexOf('.'));
+    }
+
+    private static Segment segment(Segment[] current, Key key) {
+        int hash = key.hashCode();
+        return current[(hash ^ (hash >>> 16)) & (current.length - 1)];
+    }
+
+    private record Key(String entityName, String entityId, String language) {
+    }
+
+    private record Entry(Map<String, String> values, long writtenAt) {
+    }
+
+    /**
+     * A lock-striped part of the cache: an access-ordered map evicting its least recently used entry.
+     */
+    private static final class Segment {
+
+        private final LinkedHashMap<Key, Entry> entries;
+
+        Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized Map<String, String> get(Key key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            long ttl = timeToLiveNanos;
+            if (ttl != Long.MAX_VALUE && System.nanoTime() - entry.writtenAt() > ttl) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.values();
+        }
+
+        synchronized void put(Key key, Map<String, String> values, long loadedGeneration) {
+            // Checked under the lock, so an invalidation either precedes the check or removes the entry
+            if (generation.get() != loadedGeneration) {
+                return;
+            }
+            entries.put(key, new Entry(values, System.nanoTime()));
+        }
+
+        synchronized void remove(Key key) {
+            entries.remove(key);
+        }
+
+        synchronized void removeIf(Predicate<Key> matching) {
+            for (Iterator<Key> keys = entries.keySet().iterator(); keys.hasNext(); ) {
+                if (matching.test(keys.next())) {
+                    keys.remove();
+                }
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
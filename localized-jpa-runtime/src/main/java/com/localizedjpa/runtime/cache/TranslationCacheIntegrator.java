@@ -0,0 +1,89 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate integrator, registered through {@code META-INF/services}, that evicts a translation's
+ * parent from the {@link TranslationCache} and its catalog once the write has committed.
+ *
+ * <p>{@link TranslationCacheListener} evicts at flush, but a value loaded between flush and commit
+ * is still the old one; the catalog even reloads right after the flush. Evicting again after
+ * commit, with or without a Spring-managed transaction, removes such values. A rollback evicts as
+ * well: a value loaded after the flush is the flushed one, which the rollback discarded.
+ */
+public class TranslationCacheIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        PostCommitEviction eviction = new PostCommitEviction();
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, eviction);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, eviction);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, eviction);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Nothing to release
+    }
+
+    private static final class PostCommitEviction implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return AbstractTranslation.class.isAssignableFrom(persister.getMappedClass());
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            evict(event.getEntity(), event.getPersister());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+            evict(event.getEntity(), event.getPersister());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            evict(event.getEntity(), event.getPersister());
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+            evict(event.getEntity(), event.getPersister());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            evict(event.getEntity(), event.getPersister());
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+            evict(event.getEntity(), event.getPersister());
+        }
+
+        private static void evict(Object entity, EntityPersister persister) {
+            if (TranslationCache.tracksWrites() && entity instanceof AbstractTranslation translation) {
+                TranslationCache.evict(translation, persister);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener of the generated translation entities that evicts the parent's
+ * entries from the {@link TranslationCache} when a translation is inserted, updated or deleted.
+ *
+ * <p>Entries are evicted when the change is flushed and, by {@link TranslationCacheIntegrator},
+ * again after it commits, so a concurrent reader cannot cache the old value in between.
+ * Both evictions are also sent to other nodes while {@link TranslationInvalidations} is started.
+ */
+public class TranslationCacheListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object translation) {
+        if (TranslationCache.tracksWrites() && translation instanceof AbstractTranslation abstractTranslation) {
+            TranslationCache.evict(abstractTranslation);
+        }
+    }
+}
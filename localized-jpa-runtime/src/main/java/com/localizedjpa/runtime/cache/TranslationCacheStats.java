@@ -0,0 +1,21 @@
+package com.localizedjpa.runtime.cache;
+
+/**
+ * Statistics of the {@link TranslationCache}.
+ *
+ * @param hits The number of getter calls answered from the cache
+ * @param misses The number of getter calls that initialized the translations collection
+ * @param evictions The number of entries removed for size or age
+ * @param invalidations The number of evictions caused by translation writes
+ * @param size The current number of cached entries
+ */
+public record TranslationCacheStats(long hits, long misses, long evictions, long invalidations, long size) {
+
+    /**
+     * @return The share of lookups answered from the cache, or 0 before any lookup
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,43 @@
+package com.localizedjpa.runtime.cache;
+
+/**
+ * An invalidation of cached translation values, sent to other application nodes through a
+ * {@link TranslationInvalidationBus}.
+ *
+ * <p>Invalidates the values of one entity, of every entity of a type if {@code entityId} is null,
+ * or of every entity if {@code entityName} is null as well.
+ *
+ * @param entityName The Hibernate entity name of the localized entity, i.e. the fully qualified class name
+ * @param entityId The entity id as string
+ */
+public record TranslationInvalidation(String entityName, String entityId) {
+
+    private static final TranslationInvalidation ALL = new TranslationInvalidation(null, null);
+
+    public TranslationInvalidation {
+        if (entityName == null && entityId != null) {
+            throw new IllegalArgumentException("An entity id needs an entity name: " + entityId);
+        }
+    }
+
+    /**
+     * @return An invalidation of one entity's values
+     */
+    public static TranslationInvalidation ofEntity(String entityName, Object entityId) {
+        return new TranslationInvalidation(entityName, String.valueOf(entityId));
+    }
+
+    /**
+     * @return An invalidation of the values of every entity of a type
+     */
+    public static TranslationInvalidation ofType(String entityName) {
+        return new TranslationInvalidation(entityName, null);
+    }
+
+    /**
+     * @return An invalidation of every cached value
+     */
+    public static TranslationInvalidation all() {
+        return ALL;
+    }
+}
@@ -0,0 +1,38 @@
+package com.localizedjpa.runtime.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transport of {@link TranslationInvalidation}s between application nodes.
+ *
+ * <p>Invalidations made on this node are already applied locally; the bus only carries them to
+ * the other nodes, and hands theirs to the receiver. {@link TranslationInvalidations} coalesces
+ * local invalidations and publishes them in batches from a single thread, so implementations
+ * need not batch themselves.
+ *
+ * <p>{@link JdbcTranslationInvalidationBus} needs nothing but the application's database.
+ * A message broker can be plugged in by implementing this interface and registering it as a bean.
+ */
+public interface TranslationInvalidationBus {
+
+    /**
+     * Starts receiving the invalidations of other nodes. A node must not receive its own.
+     *
+     * @param receiver Applies received invalidations to the local caches
+     */
+    void start(Consumer<List<TranslationInvalidation>> receiver);
+
+    /**
+     * Sends a batch of invalidations to the other nodes.
+     *
+     * @param invalidations Coalesced invalidations, never empty
+     * @throws RuntimeException If the batch could not be sent; it is retried with the next batch
+     */
+    void publish(List<TranslationInvalidation> invalidations);
+
+    /**
+     * Stops receiving and releases resources.
+     */
+    void stop();
+}
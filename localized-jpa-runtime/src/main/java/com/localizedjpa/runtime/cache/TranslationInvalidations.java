@@ -0,0 +1,221 @@
+package com.localizedjpa.runtime.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Propagates invalidations of the localized-jpa caches between application nodes over a
+ * {@link TranslationInvalidationBus}.
+ *
+ * <p>Caches apply an invalidation locally first, so the writing node reads its own writes, and
+ * then hand it to {@link #publish(TranslationInvalidation)}. Pending invalidations are coalesced -
+ * duplicates are dropped, an invalidation of a type absorbs those of its entities, and more than
+ * {@value #MAX_ENTITIES_PER_TYPE} entities of one type become an invalidation of the type - and
+ * sent as one batch per publish interval. Other nodes therefore see a change after at most the
+ * publish interval plus the bus's delivery delay, e.g. the poll interval of
+ * {@link JdbcTranslationInvalidationBus}.
+ *
+ * <p>Received invalidations are applied to {@link TranslationCache} and to every
+ * {@linkplain #addListener(Consumer) listener}, without being published again.
+ *
+ * <p>Not started by default. Started at startup by {@code LocalizedJpaAutoConfiguration} when
+ * {@code localized-jpa.translation-cache-invalidation=true}.
+ */
+public final class TranslationInvalidations {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationInvalidations.class);
+
+    /**
+     * Default interval between two published batches.
+     */
+    public static final Duration DEFAULT_PUBLISH_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Number of pending invalidations of one entity type above which the whole type is invalidated.
+     */
+    public static final int MAX_ENTITIES_PER_TYPE = 256;
+
+    private static final List<Consumer<TranslationInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private static final Object lifecycleLock = new Object();
+
+    private static volatile TranslationInvalidationBus bus;
+    private static ScheduledExecutorService publisher;
+
+    // Pending invalidations, guarded by the class lock
+    private static boolean pendingAll;
+    private static final Set<String> pendingTypes = new LinkedHashSet<>();
+    private static final Map<String, Set<String>> pendingEntities = new LinkedHashMap<>();
+
+    private TranslationInvalidations() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Starts the bus and publishes pending invalidations every {@code publishInterval}.
+     * A running bus is stopped first.
+     *
+     * @param invalidationBus The transport to the other nodes
+     * @param publishInterval The interval between two published batches
+     */
+    public static void start(TranslationInvalidationBus invalidationBus, Duration publishInterval) {
+        if (publishInterval.isNegative() || publishInterval.isZero()) {
+            throw new IllegalArgumentException("Invalidation publish interval must be positive: " + publishInterval);
+        }
+        synchronized (lifecycleLock) {
+            stop();
+            publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "localized-jpa-invalidation-publisher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = publishInterval.toNanos();
+            publisher.scheduleWithFixedDelay(TranslationInvalidations::flush,
+                intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+            invalidationBus.start(TranslationInvalidations::receive);
+            bus = invalidationBus;
+        }
+    }
+
+    /**
+     * Publishes pending invalidations and stops the bus. Does nothing if it is not started.
+     */
+    public static void stop() {
+        synchronized (lifecycleLock) {
+            TranslationInvalidationBus stopped = bus;
+            if (stopped == null) {
+                return;
+            }
+            publisher.shutdown();
+            try {
+                publisher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush();
+            bus = null;
+            publisher = null;
+            stopped.stop();
+        }
+    }
+
+    /**
+     * @return Whether invalidations are sent to other nodes
+     */
+    public static boolean isStarted() {
+        return bus != null;
+    }
+
+    /**
+     * Registers a cache that must apply the invalidations received from other nodes.
+     *
+     * @param listener Applies one received invalidation
+     */
+    public static void addListener(Consumer<TranslationInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addListener(Consumer)}.
+     */
+    public static void removeListener(Consumer<TranslationInvalidation> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Queues an invalidation that was applied locally for the other nodes.
+     * Does nothing if the bus is not started.
+     *
+     * @param invalidation The invalidation
+     */
+    public static void publish(TranslationInvalidation invalidation) {
+        if (bus == null) {
+            return;
+        }
+        synchronized (TranslationInvalidations.class) {
+            add(invalidation);
+        }
+    }
+
+    /**
+     * Sends the pending invalidations as one batch. On failure they stay pending and are sent
+     * with the next batch.
+     */
+    static void flush() {
+        TranslationInvalidationBus current = bus;
+        List<TranslationInvalidation> batch = drain();
+        if (current == null || batch.isEmpty()) {
+            return;
+        }
+        try {
+            current.publish(batch);
+        } catch (RuntimeException e) {
+            log.warn("Publishing {} translation invalidations failed, retrying with the next batch", batch.size(), e);
+            synchronized (TranslationInvalidations.class) {
+                batch.forEach(TranslationInvalidations::add);
+            }
+        }
+    }
+
+    /**
+     * Applies invalidations received from other nodes to the local caches.
+     */
+    static void receive(List<TranslationInvalidation> invalidations) {
+        for (TranslationInvalidation invalidation : invalidations) {
+            TranslationCache.apply(invalidation);
+            for (Consumer<TranslationInvalidation> listener : listeners) {
+                listener.accept(invalidation);
+            }
+        }
+    }
+
+    private static void add(TranslationInvalidation invalidation) {
+        if (pendingAll) {
+            return;
+        }
+        String entityName = invalidation.entityName();
+        if (entityName == null) {
+            pendingAll = true;
+            pendingTypes.clear();
+            pendingEntities.clear();
+        } else if (invalidation.entityId() == null) {
+            pendingTypes.add(entityName);
+            pendingEntities.remove(entityName);
+        } else if (!pendingTypes.contains(entityName)) {
+            Set<String> ids = pendingEntities.computeIfAbsent(entityName, name -> new LinkedHashSet<>());
+            ids.add(invalidation.entityId());
+            if (ids.size() > MAX_ENTITIES_PER_TYPE) {
+                pendingEntities.remove(entityName);
+                pendingTypes.add(entityName);
+            }
+        }
+    }
+
+    private static synchronized List<TranslationInvalidation> drain() {
+        List<TranslationInvalidation> batch = new ArrayList<>();
+        if (pendingAll) {
+            batch.add(TranslationInvalidation.all());
+        }
+        for (String entityName : pendingTypes) {
+            batch.add(TranslationInvalidation.ofType(entityName));
+        }
+        pendingEntities.forEach((entityName, ids) ->
+            ids.forEach(id -> batch.add(new TranslationInvalidation(entityName, id))));
+        pendingAll = false;
+        pendingTypes.clear();
+        pendingEntities.clear();
+        return batch;
+    }
+}
@@ -0,0 +1,259 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Preloads the translations of hot entities, so the first requests after a deploy do not each
+ * load them from the database.
+ *
+ * <p>A warm-up of an entity type:
+ * <ol>
+ *   <li>selects the ids of the hot entities - the {@code limit} highest ids, or those returned
+ *       by a query;</li>
+ *   <li>splits the sorted ids into ranges of consecutive ids, {@code parallelism * 4} of them
+ *       with at most {@value #MAX_RANGE_SIZE} ids each;</li>
+ *   <li>loads up to {@code parallelism} ranges at the same time, each with one query fetching the
+ *       entities and their translations in a read-only session.</li>
+ * </ol>
+ * The loaded values are put into the {@link TranslationCache}, in every language found plus the
+ * given languages without translation. Entities and {@code translations} collections of a type
+ * with {@code @TranslationTable(cache = ...)} are put into the second-level cache as well.
+ *
+ * <p>Example usage:
+ * <pre>
+ * new TranslationWarmup(entityManagerFactory).warmUp(Product.class, 10_000);
+ * </pre>
+ *
+ * <p>By default each warm-up runs on a fixed pool of {@code parallelism} platform threads. Another
+ * executor can be passed instead, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()} on
+ * Java 21; the warm-up still loads at most {@code parallelism} ranges at once, each holding a
+ * pooled connection.
+ *
+ * <p>Run at startup by {@code LocalizedJpaAutoConfiguration} for the types listed in
+ * {@code localized-jpa.warmup.entities}.
+ */
+public class TranslationWarmup {
+
+    /**
+     * Maximum number of ids loaded by one query.
+     */
+    static final int MAX_RANGE_SIZE = 500;
+
+    private static final int RANGES_PER_THREAD = 4;
+    private static final String TRANSLATIONS_ATTRIBUTE = "translations";
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationWarmup.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final Executor executor;
+    private final int parallelism;
+    private final Collection<String> languages;
+
+    /**
+     * Creates a warm-up loading one range per available processor at a time.
+     *
+     * @param entityManagerFactory The entity manager factory mapping the localized entities
+     */
+    public TranslationWarmup(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, null, Runtime.getRuntime().availableProcessors(), List.of());
+    }
+
+    /**
+     * @param entityManagerFactory The entity manager factory mapping the localized entities
+     * @param executor Runs the range loaders, or null for a fixed pool per warm-up
+     * @param parallelism The number of ranges loaded at the same time
+     * @param languages Language keys cached as "no translation" for entities without translation
+     *                  in them, e.g. the supported locales
+     */
+    public TranslationWarmup(EntityManagerFactory entityManagerFactory, Executor executor, int parallelism,
+                             Collection<String> languages) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.languages = List.copyOf(languages);
+    }
+
+    /**
+     * Preloads the entities with the highest ids, usually the most recently created ones.
+     *
+     * @param entityType The localized entity class, e.g. {@code Product.class}
+     * @param limit The number of entities to preload
+     * @return The number of loaded entities and translations
+     * @throws IllegalArgumentException If the class is not a localized entity
+     * @throws IllegalStateException If loading a range fails
+     */
+    public TranslationWarmupResult warmUp(Class<?> entityType, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Warm-up limit must be positive: " + limit);
+        }
+        return warmUp(entityType, "select id(e) from " + jpaName(entityType) + " e order by id(e) desc", limit);
+    }
+
+    /**
+     * Preloads the entities whose ids a query returns.
+     *
+     * @param entityType The localized entity class, e.g. {@code Product.class}
+     * @param idQuery A HQL query selecting entity ids, e.g.
+     *                {@code select p.id from Product p where p.featured = true}
+     * @param limit The maximum number of ids used, 0 for all
+     * @return The number of loaded entities and translations
+     * @throws IllegalArgumentException If the class is not a localized entity
+     * @throws IllegalStateException If loading a range fails
+     */
+    public TranslationWarmupResult warmUp(Class<?> entityType, String idQuery, int limit) {
+        long start = System.nanoTime();
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityType);
+        CollectionPersister translations = persister == null ? null : sessionFactory.getMappingMetamodel()
+            .findCollectionDescriptor(persister.getEntityName() + "." + TRANSLATIONS_ATTRIBUTE);
+        if (translations == null) {
+            throw new IllegalArgumentException(entityType.getName() + " is not a localized entity");
+        }
+        String entityName = persister.getEntityName();
+        if (!TranslationCache.isEnabled() && !translations.hasCache()) {
+            log.warn("Skipping warm-up of {}: neither the translation cache nor a second-level cache region"
+                + " for its translations is enabled", entityName);
+            return new TranslationWarmupResult(entityName, 0, 0, Duration.ZERO);
+        }
+
+        List<Object> ids;
+        try (Session session = sessionFactory.openSession()) {
+            ids = session.createSelectionQuery(idQuery, Object.class)
+                .setMaxResults(limit > 0 ? limit : Integer.MAX_VALUE)
+                .getResultList();
+        }
+        List<List<Object>> ranges = ranges(ids);
+        String entityQuery = "select e from " + jpaName(entityType) + " e left join fetch e."
+            + TRANSLATIONS_ATTRIBUTE + " where id(e) in :ids";
+
+        Queue<List<Object>> pending = new ConcurrentLinkedQueue<>(ranges);
+        LongAdder entities = new LongAdder();
+        LongAdder rows = new LongAdder();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable loader = () -> {
+            for (List<Object> range; (range = pending.poll()) != null; ) {
+                try {
+                    load(persister, entityQuery, range, entities, rows);
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    failure.compareAndSet(null, e);
+                }
+            }
+        };
+
+        int workers = Math.min(parallelism, ranges.size());
+        ExecutorService pool = executor == null && workers > 0
+            ? Executors.newFixedThreadPool(workers, new WarmupThreads())
+            : null;
+        try {
+            List<CompletableFuture<Void>> started = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                started.add(CompletableFuture.runAsync(loader, pool != null ? pool : executor));
+            }
+            CompletableFuture.allOf(started.toArray(new CompletableFuture[0])).join();
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Warm-up of " + entityName + " failed for " + failed.get() + " of "
+                + ranges.size() + " ranges: " + failure.get().getMessage(), failure.get());
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Warmed up {} {} entities with {} translations in {} ranges in {} ms", entities.sum(), entityName,
+            rows.sum(), ranges.size(), elapsed.toMillis());
+        return new TranslationWarmupResult(entityName, entities.sum(), rows.sum(), elapsed);
+    }
+
+    private String jpaName(Class<?> entityType) {
+        return sessionFactory.getJpaMetamodel().entity(entityType).getName();
+    }
+
+    /**
+     * Splits the ids, sorted if they are comparable, into ranges of consecutive ids.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<List<Object>> ranges(List<Object> ids) {
+        List<Object> sorted = new ArrayList<>(ids);
+        if (sorted.stream().allMatch(id -> id instanceof Comparable)) {
+            sorted.sort((a, b) -> ((Comparable) a).compareTo(b));
+        }
+        int count = parallelism * RANGES_PER_THREAD;
+        int size = Math.min(MAX_RANGE_SIZE, Math.max(1, (sorted.size() + count - 1) / count));
+        List<List<Object>> ranges = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += size) {
+            ranges.add(sorted.subList(from, Math.min(from + size, sorted.size())));
+        }
+        return ranges;
+    }
+
+    /**
+     * Loads one range of entities with their translations and caches them.
+     */
+    @SuppressWarnings("unchecked")
+    private void load(EntityPersister persister, String entityQuery, List<Object> ids,
+                      LongAdder entities, LongAdder rows) {
+        long loadedGeneration = TranslationCache.generation();
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            // Put into the second-level cache even if already there
+            session.setCacheMode(CacheMode.REFRESH);
+            List<Object> loaded = session.createSelectionQuery(entityQuery, Object.class)
+                .setParameter("ids", ids)
+                .getResultList();
+            for (Object entity : loaded) {
+                Map<String, ? extends AbstractTranslation> translations =
+                    (Map<String, ? extends AbstractTranslation>) persister.getPropertyValue(entity, TRANSLATIONS_ATTRIBUTE);
+                Object id = persister.getIdentifier(entity, (SharedSessionContractImplementor) session);
+                TranslationCache.put(persister.getEntityName(), id, translations, languages, loadedGeneration);
+                entities.increment();
+                rows.add(translations.size());
+            }
+        }
+    }
+
+    /**
+     * Daemon threads named {@code localized-jpa-warmup-<n>}.
+     */
+    private static final class WarmupThreads implements ThreadFactory {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "localized-jpa-warmup-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.localizedjpa.runtime.cache;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a {@link TranslationWarmup} of one entity type.
+ *
+ * @param entityName The Hibernate entity name of the warmed-up type
+ * @param entities The number of entities loaded
+ * @param translations The number of translation rows loaded
+ * @param elapsed The time the warm-up took
+ */
+public record TranslationWarmupResult(String entityName, long entities, long translations, Duration elapsed) {
+}
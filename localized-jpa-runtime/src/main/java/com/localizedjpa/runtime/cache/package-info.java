@@ -0,0 +1,34 @@
+/**
+ * In-process caching of resolved translation values and finder results, and its invalidation
+ * across nodes.
+ *
+ * <ul>
+ *   <li>{@link com.localizedjpa.runtime.cache.TranslationCache TranslationCache} -
+ *       Bounded {@code (entityType, parentId, locale)} cache consulted by the generated getters</li>
+ *   <li>{@link com.localizedjpa.runtime.cache.TranslationCacheListener TranslationCacheListener} -
+ *       Entity listener of generated translation entities evicting entries on writes</li>
+ *   <li>{@link com.localizedjpa.runtime.cache.TranslationCacheStats TranslationCacheStats} -
+ *       Hit, miss and eviction counts for monitoring</li>
+ *   <li>{@link com.localizedjpa.runtime.cache.FinderResultCache FinderResultCache} -
+ *       Bounded cache of the entity ids found by generated {@code List} finders</li>
+ *   <li>{@link com.localizedjpa.runtime.cache.FinderResultCacheStats FinderResultCacheStats} -
+ *       Hit rate and estimated time saved by the finder cache</li>
+ *   <li>{@link com.localizedjpa.runtime.cache.TranslationInvalidations TranslationInvalidations} -
+ *       Coalesces local evictions and exchanges them with other nodes over a
+ *       {@link com.localizedjpa.runtime.cache.TranslationInvalidationBus TranslationInvalidationBus}</li>
+ *   <li>{@link com.localizedjpa.runtime.cache.JdbcTranslationInvalidationBus JdbcTranslationInvalidationBus} -
+ *       Default bus over a notification table polled with a watermark</li>
+ * </ul>
+ *
+ * <p>Example: exposing the hit rates and the time saved by the finder cache as gauges:
+ * <pre>{@code
+ * Gauge.builder("localized_jpa.translation_cache.hit_rate", () -> TranslationCache.stats().hitRate())
+ *     .register(meterRegistry);
+ * Gauge.builder("localized_jpa.finder_cache.hit_rate", () -> FinderResultCache.stats().hitRate())
+ *     .register(meterRegistry);
+ * Gauge.builder("localized_jpa.finder_cache.time_saved", () -> FinderResultCache.stats().timeSaved().toMillis())
+ *     .baseUnit("milliseconds")
+ *     .register(meterRegistry);
+ * }</pre>
+ */
+package com.localizedjpa.runtime.cache;
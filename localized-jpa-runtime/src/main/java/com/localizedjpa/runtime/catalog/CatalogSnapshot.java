@@ -0,0 +1,25 @@
+package com.localizedjpa.runtime.catalog;
+
+import java.util.Map;
+
+/**
+ * Immutable translations of every entity of one type.
+ */
+interface CatalogSnapshot {
+
+    /**
+     * @return The invalidation sequence of the catalog when loading started
+     */
+    long sequence();
+
+    /**
+     * @return The number of entities
+     */
+    int size();
+
+    /**
+     * @return The values by field name, empty if the entity has no translation in the language,
+     *         or null if the entity is not in this snapshot
+     */
+    Map<String, String> values(long id, String language);
+}
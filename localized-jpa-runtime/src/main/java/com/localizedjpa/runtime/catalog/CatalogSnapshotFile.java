@@ -0,0 +1,217 @@
+package com.localizedjpa.runtime.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes catalog snapshot files.
+ *
+ * <p>A file holds one entity type, all numbers big-endian, strings as {@code int} byte length
+ * followed by UTF-8 bytes:
+ * <pre>
+ * int     magic, version
+ * string  entity name
+ * int     entity count n, field count f, language count l, string table length
+ * string  f field names, l language keys
+ * long    n entity ids, ascending
+ * int     l * n * f value offsets into the string table by language, entity and field; -1 for null
+ * byte    string table of the distinct values
+ * long    CRC32 of all preceding bytes
+ * </pre>
+ *
+ * <p>Files are written to a temporary file and moved into place, so a reader never sees a partial
+ * file.
+ */
+final class CatalogSnapshotFile {
+
+    private static final int MAGIC = 0x4C4A5043;
+    private static final int VERSION = 1;
+    private static final int NO_VALUE = -1;
+
+    private CatalogSnapshotFile() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Writes the snapshot of an entity type, replacing an existing file.
+     *
+     * @param file The snapshot file
+     * @param entityName The entity name the file is valid for
+     * @param ids The ids of all entities, in row order
+     * @param languages The language keys
+     * @param values The values of each entity by field name, indexed by language and row;
+     *               null for entities without translation in the language
+     * @throws IOException If the file cannot be written
+     */
+    static void write(Path file, String entityName, long[] ids, String[] languages,
+                      Map<String, String>[][] values) throws IOException {
+        TreeSet<String> fieldSet = new TreeSet<>();
+        for (Map<String, String>[] languageValues : values) {
+            for (Map<String, String> rowValues : languageValues) {
+                if (rowValues != null) {
+                    fieldSet.addAll(rowValues.keySet());
+                }
+            }
+        }
+        String[] fields = fieldSet.toArray(new String[0]);
+        Integer[] order = new Integer[ids.length];
+        Arrays.setAll(order, row -> row);
+        Arrays.sort(order, Comparator.comparingLong(row -> ids[row]));
+
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        DataOutputStream stringOut = new DataOutputStream(strings);
+        Map<String, Integer> stringOffsets = new HashMap<>();
+        int[] offsets = new int[Math.multiplyExact(Math.multiplyExact(languages.length, ids.length), fields.length)];
+        int index = 0;
+        for (Map<String, String>[] languageValues : values) {
+            for (int row : order) {
+                Map<String, String> rowValues = languageValues[row];
+                for (String field : fields) {
+                    String value = rowValues == null ? null : rowValues.get(field);
+                    if (value == null) {
+                        offsets[index++] = NO_VALUE;
+                        continue;
+                    }
+                    Integer offset = stringOffsets.get(value);
+                    if (offset == null) {
+                        offset = stringOut.size();
+                        writeString(stringOut, value);
+                        stringOffsets.put(value, offset);
+                    }
+                    offsets[index++] = offset;
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CRC32 crc = new CRC32();
+        DataOutputStream out = new DataOutputStream(new CheckedOutputStream(bytes, crc));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, entityName);
+        out.writeInt(ids.length);
+        out.writeInt(fields.length);
+        out.writeInt(languages.length);
+        out.writeInt(strings.size());
+        for (String field : fields) {
+            writeString(out, field);
+        }
+        for (String language : languages) {
+            writeString(out, language);
+        }
+        for (int row : order) {
+            out.writeLong(ids[row]);
+        }
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+        strings.writeTo(out);
+        out.writeLong(crc.getValue());
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, bytes.toByteArray());
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps the snapshot file of an entity type into memory.
+     *
+     * @param file The snapshot file
+     * @param entityName The entity name the file must be valid for
+     * @param sequence The invalidation sequence of the catalog
+     * @return The mapped snapshot
+     * @throws IOException If the file cannot be read, is corrupt or belongs to another entity type
+     *                     or format version
+     */
+    static MappedCatalogSnapshot map(Path file, String entityName, long sequence) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot file exceeds 2 GB: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a catalog snapshot file of version " + VERSION + ": " + file);
+            }
+            String fileEntityName = readString(buffer);
+            if (!fileEntityName.equals(entityName)) {
+                throw new IOException("Catalog snapshot file " + file + " belongs to " + fileEntityName);
+            }
+            int size = buffer.getInt();
+            int fieldCount = buffer.getInt();
+            int languageCount = buffer.getInt();
+            int stringsLength = buffer.getInt();
+            String[] fields = new String[fieldCount];
+            for (int index = 0; index < fieldCount; index++) {
+                fields[index] = readString(buffer);
+            }
+            String[] languages = new String[languageCount];
+            for (int index = 0; index < languageCount; index++) {
+                languages[index] = readString(buffer);
+            }
+            int idsOffset = buffer.position();
+            long valuesOffset = idsOffset + (long) size * Long.BYTES;
+            long stringsOffset = valuesOffset + (long) languageCount * size * fieldCount * Integer.BYTES;
+            long crcOffset = stringsOffset + stringsLength;
+            if (size < 0 || fieldCount < 0 || languageCount < 0 || stringsLength < 0
+                    || crcOffset + Long.BYTES != buffer.capacity()) {
+                throw new IOException("Truncated catalog snapshot file: " + file);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().position(0).limit((int) crcOffset));
+            if (crc.getValue() != buffer.getLong((int) crcOffset)) {
+                throw new IOException("Corrupt catalog snapshot file: " + file);
+            }
+            return new MappedCatalogSnapshot(sequence, buffer, size, fields, languages,
+                idsOffset, (int) valuesOffset, (int) stringsOffset);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException
+                 | NegativeArraySizeException e) {
+            throw new IOException("Truncated catalog snapshot file: " + file, e);
+        }
+    }
+
+    /**
+     * Reads the string at an offset of the string table.
+     */
+    static String readString(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        String value = readString(buffer, buffer.position());
+        buffer.position(buffer.position() + Integer.BYTES + buffer.getInt(buffer.position()));
+        return value;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
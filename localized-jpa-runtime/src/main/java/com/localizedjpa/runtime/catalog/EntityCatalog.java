@@ -0,0 +1,223 @@
+package com.localizedjpa.runtime.catalog;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import com.localizedjpa.runtime.cache.TranslationInvalidation;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The catalog of one entity type: its current {@link CatalogSnapshot} and the invalidations the
+ * snapshot does not reflect yet.
+ *
+ * <p>Every invalidation takes the next number of a sequence. A snapshot remembers the sequence
+ * when its loading started, so it serves an entity only if no invalidation of the entity or the
+ * whole type is newer. Lookups of invalidated entities return null and fall back to the entity's
+ * {@code translations} collection until a new snapshot is swapped in.
+ *
+ * <p>Refreshes are single-flight: invalidations request a refresh, at most one runs at a time,
+ * and it loads again as long as invalidations arrived meanwhile.
+ *
+ * <p>With a snapshot file, every load is also written to the file, and {@link #restore()} maps the
+ * file of the previous run.
+ */
+final class EntityCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCatalog.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final String entityName;
+    private final String idQuery;
+    private final String translationQuery;
+    private final Executor refreshExecutor;
+    private final Path snapshotFile;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> invalidatedEntities = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long invalidatedType;
+    private volatile CatalogSnapshot snapshot;
+
+    EntityCatalog(SessionFactoryImplementor sessionFactory, String entityName, CollectionPersister translations,
+                  Executor refreshExecutor, Path snapshotFile) {
+        this.sessionFactory = sessionFactory;
+        this.entityName = entityName;
+        this.refreshExecutor = refreshExecutor;
+        this.snapshotFile = snapshotFile;
+        JpaMetamodel metamodel = sessionFactory.getJpaMetamodel();
+        String parentName = metamodel.entity(entityName).getName();
+        if (!(translations.getAttributeMapping().getElementDescriptor() instanceof EntityValuedModelPart element)) {
+            throw new IllegalArgumentException(translations.getRole() + " is not a collection of translation entities");
+        }
+        String translationName = metamodel.entity(element.getEntityMappingType().getEntityName()).getName();
+        this.idQuery = "select id(e) from " + parentName + " e";
+        this.translationQuery = "select id(t.parent), t from " + translationName + " t";
+    }
+
+    String entityName() {
+        return entityName;
+    }
+
+    /**
+     * @return The number of entities in the current snapshot, 0 before the first load
+     */
+    int size() {
+        CatalogSnapshot current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * @return The values of an entity by field name, or null if the current snapshot does not
+     *         hold the entity or is older than an invalidation of it
+     */
+    Map<String, String> values(long id, String language) {
+        CatalogSnapshot current = snapshot;
+        if (current == null || current.sequence() < invalidatedType) {
+            return null;
+        }
+        if (!invalidatedEntities.isEmpty()) {
+            Long invalidatedAt = invalidatedEntities.get(id);
+            if (invalidatedAt != null && invalidatedAt > current.sequence()) {
+                return null;
+            }
+        }
+        return current.values(id, language);
+    }
+
+    /**
+     * Stops serving the invalidated entities and requests a refresh.
+     */
+    void invalidate(TranslationInvalidation invalidation) {
+        long invalidatedAt = sequence.incrementAndGet();
+        Long id = invalidation.entityId() == null ? null : parseId(invalidation.entityId());
+        if (id == null) {
+            invalidatedType = invalidatedAt;
+        } else {
+            invalidatedEntities.put(id, invalidatedAt);
+        }
+        requestRefresh();
+    }
+
+    /**
+     * Serves the snapshot file written by a previous load, if there is a valid one, and requests a
+     * refresh that replaces it with the database state.
+     *
+     * @return Whether a snapshot file was mapped
+     */
+    boolean restore() {
+        if (snapshotFile == null) {
+            return false;
+        }
+        try {
+            snapshot = CatalogSnapshotFile.map(snapshotFile, entityName, sequence.get());
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Ignoring catalog snapshot file of {}", entityName, e);
+            return false;
+        }
+        requestRefresh();
+        return true;
+    }
+
+    /**
+     * Loads a new snapshot and swaps it in.
+     */
+    synchronized void load() {
+        long loadedAt = sequence.get();
+        List<Object> ids;
+        List<Object[]> translations;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            ids = session.createSelectionQuery(idQuery, Object.class).getResultList();
+            translations = session.createSelectionQuery(translationQuery, Object[].class).getResultList();
+        }
+
+        long[] keys = new long[ids.size()];
+        Map<Long, Integer> rows = new HashMap<>(ids.size() * 2);
+        for (int row = 0; row < keys.length; row++) {
+            keys[row] = ((Number) ids.get(row)).longValue();
+            rows.put(keys[row], row);
+        }
+        Map<String, Map<String, String>[]> valuesByLanguage = new LinkedHashMap<>();
+        for (Object[] result : translations) {
+            Integer row = rows.get(((Number) result[0]).longValue());
+            AbstractTranslation translation = (AbstractTranslation) result[1];
+            if (row == null || translation.getLocale() == null) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, String>[] languageValues = valuesByLanguage.computeIfAbsent(translation.getLocale(),
+                language -> new Map[keys.length]);
+            languageValues[row] = Map.copyOf(withoutNullValues(translation.localizedValues()));
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String>[][] values = valuesByLanguage.values().toArray(new Map[0][]);
+        String[] languages = valuesByLanguage.keySet().toArray(new String[0]);
+        if (snapshotFile != null) {
+            try {
+                CatalogSnapshotFile.write(snapshotFile, entityName, keys, languages, values);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Writing the catalog snapshot file of {} failed", entityName, e);
+            }
+        }
+        snapshot = new HeapCatalogSnapshot(loadedAt, keys, languages, values);
+        invalidatedEntities.values().removeIf(invalidatedAt -> invalidatedAt <= loadedAt);
+        log.debug("Loaded catalog of {} with {} entities and {} languages", entityName, keys.length, values.length);
+    }
+
+    private void requestRefresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            refreshExecutor.execute(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        boolean loaded = false;
+        try {
+            do {
+                load();
+            } while (snapshot.sequence() != sequence.get());
+            loaded = true;
+        } catch (RuntimeException e) {
+            // Invalidated entities keep falling back to their collections until the next invalidation
+            log.warn("Refreshing the catalog of {} failed", entityName, e);
+        } finally {
+            refreshing.set(false);
+        }
+        // An invalidation may have found the flag still set after the last load
+        if (loaded && snapshot.sequence() != sequence.get()) {
+            requestRefresh();
+        }
+    }
+
+    private static Map<String, String> withoutNullValues(Map<String, String> values) {
+        Map<String, String> copy = new HashMap<>(values);
+        copy.values().removeIf(value -> value == null);
+        return copy;
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
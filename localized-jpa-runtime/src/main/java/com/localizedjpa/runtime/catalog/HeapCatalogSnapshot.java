@@ -0,0 +1,96 @@
+package com.localizedjpa.runtime.catalog;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * {@link CatalogSnapshot} on the heap, built from a database load.
+ *
+ * <p>Entity ids are mapped to row numbers by an open-addressing table of primitive {@code long}s.
+ * Values are stored per language in an array indexed by row, so a lookup hashes one {@code long},
+ * compares a few language keys and reads two arrays.
+ */
+final class HeapCatalogSnapshot implements CatalogSnapshot {
+
+    private static final int EMPTY = -1;
+
+    private final long sequence;
+    private final int size;
+    private final long[] keys;
+    private final int[] rows;
+    private final int mask;
+    private final String[] languages;
+    private final Map<String, String>[][] values;
+
+    /**
+     * @param sequence The invalidation sequence of the catalog when loading started
+     * @param ids The ids of all entities, in row order
+     * @param languages The language keys
+     * @param values The values of each entity by field name, indexed by language and row;
+     *               null for entities without translation in the language
+     */
+    HeapCatalogSnapshot(long sequence, long[] ids, String[] languages, Map<String, String>[][] values) {
+        this.sequence = sequence;
+        this.size = ids.length;
+        this.languages = languages;
+        this.values = values;
+        int capacity = Integer.highestOneBit(Math.max(2, ids.length * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.rows = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(rows, EMPTY);
+        for (int row = 0; row < ids.length; row++) {
+            int slot = slot(ids[row]);
+            while (rows[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = ids[row];
+            rows[slot] = row;
+        }
+        for (Map<String, String>[] languageValues : values) {
+            for (int row = 0; row < languageValues.length; row++) {
+                if (languageValues[row] == null) {
+                    languageValues[row] = Map.of();
+                }
+            }
+        }
+    }
+
+    @Override
+    public long sequence() {
+        return sequence;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Map<String, String> values(long id, String language) {
+        int row = row(id);
+        if (row == EMPTY) {
+            return null;
+        }
+        for (int index = 0; index < languages.length; index++) {
+            if (languages[index].equals(language)) {
+                return values[index][row];
+            }
+        }
+        return Map.of();
+    }
+
+    private int row(long id) {
+        for (int slot = slot(id); ; slot = (slot + 1) & mask) {
+            int row = rows[slot];
+            if (row == EMPTY || keys[slot] == id) {
+                return row;
+            }
+        }
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
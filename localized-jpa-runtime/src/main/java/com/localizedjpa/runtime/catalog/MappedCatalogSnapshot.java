@@ -0,0 +1,124 @@
+package com.localizedjpa.runtime.catalog;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link CatalogSnapshot} served from a memory-mapped {@link CatalogSnapshotFile}.
+ *
+ * <p>Only the field names and language keys are read onto the heap. A lookup binary-searches the
+ * sorted ids in the file and returns a view of the entity's value offsets; values are decoded from
+ * the string table when they are read, so the snapshot is usable as soon as the file is mapped.
+ */
+final class MappedCatalogSnapshot implements CatalogSnapshot {
+
+    private final long sequence;
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String[] fields;
+    private final String[] languages;
+    private final int idsOffset;
+    private final int valuesOffset;
+    private final int stringsOffset;
+
+    MappedCatalogSnapshot(long sequence, ByteBuffer buffer, int size, String[] fields, String[] languages,
+                          int idsOffset, int valuesOffset, int stringsOffset) {
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.size = size;
+        this.fields = fields;
+        this.languages = languages;
+        this.idsOffset = idsOffset;
+        this.valuesOffset = valuesOffset;
+        this.stringsOffset = stringsOffset;
+    }
+
+    @Override
+    public long sequence() {
+        return sequence;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Map<String, String> values(long id, String language) {
+        int row = row(id);
+        if (row < 0) {
+            return null;
+        }
+        for (int index = 0; index < languages.length; index++) {
+            if (languages[index].equals(language)) {
+                return new Values(valuesOffset + ((index * size + row) * fields.length) * Integer.BYTES);
+            }
+        }
+        return Map.of();
+    }
+
+    private int row(long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = buffer.getLong(idsOffset + middle * Long.BYTES);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The values of one entity in one language, decoded on access.
+     */
+    private final class Values extends AbstractMap<String, String> {
+
+        private final int offsets;
+
+        Values(int offsets) {
+            this.offsets = offsets;
+        }
+
+        @Override
+        public String get(Object key) {
+            for (int index = 0; index < fields.length; index++) {
+                if (fields[index].equals(key)) {
+                    return value(index);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int index = 0; index < fields.length; index++) {
+                String value = value(index);
+                if (value != null) {
+                    values.put(fields[index], value);
+                }
+            }
+            return Collections.unmodifiableMap(values).entrySet();
+        }
+
+        private String value(int field) {
+            int offset = buffer.getInt(offsets + field * Integer.BYTES);
+            return offset < 0 ? null : CatalogSnapshotFile.readString(buffer, stringsOffset + offset);
+        }
+    }
+}
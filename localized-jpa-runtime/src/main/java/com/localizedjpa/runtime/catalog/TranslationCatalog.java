@@ -0,0 +1,184 @@
+package com.localizedjpa.runtime.catalog;
+
+import com.localizedjpa.annotations.TranslationTable;
+import com.localizedjpa.runtime.cache.TranslationCache;
+import com.localizedjpa.runtime.cache.TranslationInvalidation;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-memory catalogs of entities annotated with {@code @TranslationTable(catalog = true)}.
+ *
+ * <p>At startup every entity of such a type and all of its translations are loaded into an
+ * immutable snapshot. The generated {@code get<Field>(Locale)} methods read from it, through
+ * {@link TranslationCache#values}, while the entity's {@code translations} collection is not
+ * initialized, so they neither load the collection nor touch the persistence context.
+ *
+ * <p>Invalidations of the {@link TranslationCache} - by translation writes on this node, upserts,
+ * bulk loads or other nodes - also invalidate the affected catalog entries. Those entities are
+ * served from their collections until a background refresh swaps in a new snapshot. A refresh
+ * reloads the whole type; at most one runs per type at a time, however many invalidations arrive.
+ *
+ * <p>With a {@linkplain #setSnapshotDirectory(Path) snapshot directory}, each load is also written
+ * to a compact file per type, {@code <entity name>.catalog}. On the next startup the file is
+ * memory-mapped and served at once, without querying the database, while a background refresh
+ * validates it by loading the type and swapping in the result. Until then the catalog serves the
+ * state of the last load before the restart.
+ *
+ * <p>Catalogs are registered at startup by {@code LocalizedJpaAutoConfiguration}.
+ */
+public final class TranslationCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationCatalog.class);
+
+    private static final String TRANSLATIONS_SUFFIX = ".translations";
+    private static final String SNAPSHOT_FILE_SUFFIX = ".catalog";
+
+    /**
+     * Catalogs by the role of their {@code translations} collection.
+     */
+    private static final Map<String, EntityCatalog> catalogs = new ConcurrentHashMap<>();
+
+    private static final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "localized-jpa-catalog-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile Path snapshotDirectory;
+
+    private TranslationCatalog() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Sets the directory where catalog snapshots are written and restored from, for the catalogs
+     * registered afterwards. Created if it does not exist.
+     *
+     * @param directory The directory, or null to keep catalogs in memory only (default)
+     */
+    public static void setSnapshotDirectory(Path directory) {
+        snapshotDirectory = directory;
+    }
+
+    /**
+     * Loads the catalogs of all entities of a persistence unit with
+     * {@code @TranslationTable(catalog = true)}. Catalogs already registered for a type are replaced.
+     *
+     * @param entityManagerFactory A Hibernate EntityManagerFactory
+     */
+    public static void register(EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        for (EntityType<?> entityType : sessionFactory.getJpaMetamodel().getEntities()) {
+            TranslationTable translationTable = entityType.getJavaType() == null
+                ? null
+                : entityType.getJavaType().getAnnotation(TranslationTable.class);
+            if (translationTable == null || !translationTable.catalog()) {
+                continue;
+            }
+            String entityName = entityType.getJavaType().getName();
+            String role = entityName + TRANSLATIONS_SUFFIX;
+            CollectionPersister translations = sessionFactory.getMappingMetamodel().findCollectionDescriptor(role);
+            if (translations == null) {
+                log.warn("{} has @TranslationTable(catalog = true) but no translations collection", entityName);
+                continue;
+            }
+            Path directory = snapshotDirectory;
+            EntityCatalog catalog = new EntityCatalog(sessionFactory, entityName, translations, refreshExecutor,
+                directory == null ? null : directory.resolve(entityName + SNAPSHOT_FILE_SUFFIX));
+            if (catalog.restore()) {
+                log.info("Mapped translation catalog of {} with {} entities from its snapshot file", entityName,
+                    catalog.size());
+            } else {
+                catalog.load();
+                log.info("Loaded translation catalog of {} with {} entities", entityName, catalog.size());
+            }
+            catalogs.put(role, catalog);
+        }
+        if (!catalogs.isEmpty()) {
+            // Writes of catalog translations must be resolved to their parents
+            TranslationCache.register(entityManagerFactory);
+        }
+    }
+
+    /**
+     * Removes all catalogs.
+     */
+    public static void clear() {
+        catalogs.clear();
+    }
+
+    /**
+     * @return Whether any catalog is registered
+     */
+    public static boolean isEnabled() {
+        return !catalogs.isEmpty();
+    }
+
+    /**
+     * Reloads the catalog of an entity type now.
+     *
+     * @param entityType The localized entity class, e.g. {@code Badge.class}
+     * @throws IllegalArgumentException If the type has no catalog
+     */
+    public static void refresh(Class<?> entityType) {
+        EntityCatalog catalog = catalogs.get(entityType.getName() + TRANSLATIONS_SUFFIX);
+        if (catalog == null) {
+            throw new IllegalArgumentException("No translation catalog registered for " + entityType.getName());
+        }
+        catalog.load();
+    }
+
+    /**
+     * @param entityType The localized entity class, e.g. {@code Badge.class}
+     * @return The number of entities in the type's catalog, 0 if it has none
+     */
+    public static int size(Class<?> entityType) {
+        EntityCatalog catalog = catalogs.get(entityType.getName() + TRANSLATIONS_SUFFIX);
+        return catalog == null ? 0 : catalog.size();
+    }
+
+    /**
+     * Returns the values of an entity in a locale. Called by {@link TranslationCache#values}.
+     *
+     * @param role The role of the entity's {@code translations} collection
+     * @param id The entity id
+     * @param language The language key of the requested locale
+     * @return The values by localized field name, empty if the entity has no translation in the
+     *         locale, or null if the catalog does not serve the entity
+     */
+    public static Map<String, String> values(String role, Object id, String language) {
+        if (catalogs.isEmpty()) {
+            return null;
+        }
+        EntityCatalog catalog = catalogs.get(role);
+        if (catalog == null || !(id instanceof Number number)) {
+            return null;
+        }
+        return catalog.values(number.longValue(), language);
+    }
+
+    /**
+     * Applies an invalidation of the {@link TranslationCache} to the affected catalogs.
+     */
+    public static void invalidate(TranslationInvalidation invalidation) {
+        if (catalogs.isEmpty()) {
+            return;
+        }
+        for (EntityCatalog catalog : catalogs.values()) {
+            if (invalidation.entityName() == null || invalidation.entityName().equals(catalog.entityName())) {
+                catalog.invalidate(invalidation);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Immutable in-memory catalogs of small, read-mostly localized entities.
+ *
+ * <ul>
+ *   <li>{@link com.localizedjpa.runtime.catalog.TranslationCatalog TranslationCatalog} -
+ *       Registry of the catalogs of {@code @TranslationTable(catalog = true)} entities, consulted by the
+ *       generated getters</li>
+ * </ul>
+ *
+ * <p>Example: a reference entity read on every product response:
+ * <pre>{@code
+ * @Entity
+ * @TranslationTable(catalog = true)
+ * public class Badge {
+ *     @Id
+ *     private Long id;
+ *
+ *     @Localized
+ *     private String name;
+ * }
+ * }</pre>
+ */
+package com.localizedjpa.runtime.catalog;
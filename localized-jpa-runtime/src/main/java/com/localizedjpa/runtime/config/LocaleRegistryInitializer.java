@@ -0,0 +1,115 @@
+package com.localizedjpa.runtime.config;
+
+import com.localizedjpa.runtime.LocaleRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads the locale registry table into {@link LocaleRegistry} at startup.
+ *
+ * <p>Creates the table if it does not exist and registers every supported locale and the default
+ * locale that is not registered yet, with the next free id. Existing ids are never changed, since
+ * translation rows reference them.
+ *
+ * <p>Only registered when {@code localized-jpa.locale-dictionary=true}.
+ */
+public class LocaleRegistryInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LocaleRegistryInitializer.class);
+
+    private static final String TABLE = LocaleRegistry.TABLE_NAME;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalizedJpaProperties properties;
+
+    public LocaleRegistryInitializer(JdbcTemplate jdbcTemplate, LocalizedJpaProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!tableExists()) {
+            jdbcTemplate.execute("CREATE TABLE " + TABLE +
+                " (id SMALLINT NOT NULL PRIMARY KEY, code VARCHAR(10) NOT NULL UNIQUE)");
+            log.info("Created locale registry table '{}'", TABLE);
+        }
+
+        Map<Short, String> registered = load();
+        for (String language : configuredLanguages()) {
+            if (!registered.containsValue(language)) {
+                registered = register(language, registered);
+            }
+        }
+
+        LocaleRegistry.configure(registered);
+        log.info("Locale registry initialized: {}", registered);
+    }
+
+    /**
+     * @return Language keys of the supported locales followed by the default locale
+     */
+    Set<String> configuredLanguages() {
+        Set<String> languages = new LinkedHashSet<>();
+        for (Locale locale : properties.getSupportedLocalesAsLocale()) {
+            languages.add(locale.getLanguage());
+        }
+        languages.add(properties.getDefaultLocaleAsLocale().getLanguage());
+        return languages;
+    }
+
+    private Map<Short, String> register(String language, Map<Short, String> registered) {
+        short id = (short) (registered.keySet().stream().mapToInt(Short::intValue).max().orElse(0) + 1);
+        try {
+            jdbcTemplate.update("INSERT INTO " + TABLE + " (id, code) VALUES (?, ?)", id, language);
+            registered.put(id, language);
+            return registered;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance registered concurrently - its ids win
+            Map<Short, String> reloaded = load();
+            if (reloaded.containsValue(language)) {
+                return reloaded;
+            }
+            if (!reloaded.containsKey(id)) {
+                throw e;
+            }
+            // It took the id for another language; try the next free one
+            return register(language, reloaded);
+        }
+    }
+
+    private Map<Short, String> load() {
+        Map<Short, String> registered = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, code FROM " + TABLE + " ORDER BY id",
+            (RowCallbackHandler) rs -> registered.put(rs.getShort("id"), rs.getString("code")));
+        return registered;
+    }
+
+    private boolean tableExists() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : new String[] {TABLE, TABLE.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[] {"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -1,20 +1,35 @@
 package com.localizedjpa.runtime.config;
 
+import com.localizedjpa.runtime.LocaleFallback;
+import com.localizedjpa.runtime.LocalizedStreams;
+import com.localizedjpa.runtime.cache.FinderResultCache;
+import com.localizedjpa.runtime.cache.JdbcTranslationInvalidationBus;
+import com.localizedjpa.runtime.cache.TranslationCache;
+import com.localizedjpa.runtime.cache.TranslationInvalidationBus;
 import com.localizedjpa.runtime.exception.LocalizedJpaExceptionHandler;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 
+import javax.sql.DataSource;
 import java.util.List;
 import java.util.Locale;
 
@@ -71,6 +86,13 @@ public class LocalizedJpaAutoConfiguration implements WebMvcConfigurer {
             }
         }
         
+        // Generated code reads the fallback locale statically
+        LocaleFallback.configure(properties.getDefaultLocaleAsLocale(), properties.getSupportedLocalesAsLocale());
+        LocalizedStreams.configure(properties.getStreamFetchSize(), properties.getStreamClearInterval());
+        TranslationCache.configure(properties.getTranslationCacheSize(), properties.getTranslationCacheTtl());
+        FinderResultCache.configure(properties.getFinderCacheSize(), properties.getFinderCacheTtl(),
+            properties.getFinderCacheNegativeTtl());
+
         String supportedLocalesStr = supportedLocales.isEmpty() 
             ? "all locales (validation disabled)" 
             : String.join(", ", supportedLocales);
@@ -140,4 +162,133 @@ public class LocalizedJpaAutoConfiguration implements WebMvcConfigurer {
         registry.addInterceptor(localeChangeInterceptor()).order(10);
         registry.addInterceptor(localeValidationInterceptor(localeResolver())).order(20);
     }
+
+    /**
+     * Restricts translations loading to the active locales when
+     * {@code localized-jpa.filter-translations=true}.
+     *
+     * @see com.localizedjpa.runtime.TranslationFilter
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.hibernate.Session")
+    @ConditionalOnProperty(prefix = "localized-jpa", name = "filter-translations", havingValue = "true")
+    static class TranslationFilterConfiguration implements WebMvcConfigurer {
+
+        private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+
+        TranslationFilterConfiguration(ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+            this.entityManagerFactories = entityManagerFactories;
+        }
+
+        /**
+         * Filters every EntityManager created while a locale context is present.
+         * Static so that it does not force early initialization of this configuration.
+         */
+        @Bean
+        static BeanPostProcessor translationFilterEntityManagerInitializer() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                    if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                        factoryBean.setEntityManagerInitializer(TranslationFilterInterceptor::enableForCurrentLocale);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        @Bean
+        public TranslationFilterInterceptor translationFilterInterceptor() {
+            return new TranslationFilterInterceptor(entityManagerFactories);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            // Must run AFTER LocaleValidationInterceptor (order 20) to use the validated locale
+            registry.addInterceptor(translationFilterInterceptor()).order(30);
+        }
+    }
+
+    /**
+     * Loads the locale registry of dictionary-encoded translation tables when
+     * {@code localized-jpa.locale-dictionary=true}.
+     *
+     * @see com.localizedjpa.runtime.LocaleRegistry
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.jdbc.core.JdbcTemplate")
+    @ConditionalOnProperty(prefix = "localized-jpa", name = "locale-dictionary", havingValue = "true")
+    static class LocaleDictionaryConfiguration {
+
+        @Bean
+        public LocaleRegistryInitializer localeRegistryInitializer(DataSource dataSource,
+                                                                   LocalizedJpaProperties properties) {
+            return new LocaleRegistryInitializer(new JdbcTemplate(dataSource), properties);
+        }
+    }
+
+    /**
+     * Loads the translation catalogs of entities with {@code @TranslationTable(catalog = true)}.
+     *
+     * @see com.localizedjpa.runtime.catalog.TranslationCatalog
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.hibernate.Session")
+    static class TranslationCatalogConfiguration {
+
+        @Bean
+        public TranslationCatalogInitializer translationCatalogInitializer(
+                ObjectProvider<EntityManagerFactory> entityManagerFactories, LocalizedJpaProperties properties) {
+            return new TranslationCatalogInitializer(entityManagerFactories, properties.getCatalogSnapshotDirectory());
+        }
+    }
+
+    /**
+     * Preloads the translations of the entities listed in {@code localized-jpa.warmup.entities}
+     * before the application reports ready.
+     *
+     * @see com.localizedjpa.runtime.cache.TranslationWarmup
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.hibernate.Session")
+    static class TranslationWarmupConfiguration {
+
+        @Bean
+        public TranslationWarmupRunner translationWarmupRunner(
+                ObjectProvider<EntityManagerFactory> entityManagerFactories, LocalizedJpaProperties properties) {
+            return new TranslationWarmupRunner(entityManagerFactories, properties);
+        }
+    }
+
+    /**
+     * Sends translation cache invalidations to the other application nodes when
+     * {@code localized-jpa.translation-cache-invalidation=true}.
+     *
+     * @see com.localizedjpa.runtime.cache.TranslationInvalidations
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.jdbc.core.JdbcTemplate")
+    @ConditionalOnProperty(prefix = "localized-jpa", name = "translation-cache-invalidation", havingValue = "true")
+    static class TranslationInvalidationConfiguration {
+
+        /**
+         * Polls a notification table unless another bus is defined.
+         */
+        @Bean
+        @ConditionalOnMissingBean(TranslationInvalidationBus.class)
+        public JdbcTranslationInvalidationBus translationInvalidationBus(DataSource dataSource,
+                                                                         LocalizedJpaProperties properties) {
+            return new JdbcTranslationInvalidationBus(dataSource, properties.getTranslationCacheInvalidationInterval(),
+                JdbcTranslationInvalidationBus.DEFAULT_RETENTION);
+        }
+
+        @Bean
+        public TranslationInvalidationInitializer translationInvalidationInitializer(
+                TranslationInvalidationBus translationInvalidationBus,
+                ObjectProvider<EntityManagerFactory> entityManagerFactories,
+                LocalizedJpaProperties properties) {
+            return new TranslationInvalidationInitializer(translationInvalidationBus, entityManagerFactories,
+                properties.getTranslationCacheInvalidationInterval());
+        }
+    }
 }
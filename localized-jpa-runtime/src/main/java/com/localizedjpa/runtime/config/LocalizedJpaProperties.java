@@ -1,11 +1,18 @@
 package com.localizedjpa.runtime.config;
 
+import com.localizedjpa.runtime.LocalizedStreams;
+import com.localizedjpa.runtime.cache.FinderResultCache;
+import com.localizedjpa.runtime.cache.TranslationCache;
+import com.localizedjpa.runtime.cache.TranslationInvalidations;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Configuration properties for Localized JPA.
@@ -41,6 +48,100 @@ public class LocalizedJpaProperties {
      */
     private boolean exceptionOnUnsupportedLanguages = true;
 
+    /**
+     * Whether to load only the request's locale and the default locale when a
+     * translations collection is initialized, using a Hibernate filter enabled per request.
+     * Translations of other locales must not be written while the filter is active.
+     * Defaults to false.
+     */
+    private boolean filterTranslations = false;
+
+    /**
+     * Whether to load and seed the locale registry table used by translation tables with
+     * {@code @TranslationTable(localeStorage = DICTIONARY)}. Supported locales and the default
+     * locale are registered at startup. Requires a DataSource.
+     * Defaults to false.
+     */
+    private boolean localeDictionary = false;
+
+    /**
+     * JDBC fetch size of generated {@code Stream} finders, i.e. the number of rows
+     * read from the database cursor per round trip.
+     * Defaults to 500.
+     */
+    private int streamFetchSize = LocalizedStreams.DEFAULT_FETCH_SIZE;
+
+    /**
+     * Number of entities a {@code Stream} finder streams before detaching them, so a full
+     * pass over a table runs in constant memory. 0 keeps every streamed entity managed.
+     * Defaults to 500.
+     */
+    private int streamClearInterval = LocalizedStreams.DEFAULT_FETCH_SIZE;
+
+    /**
+     * Maximum number of (entity, id, locale) entries of the in-process translation cache
+     * consulted by the generated getters. 0 disables the cache.
+     * Defaults to 0.
+     */
+    private int translationCacheSize = 0;
+
+    /**
+     * Time after which a translation cache entry expires, bounding how long changes made
+     * elsewhere stay invisible. 0 keeps entries until they are evicted by size or writes.
+     * Defaults to 10 minutes.
+     */
+    private Duration translationCacheTtl = TranslationCache.DEFAULT_TIME_TO_LIVE;
+
+    /**
+     * Whether invalidations of the translation cache are sent to and received from the other
+     * application nodes. Uses a {@code TranslationInvalidationBus} bean if one is defined, otherwise
+     * a notification table in the application's database. Requires a DataSource for the default.
+     * Defaults to false.
+     */
+    private boolean translationCacheInvalidation = false;
+
+    /**
+     * Interval at which invalidations are published and, by the default bus, polled. Other nodes
+     * see a change after about twice this interval.
+     * Defaults to 1 second.
+     */
+    private Duration translationCacheInvalidationInterval = TranslationInvalidations.DEFAULT_PUBLISH_INTERVAL;
+
+    /**
+     * Maximum number of results of generated {@code List} finders kept as entity ids, keyed by
+     * finder, locale and arguments, and dropped when a translation of the entity type is written.
+     * 0 disables the cache.
+     * Defaults to 0.
+     */
+    private int finderCacheSize = 0;
+
+    /**
+     * Time after which a cached non-empty finder result expires. 0 keeps results until they
+     * are evicted by size or writes.
+     * Defaults to 10 minutes.
+     */
+    private Duration finderCacheTtl = FinderResultCache.DEFAULT_TIME_TO_LIVE;
+
+    /**
+     * Time after which a cached empty finder result expires, bounding how long a translation
+     * written by another process stays unfound.
+     * Defaults to 30 seconds.
+     */
+    private Duration finderCacheNegativeTtl = FinderResultCache.DEFAULT_NEGATIVE_TIME_TO_LIVE;
+
+    /**
+     * Directory where the snapshots of {@code @TranslationTable(catalog = true)} entities are
+     * written. At startup they are memory-mapped and served while the catalogs reload in the
+     * background. Unset keeps catalogs in memory only.
+     * Defaults to unset.
+     */
+    private String catalogSnapshotDirectory;
+
+    /**
+     * Preloading of hot entities' translations at startup.
+     */
+    private final Warmup warmup = new Warmup();
+
     // Cached converted values (lazily initialized)
     private volatile List<Locale> cachedSupportedLocales;
     private volatile Locale cachedDefaultLocale;
@@ -73,6 +174,106 @@ public class LocalizedJpaProperties {
         this.exceptionOnUnsupportedLanguages = exceptionOnUnsupportedLanguages;
     }
 
+    public boolean isFilterTranslations() {
+        return filterTranslations;
+    }
+
+    public void setFilterTranslations(boolean filterTranslations) {
+        this.filterTranslations = filterTranslations;
+    }
+
+    public boolean isLocaleDictionary() {
+        return localeDictionary;
+    }
+
+    public void setLocaleDictionary(boolean localeDictionary) {
+        this.localeDictionary = localeDictionary;
+    }
+
+    public int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    public void setStreamFetchSize(int streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    public int getStreamClearInterval() {
+        return streamClearInterval;
+    }
+
+    public void setStreamClearInterval(int streamClearInterval) {
+        this.streamClearInterval = streamClearInterval;
+    }
+
+    public int getTranslationCacheSize() {
+        return translationCacheSize;
+    }
+
+    public void setTranslationCacheSize(int translationCacheSize) {
+        this.translationCacheSize = translationCacheSize;
+    }
+
+    public Duration getTranslationCacheTtl() {
+        return translationCacheTtl;
+    }
+
+    public void setTranslationCacheTtl(Duration translationCacheTtl) {
+        this.translationCacheTtl = translationCacheTtl;
+    }
+
+    public boolean isTranslationCacheInvalidation() {
+        return translationCacheInvalidation;
+    }
+
+    public void setTranslationCacheInvalidation(boolean translationCacheInvalidation) {
+        this.translationCacheInvalidation = translationCacheInvalidation;
+    }
+
+    public Duration getTranslationCacheInvalidationInterval() {
+        return translationCacheInvalidationInterval;
+    }
+
+    public void setTranslationCacheInvalidationInterval(Duration translationCacheInvalidationInterval) {
+        this.translationCacheInvalidationInterval = translationCacheInvalidationInterval;
+    }
+
+    public int getFinderCacheSize() {
+        return finderCacheSize;
+    }
+
+    public void setFinderCacheSize(int finderCacheSize) {
+        this.finderCacheSize = finderCacheSize;
+    }
+
+    public Duration getFinderCacheTtl() {
+        return finderCacheTtl;
+    }
+
+    public void setFinderCacheTtl(Duration finderCacheTtl) {
+        this.finderCacheTtl = finderCacheTtl;
+    }
+
+    public Duration getFinderCacheNegativeTtl() {
+        return finderCacheNegativeTtl;
+    }
+
+    public void setFinderCacheNegativeTtl(Duration finderCacheNegativeTtl) {
+        this.finderCacheNegativeTtl = finderCacheNegativeTtl;
+    }
+
+    public String getCatalogSnapshotDirectory() {
+        return catalogSnapshotDirectory;
+    }
+
+    public void setCatalogSnapshotDirectory(String catalogSnapshotDirectory) {
+        this.catalogSnapshotDirectory = catalogSnapshotDirectory;
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
     /**
      * Converts supported locale strings to Locale objects.
      * Result is cached for performance - no new objects created on subsequent calls.
@@ -117,5 +318,83 @@ public class LocalizedJpaProperties {
         }
         return result;
     }
-}
 
+    /**
+     * Startup warm-up of the translation cache and the second-level cache.
+     *
+     * <pre>
+     * localized-jpa:
+     *   warmup:
+     *     entities:
+     *       Product:
+     *         limit: 10000
+     *       Category:
+     *         query: select c.id from Category c where c.visible = true
+     * </pre>
+     */
+    public static class Warmup {
+
+        /**
+         * Entities to preload, by JPA entity name or fully qualified class name.
+         * Defaults to none.
+         */
+        private Map<String, WarmupEntity> entities = new LinkedHashMap<>();
+
+        /**
+         * Number of id ranges loaded at the same time, each holding a pooled connection.
+         * Defaults to 4.
+         */
+        private int parallelism = 4;
+
+        public Map<String, WarmupEntity> getEntities() {
+            return entities;
+        }
+
+        public void setEntities(Map<String, WarmupEntity> entities) {
+            this.entities = entities;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * The hot entities of one type.
+     */
+    public static class WarmupEntity {
+
+        /**
+         * Maximum number of entities preloaded: those with the highest ids, or the first ids
+         * returned by the query. 0 uses every id the query returns.
+         * Defaults to 1000.
+         */
+        private int limit = 1000;
+
+        /**
+         * HQL query selecting the ids of the entities to preload. Unset preloads the entities with
+         * the highest ids.
+         */
+        private String query;
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public void setQuery(String query) {
+            this.query = query;
+        }
+    }
+}
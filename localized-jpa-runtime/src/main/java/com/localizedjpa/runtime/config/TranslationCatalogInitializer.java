@@ -0,0 +1,35 @@
+package com.localizedjpa.runtime.config;
+
+import com.localizedjpa.runtime.catalog.TranslationCatalog;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.nio.file.Path;
+
+/**
+ * Loads the {@link TranslationCatalog}s of {@code @TranslationTable(catalog = true)} entities once
+ * all singletons are created, i.e. after the schema and data initialization.
+ *
+ * <p>Does nothing for persistence units without catalog entities.
+ *
+ * @see LocalizedJpaProperties#getCatalogSnapshotDirectory()
+ */
+public class TranslationCatalogInitializer implements SmartInitializingSingleton {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+    private final String snapshotDirectory;
+
+    public TranslationCatalogInitializer(ObjectProvider<EntityManagerFactory> entityManagerFactories,
+                                         String snapshotDirectory) {
+        this.entityManagerFactories = entityManagerFactories;
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        TranslationCatalog.setSnapshotDirectory(
+            snapshotDirectory == null || snapshotDirectory.isBlank() ? null : Path.of(snapshotDirectory));
+        entityManagerFactories.orderedStream().forEach(TranslationCatalog::register);
+    }
+}
@@ -0,0 +1,65 @@
+package com.localizedjpa.runtime.config;
+
+import com.localizedjpa.runtime.TranslationFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Locale;
+
+/**
+ * Interceptor that restricts translations loading to the request's locale and the default locale.
+ *
+ * <p>Runs AFTER {@link LocaleValidationInterceptor}, so the validated locale is used.
+ * Entity managers bound to the request (open-in-view) are re-filtered here; entity managers
+ * created later in the request are filtered on creation via {@link #enableForCurrentLocale}.
+ *
+ * <p>Only registered when {@code localized-jpa.filter-translations=true}.
+ *
+ * @see TranslationFilter
+ */
+public class TranslationFilterInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationFilterInterceptor.class);
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+
+    public TranslationFilterInterceptor(ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+        this.entityManagerFactories = entityManagerFactories;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Locale locale = LocaleContextHolder.getLocale();
+
+        entityManagerFactories.orderedStream().forEach(entityManagerFactory -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            if (entityManager != null) {
+                TranslationFilter.enable(entityManager, locale);
+                log.debug("Translations filtered to locale '{}' on request-bound EntityManager", locale.getLanguage());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Entity manager initializer: enables the translation filter when a locale context is present.
+     *
+     * <p>Entity managers created outside a request (schedulers, startup runners) are left
+     * unfiltered, so they keep seeing and writing every locale.
+     *
+     * @param entityManager The newly created entity manager
+     */
+    public static void enableForCurrentLocale(EntityManager entityManager) {
+        if (LocaleContextHolder.getLocaleContext() != null) {
+            TranslationFilter.enable(entityManager, LocaleContextHolder.getLocale());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.localizedjpa.runtime.config;
+
+import com.localizedjpa.runtime.cache.TranslationCache;
+import com.localizedjpa.runtime.cache.TranslationInvalidationBus;
+import com.localizedjpa.runtime.cache.TranslationInvalidations;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+
+/**
+ * Starts {@link TranslationInvalidations} on the configured {@link TranslationInvalidationBus}
+ * at startup and stops it on shutdown.
+ *
+ * <p>Registers the EntityManagerFactories with {@link TranslationCache}, so translation writes
+ * are sent to the other nodes even before this node cached any value.
+ *
+ * <p>Only registered when {@code localized-jpa.translation-cache-invalidation=true}.
+ */
+public class TranslationInvalidationInitializer implements InitializingBean, DisposableBean {
+
+    private final TranslationInvalidationBus bus;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+    private final Duration publishInterval;
+
+    public TranslationInvalidationInitializer(TranslationInvalidationBus bus,
+                                              ObjectProvider<EntityManagerFactory> entityManagerFactories,
+                                              Duration publishInterval) {
+        this.bus = bus;
+        this.entityManagerFactories = entityManagerFactories;
+        this.publishInterval = publishInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        entityManagerFactories.orderedStream().forEach(TranslationCache::register);
+        TranslationInvalidations.start(bus, publishInterval);
+    }
+
+    @Override
+    public void destroy() {
+        TranslationInvalidations.stop();
+    }
+}
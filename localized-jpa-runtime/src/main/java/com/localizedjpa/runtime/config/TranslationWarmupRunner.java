@@ -0,0 +1,84 @@
+package com.localizedjpa.runtime.config;
+
+import com.localizedjpa.runtime.cache.TranslationWarmup;
+import com.localizedjpa.runtime.cache.TranslationWarmupResult;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@link TranslationWarmup} of the entities listed in {@code localized-jpa.warmup.entities}.
+ *
+ * <p>Application runners complete before Spring Boot publishes the readiness state
+ * {@code ACCEPTING_TRAFFIC}, so a node is reported ready only once its caches are warm. Failures
+ * are logged and do not stop the application; the affected entities are then loaded on first use.
+ *
+ * <p>Does nothing if no entity is listed.
+ */
+public class TranslationWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationWarmupRunner.class);
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+    private final LocalizedJpaProperties properties;
+
+    public TranslationWarmupRunner(ObjectProvider<EntityManagerFactory> entityManagerFactories,
+                                   LocalizedJpaProperties properties) {
+        this.entityManagerFactories = entityManagerFactories;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalizedJpaProperties.Warmup warmup = properties.getWarmup();
+        if (warmup.getEntities().isEmpty()) {
+            return;
+        }
+        List<String> languages = properties.getSupportedLocalesAsLocale().stream().map(Locale::getLanguage).toList();
+        long start = System.nanoTime();
+        long entities = 0;
+        long translations = 0;
+        for (Map.Entry<String, LocalizedJpaProperties.WarmupEntity> entry : warmup.getEntities().entrySet()) {
+            LocalizedJpaProperties.WarmupEntity entity = entry.getValue();
+            try {
+                TranslationWarmupResult result = warmUp(entry.getKey(), entity, warmup.getParallelism(), languages);
+                if (result != null) {
+                    entities += result.entities();
+                    translations += result.translations();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Translation warm-up of {} failed", entry.getKey(), e);
+            }
+        }
+        log.info("Translation warm-up finished in {} ms: {} entities with {} translations",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), entities, translations);
+    }
+
+    private TranslationWarmupResult warmUp(String name, LocalizedJpaProperties.WarmupEntity entity, int parallelism,
+                                           List<String> languages) {
+        for (EntityManagerFactory entityManagerFactory : entityManagerFactories.orderedStream().toList()) {
+            for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+                Class<?> javaType = entityType.getJavaType();
+                if (javaType == null || !(name.equals(entityType.getName()) || name.equals(javaType.getName()))) {
+                    continue;
+                }
+                TranslationWarmup translationWarmup =
+                    new TranslationWarmup(entityManagerFactory, null, parallelism, languages);
+                return entity.getQuery() == null || entity.getQuery().isBlank()
+                    ? translationWarmup.warmUp(javaType, entity.getLimit())
+                    : translationWarmup.warmUp(javaType, entity.getQuery(), entity.getLimit());
+            }
+        }
+        log.warn("Skipping translation warm-up of {}: no such entity", name);
+        return null;
+    }
+}
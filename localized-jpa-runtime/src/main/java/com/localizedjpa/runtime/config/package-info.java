@@ -10,6 +10,10 @@
  *       Configuration properties</li>
  *   <li>{@link com.localizedjpa.runtime.config.LocaleValidationInterceptor LocaleValidationInterceptor} - 
  *       Request interceptor for locale validation</li>
+ *   <li>{@link com.localizedjpa.runtime.config.TranslationFilterInterceptor TranslationFilterInterceptor} - 
+ *       Request interceptor restricting translations loading to the active locales</li>
+ *   <li>{@link com.localizedjpa.runtime.config.LocaleRegistryInitializer LocaleRegistryInitializer} - 
+ *       Startup loader of the locale registry table</li>
  * </ul>
  * 
  * <p>Configuration example in {@code application.yml}:
@@ -18,6 +22,8 @@
  *   supported-locales: en,tr,de
  *   default-locale: en
  *   exception-on-unsupported-languages: true
+ *   filter-translations: false
+ *   locale-dictionary: false
  * </pre>
  * 
  * @since 0.1.0
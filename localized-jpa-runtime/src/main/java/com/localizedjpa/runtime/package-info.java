@@ -6,8 +6,21 @@
  * <ul>
  *   <li>{@link com.localizedjpa.runtime.LocalizedSpecifications LocalizedSpecifications} - 
  *       Utility for creating locale-aware JPA Specifications</li>
+ *   <li>{@link com.localizedjpa.runtime.LocaleFallback LocaleFallback} - 
+ *       Holder for the fallback locale used by generated queries</li>
+ *   <li>{@link com.localizedjpa.runtime.TranslationFilter TranslationFilter} - 
+ *       Locale filter for the translations collection</li>
+ *   <li>{@link com.localizedjpa.runtime.SearchNormalizer SearchNormalizer} - 
+ *       Case- and accent-folding for searchable fields</li>
+ *   <li>{@link com.localizedjpa.runtime.LocaleRegistry LocaleRegistry} and
+ *       {@link com.localizedjpa.runtime.LocaleIdConverter LocaleIdConverter} - 
+ *       Compact smallint encoding of the locale column</li>
+ *   <li>{@link com.localizedjpa.runtime.AbstractTranslation AbstractTranslation} - 
+ *       Common supertype of all translation entities</li>
  *   <li>{@link com.localizedjpa.runtime.BaseTranslation BaseTranslation} - 
  *       Abstract base class for translation entities</li>
+ *   <li>{@link com.localizedjpa.runtime.NaturalKeyTranslation NaturalKeyTranslation} - 
+ *       Base class for translation entities keyed by (parent, locale)</li>
  *   <li>{@link com.localizedjpa.runtime.LocalizedRepository LocalizedRepository} - 
  *       Repository interface with locale support</li>
  * </ul>
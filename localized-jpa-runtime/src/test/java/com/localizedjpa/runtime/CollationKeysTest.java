@@ -0,0 +1,51 @@
+package com.localizedjpa.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CollationKeys}.
+ */
+class CollationKeysTest {
+
+    @Test
+    void of_shouldOrderKeysInTurkishAlphabetOrder() {
+        // Given
+        List<String> values = List.of("zeytin", "çay", "ceviz", "dut", "ılık", "incir");
+
+        // When
+        List<String> sorted = values.stream()
+            .sorted(Comparator.comparing(value -> CollationKeys.of(value, "tr", 512), Arrays::compareUnsigned))
+            .toList();
+
+        // Then
+        assertThat(sorted).containsExactly("ceviz", "çay", "dut", "ılık", "incir", "zeytin");
+    }
+
+    @Test
+    void of_shouldOrderAccentedLettersWithTheirBaseLetter() {
+        // Given
+        byte[] apfel = CollationKeys.of("Apfel", "de", 512);
+        byte[] aepfel = CollationKeys.of("Äpfel", "de", 512);
+        byte[] birne = CollationKeys.of("Birne", "de", 512);
+
+        // When / Then
+        assertThat(Arrays.compareUnsigned(apfel, aepfel)).isNegative();
+        assertThat(Arrays.compareUnsigned(aepfel, birne)).isNegative();
+    }
+
+    @Test
+    void of_shouldTruncateToColumnLength() {
+        assertThat(CollationKeys.of("a long localized product name", "en", 8)).hasSize(8);
+    }
+
+    @Test
+    void of_shouldReturnNullForNullValue() {
+        assertThat(CollationKeys.of(null, "en", 512)).isNull();
+    }
+}
@@ -0,0 +1,43 @@
+package com.localizedjpa.runtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LocaleFallback}.
+ */
+class LocaleFallbackTest {
+
+    @AfterEach
+    void tearDown() {
+        LocaleFallback.configure(Locale.ENGLISH);
+    }
+
+    @Test
+    void chain_shouldEndWithFallbackLanguage() {
+        // Given
+        LocaleFallback.configure(Locale.forLanguageTag("tr"), List.of(Locale.ENGLISH, Locale.forLanguageTag("tr")));
+
+        // When / Then
+        assertThat(LocaleFallback.chain(Locale.US)).containsExactly("en", "tr");
+        assertThat(LocaleFallback.chain(Locale.forLanguageTag("tr-TR"))).containsExactly("tr");
+        assertThat(LocaleFallback.chain(Locale.GERMAN)).containsExactly("de", "tr");
+    }
+
+    @Test
+    void chain_shouldBeSharedAcrossCalls() {
+        // Given
+        LocaleFallback.configure(Locale.ENGLISH, List.of(Locale.GERMAN));
+
+        // When / Then
+        assertThat(LocaleFallback.chain(Locale.GERMANY)).isSameAs(LocaleFallback.chain(Locale.GERMAN));
+        assertThat(LocaleFallback.chain(Locale.FRENCH)).isSameAs(LocaleFallback.chain(Locale.CANADA_FRENCH));
+        LocaleFallback.configure(Locale.FRENCH, List.of());
+        assertThat(LocaleFallback.chain(Locale.GERMAN)).containsExactly("de", "fr");
+    }
+}
@@ -0,0 +1,40 @@
+package com.localizedjpa.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link LocaleRegistry} and {@link LocaleIdConverter}.
+ */
+class LocaleRegistryTest {
+
+    @Test
+    void converter_shouldRoundTripRegisteredLanguages() {
+        // Given
+        LocaleRegistry.configure(Map.of((short) 1, "en", (short) 3, "tr"));
+        LocaleIdConverter converter = new LocaleIdConverter();
+
+        // When / Then
+        assertThat(converter.convertToDatabaseColumn("tr")).isEqualTo((short) 3);
+        assertThat(converter.convertToEntityAttribute((short) 1)).isEqualTo("en");
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void shouldRejectUnregisteredLanguagesAndIds() {
+        // Given
+        LocaleRegistry.configure(Map.of((short) 1, "en", (short) 3, "tr"));
+
+        // When / Then
+        assertThatThrownBy(() -> LocaleRegistry.idOf("de"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'de'");
+        assertThatThrownBy(() -> LocaleRegistry.languageOf((short) 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
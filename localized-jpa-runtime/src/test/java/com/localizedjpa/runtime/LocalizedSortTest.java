@@ -0,0 +1,286 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LocalizedSort}.
+ */
+class LocalizedSortTest {
+
+    private static final String QUERY = "select e from Product e join e.translations t where t.locale = :locale";
+
+    @SuppressWarnings("unused")
+    static class ProductTranslation {
+        private String name;
+    }
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+
+        @OneToMany(mappedBy = "parent")
+        @MapKey(name = "locale")
+        private Map<String, ItemTranslation> translations = new HashMap<>();
+    }
+
+    @Entity
+    @Table(name = "items_translations")
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "name_sort", length = 512)
+        private byte[] nameSort;
+
+        @Override
+        public Map<String, String> localizedValues() {
+            Map<String, String> values = new HashMap<>();
+            values.put("name", name);
+            return values;
+        }
+    }
+
+    @Test
+    void applySorting_shouldOrderLocalizedPropertiesByTranslationJoin() {
+        // When
+        String jpql = LocalizedSort.applySorting(QUERY, Sort.by(Sort.Order.desc("name"), Sort.Order.asc("price")),
+            Map.of("name", "name"), Set.of());
+
+        // Then
+        assertThat(jpql).isEqualTo(QUERY + " order by t.name desc, e.price asc");
+    }
+
+    @Test
+    void applySorting_shouldCoalesceFallbackPropertiesAndKeepSortOptions() {
+        // When
+        String jpql = LocalizedSort.applySorting(QUERY,
+            Sort.by(Sort.Order.asc("name").ignoreCase().nullsLast()), Map.of("name", "name"), Set.of("name"));
+
+        // Then
+        assertThat(jpql).isEqualTo(QUERY + " order by lower(coalesce(t.name, f.name)) asc nulls last");
+    }
+
+    @Test
+    void applySorting_shouldOrderSortablePropertiesByCollationKey() {
+        // When
+        String jpql = LocalizedSort.applySorting(QUERY, Sort.by(Sort.Order.asc("name").ignoreCase()),
+            Map.of("name", "nameSort"), Set.of());
+
+        // Then
+        assertThat(jpql).isEqualTo(QUERY + " order by t.nameSort asc");
+    }
+
+    @Test
+    void applySorting_shouldOrderFallbackCollationKeysPerLocale() {
+        // When
+        String jpql = LocalizedSort.applySorting(QUERY, Sort.by(Sort.Order.desc("name")),
+            Map.of("name", "nameSort"), Set.of("name"));
+
+        // Then
+        assertThat(jpql).isEqualTo(QUERY + " order by t.nameSort desc nulls last, f.nameSort desc");
+    }
+
+    @Test
+    void applySorting_shouldReturnQueryUnchangedWhenUnsorted() {
+        assertThat(LocalizedSort.applySorting(QUERY, Sort.unsorted(), Map.of("name", "name"), Set.of())).isSameAs(QUERY);
+    }
+
+    @Test
+    void applySorting_shouldRejectExpressionsAsProperties() {
+        assertThatThrownBy(() -> LocalizedSort.applySorting(QUERY, Sort.by("name; drop table product"),
+            Map.of("name", "name"), Set.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void orderBy_shouldOrderByRequestedLocaleTranslation() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+
+        when(query.getResultType()).thenReturn((Class) Object.class);
+        when(root.join(eq("translations"), eq(JoinType.LEFT))).thenReturn(join);
+
+        // When
+        Specification<Object> spec = LocalizedSort.orderBy(Sort.by("name"), Locale.GERMAN, ProductTranslation.class);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(join).alias("translations_de");
+        verify(join).get("name");
+        verify(cb).asc(any());
+        verify(query).orderBy(anyList());
+    }
+
+    @Test
+    void orderBy_shouldReuseJoinOnSameLocale() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+
+        when(query.getResultType()).thenReturn((Class) Object.class);
+        when(join.getAlias()).thenReturn("translations_de");
+        doReturn(Set.of(join)).when(root).getJoins();
+
+        // When
+        Specification<Object> spec = LocalizedSort.orderByWithFallback(
+            Sort.by("name"), Locale.GERMAN, Locale.GERMAN, ProductTranslation.class);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(root, never()).join(anyString(), any(JoinType.class));
+        verify(cb, never()).coalesce(nullable(Expression.class), nullable(Expression.class));
+        verify(join).get("name");
+    }
+
+    @Test
+    void orderBy_shouldOrderRegularPropertiesByEntityAttribute() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+        when(query.getResultType()).thenReturn((Class) Object.class);
+
+        // When
+        Specification<Object> spec = LocalizedSort.orderBy(Sort.by(Sort.Direction.DESC, "price"),
+            Locale.ENGLISH, ProductTranslation.class);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(root).get("price");
+        verify(root, never()).join(anyString(), any(JoinType.class));
+        verify(cb).desc(any());
+    }
+
+    @Test
+    void orderBy_shouldSkipCountQueries() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+        when(query.getResultType()).thenReturn((Class) Long.class);
+
+        // When
+        Specification<Object> spec = LocalizedSort.orderBy(Sort.by("name"), Locale.ENGLISH, ProductTranslation.class);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verifyNoInteractions(root);
+        verify(query, never()).orderBy(anyList());
+    }
+
+    @Test
+    void orderByWithFallback_shouldOrderRequestedLocaleRowsBeforeFallbackRows() {
+        inSortedItems(session -> {
+            // Given
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Item> query = cb.createQuery(Item.class);
+            Root<Item> root = query.from(Item.class);
+            Specification<Item> spec = LocalizedSort.orderByWithFallback(
+                Sort.by("name"), Locale.GERMAN, Locale.ENGLISH, ItemTranslation.class);
+
+            // When
+            query.select(root).where(spec.toPredicate(root, query, cb));
+            List<Item> items = session.createQuery(query).getResultList();
+
+            // Then
+            assertThat(items).extracting(item -> item.id).containsExactly(3L, 5L, 1L, 2L, 4L);
+        });
+    }
+
+    @Test
+    void applySorting_shouldOrderRequestedLocaleRowsBeforeFallbackRows() {
+        inSortedItems(session -> {
+            // Given
+            String jpql = LocalizedSort.applySorting("select e from LocalizedSortTest$Item e"
+                    + " left join e.translations t on t.locale = :locale"
+                    + " left join e.translations f on f.locale = :fallbackLocale",
+                Sort.by(Sort.Order.desc("name")), Map.of("name", "nameSort"), Set.of("name"));
+
+            // When
+            List<Item> items = session.createQuery(jpql, Item.class)
+                .setParameter("locale", "de")
+                .setParameter("fallbackLocale", "en")
+                .getResultList();
+
+            // Then
+            assertThat(items).extracting(item -> item.id).containsExactly(1L, 5L, 3L, 4L, 2L);
+        });
+    }
+
+    /**
+     * Runs the action against items translated into German or, for items 2 and 4, only into English.
+     */
+    private static void inSortedItems(Consumer<Session> action) {
+        try (SessionFactory sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:sort-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .addAnnotatedClass(Item.class)
+                .addAnnotatedClass(ItemTranslation.class)
+                .buildSessionFactory()) {
+            sessionFactory.inTransaction(session -> {
+                persist(session, 1L, "de", "Zebra");
+                persist(session, 2L, "en", "apple");
+                persist(session, 3L, "de", "Äpfel");
+                persist(session, 4L, "en", "Banana");
+                persist(session, 5L, "de", "Birne");
+            });
+            sessionFactory.inSession(action);
+        }
+    }
+
+    private static void persist(Session session, Long id, String language, String name) {
+        Item item = new Item();
+        item.id = id;
+        session.persist(item);
+        ItemTranslation translation = new ItemTranslation();
+        translation.parent = item;
+        translation.setLocale(language);
+        translation.name = name;
+        translation.nameSort = CollationKeys.of(name, language, 512);
+        session.persist(translation);
+    }
+}
@@ -2,7 +2,10 @@ package com.localizedjpa.runtime;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
@@ -89,6 +92,28 @@ class LocalizedSpecificationsTest {
         verify(join).get("name");
     }
 
+    @Test
+    void hasTranslationFor_shouldRestrictLocaleInWhereClause() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+        Path<Object> locale = mock(Path.class);
+        
+        when(root.join(eq("translations"), eq(JoinType.LEFT))).thenReturn(join);
+        doReturn(locale).when(join).get("locale");
+        
+        // When
+        Specification<Object> spec = LocalizedSpecifications.hasTranslationFor(Locale.FRENCH);
+        spec.toPredicate(root, query, cb);
+        
+        // Then
+        verify(cb).equal(locale, "fr");
+        verify(join, never()).on(any(Expression.class));
+        verify(cb, never()).isNotNull(any());
+    }
+
     @Test
     void byLocalizedFieldContaining_shouldUseLowerCaseComparison() {
         // Given
@@ -109,4 +134,88 @@ class LocalizedSpecificationsTest {
         verify(cb).lower(any());
         verify(cb).like(any(), eq("%test%"));
     }
+
+    @Test
+    void byLocalizedFieldWithFallback_shouldCoalesceRequestedAndFallbackLocale() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+        
+        when(root.join(eq("translations"), eq(JoinType.LEFT))).thenReturn(join);
+        
+        // When
+        Specification<Object> spec = LocalizedSpecifications.byLocalizedFieldWithFallback(
+            "name", "Tisch", Locale.GERMAN, Locale.ENGLISH, Object.class);
+        spec.toPredicate(root, query, cb);
+        
+        // Then
+        verify(root, times(2)).join("translations", JoinType.LEFT);
+        verify(cb).equal(any(), eq("de"));
+        verify(cb).equal(any(), eq("en"));
+        verify(cb).coalesce(nullable(Expression.class), nullable(Expression.class));
+    }
+
+    @Test
+    void byLocalizedFieldWithFallback_shouldUseSingleJoinWhenLocaleIsFallback() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+        
+        when(root.join(eq("translations"), eq(JoinType.LEFT))).thenReturn(join);
+        
+        // When
+        Specification<Object> spec = LocalizedSpecifications.byLocalizedFieldWithFallback(
+            "name", "Table", Locale.ENGLISH, Locale.ENGLISH, Object.class);
+        spec.toPredicate(root, query, cb);
+        
+        // Then
+        verify(root, times(1)).join("translations", JoinType.LEFT);
+        verify(cb, never()).coalesce(nullable(Expression.class), nullable(Expression.class));
+    }
+
+    @Test
+    void byLocalizedFieldContainingWithFallback_shouldUseLowerCaseComparison() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+        
+        when(root.join(eq("translations"), eq(JoinType.LEFT))).thenReturn(join);
+        when(cb.lower(any())).thenReturn(mock());
+        
+        // When
+        Specification<Object> spec = LocalizedSpecifications.byLocalizedFieldContainingWithFallback(
+            "description", "MODERN", Locale.GERMAN, Locale.ENGLISH, Object.class);
+        spec.toPredicate(root, query, cb);
+        
+        // Then
+        verify(cb).coalesce(nullable(Expression.class), nullable(Expression.class));
+        verify(cb).like(any(), eq("%modern%"));
+    }
+
+    @Test
+    void bySearchableFieldContaining_shouldQueryNormalizedSearchColumn() {
+        // Given
+        Root<Object> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Join<Object, Object> join = mock(Join.class);
+        
+        when(root.join(eq("translations"), any())).thenReturn(join);
+        
+        // When
+        Specification<Object> spec = LocalizedSpecifications.bySearchableFieldContaining(
+            "name", "İSTANBUL", Locale.forLanguageTag("tr"), Object.class);
+        spec.toPredicate(root, query, cb);
+        
+        // Then
+        verify(join).get("nameSearch");
+        verify(cb).like(any(), eq("%istanbul%"));
+        verify(cb, never()).lower(any());
+    }
 }
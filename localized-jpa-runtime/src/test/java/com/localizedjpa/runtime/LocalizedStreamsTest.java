@@ -0,0 +1,135 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LocalizedStreams}.
+ */
+@SuppressWarnings("unchecked")
+class LocalizedStreamsTest {
+
+    static class Product {
+    }
+
+    @Test
+    void stream_shouldScrollForwardOnlyWithFetchSizeAndDetachStreamedEntities() {
+        // Given
+        Product first = new Product();
+        Product second = new Product();
+        Product third = new Product();
+        EntityManager entityManager = entityManager(Product.class);
+        TypedQuery<Product> query = mock(TypedQuery.class);
+        Query<Product> hibernateQuery = mock(Query.class);
+        ScrollableResults<Product> results = mock(ScrollableResults.class);
+
+        when(query.unwrap(Query.class)).thenReturn(hibernateQuery);
+        when(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+        when(results.next()).thenReturn(true, true, true, false);
+        when(results.get()).thenReturn(first, second, third);
+
+        // When
+        List<Product> streamed;
+        try (Stream<Product> stream = LocalizedStreams.stream(entityManager, query, 100, 2)) {
+            streamed = stream.toList();
+        }
+
+        // Then
+        assertThat(streamed).containsExactly(first, second, third);
+        verify(hibernateQuery).setFetchSize(100);
+        verify(hibernateQuery).setReadOnly(true);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(entityManager, never()).detach(third);
+        verify(entityManager, never()).clear();
+        verify(results, atLeastOnce()).close();
+    }
+
+    @Test
+    void stream_shouldNotDetachProjections() {
+        // Given
+        EntityManager entityManager = entityManager(Product.class);
+        TypedQuery<String> query = mock(TypedQuery.class);
+        Query<String> hibernateQuery = mock(Query.class);
+        ScrollableResults<String> results = mock(ScrollableResults.class);
+
+        when(query.unwrap(Query.class)).thenReturn(hibernateQuery);
+        when(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+        when(results.next()).thenReturn(true, true, true, false);
+        when(results.get()).thenReturn("a", "b", "c");
+
+        // When
+        try (Stream<String> stream = LocalizedStreams.stream(entityManager, query, 100, 1)) {
+            assertThat(stream).containsExactly("a", "b", "c");
+        }
+
+        // Then
+        verify(entityManager, never()).detach(any());
+    }
+
+    @Test
+    void stream_shouldCloseResultsWhenStreamIsClosedEarly() {
+        // Given
+        EntityManager entityManager = entityManager(Product.class);
+        TypedQuery<Product> query = mock(TypedQuery.class);
+        Query<Product> hibernateQuery = mock(Query.class);
+        ScrollableResults<Product> results = mock(ScrollableResults.class);
+
+        when(query.unwrap(Query.class)).thenReturn(hibernateQuery);
+        when(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+        when(results.next()).thenReturn(true);
+        when(results.get()).thenReturn(new Product());
+
+        // When
+        try (Stream<Product> stream = LocalizedStreams.stream(entityManager, query)) {
+            assertThat(stream.limit(1)).hasSize(1);
+        }
+
+        // Then
+        verify(results).close();
+    }
+
+    @Test
+    void stream_shouldRequireTransaction() {
+        // Given
+        EntityManager entityManager = mock(EntityManager.class);
+        TypedQuery<Product> query = mock(TypedQuery.class);
+
+        // When / Then
+        assertThatThrownBy(() -> LocalizedStreams.stream(entityManager, query))
+            .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(query);
+    }
+
+    @Test
+    void configure_shouldRejectNonPositiveFetchSize() {
+        assertThatThrownBy(() -> LocalizedStreams.configure(0, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EntityManager entityManager(Class<?> entityClass) {
+        EntityManager entityManager = mock(EntityManager.class);
+        Metamodel metamodel = mock(Metamodel.class);
+        EntityType<Object> entityType = mock(EntityType.class);
+
+        when(entityManager.isJoinedToTransaction()).thenReturn(true);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        doReturn(Set.of(entityType)).when(metamodel).getEntities();
+        doReturn(entityClass).when(entityType).getJavaType();
+        return entityManager;
+    }
+}
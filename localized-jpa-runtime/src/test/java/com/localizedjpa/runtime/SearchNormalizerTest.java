@@ -0,0 +1,57 @@
+package com.localizedjpa.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SearchNormalizer}.
+ */
+class SearchNormalizerTest {
+
+    @Test
+    void normalize_shouldFoldCase() {
+        assertThat(SearchNormalizer.normalize("Modern TABLE", "en")).isEqualTo("modern table");
+    }
+
+    @Test
+    void normalize_shouldFoldAccents() {
+        assertThat(SearchNormalizer.normalize("Café Crème", "fr")).isEqualTo("cafe creme");
+        assertThat(SearchNormalizer.normalize("Größe", "de")).isEqualTo("grosse");
+    }
+
+    @Test
+    void normalize_shouldTreatTurkishDottedAndDotlessIAlike() {
+        // Given
+        String expected = "istanbul";
+
+        // When / Then
+        assertThat(SearchNormalizer.normalize("İSTANBUL", "tr")).isEqualTo(expected);
+        assertThat(SearchNormalizer.normalize("ISTANBUL", "tr")).isEqualTo(expected);
+        assertThat(SearchNormalizer.normalize("ıstanbul", "tr")).isEqualTo(expected);
+        assertThat(SearchNormalizer.normalize("İstanbul", "en")).isEqualTo(expected);
+    }
+
+    @Test
+    void normalize_shouldNotDependOnDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        try {
+            // Given
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+
+            // When / Then
+            assertThat(SearchNormalizer.normalize("TITLE", "en")).isEqualTo("title");
+            assertThat(SearchNormalizer.normalize("TİTLE", null)).isEqualTo("title");
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void normalize_shouldTruncateToMaxLength() {
+        assertThat(SearchNormalizer.normalize("ABCDEF", "en", 3)).isEqualTo("abc");
+        assertThat(SearchNormalizer.normalize(null, "en", 3)).isNull();
+    }
+}
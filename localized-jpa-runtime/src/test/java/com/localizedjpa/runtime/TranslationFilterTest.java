@@ -0,0 +1,152 @@
+package com.localizedjpa.runtime;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TranslationFilter}.
+ */
+class TranslationFilterTest {
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+
+        @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+        @MapKey(name = "locale")
+        @Filter(name = "localizedJpaLocales_ItemTranslation")
+        private Map<String, ItemTranslation> translations = new HashMap<>();
+
+        /**
+         * Same logic as a generated {@code setName(String, Locale)}.
+         */
+        void setName(String value, Locale locale) {
+            String localeKey = locale.getLanguage();
+            ItemTranslation translation = translations.get(localeKey);
+            if (translation == null) {
+                translation = TranslationFilter.findFilteredOut(translations, localeKey);
+            }
+            if (translation == null) {
+                translation = new ItemTranslation();
+                translation.parent = this;
+                translation.setLocale(localeKey);
+                translations.put(localeKey, translation);
+            }
+            translation.name = value;
+        }
+    }
+
+    @Entity
+    @Table(name = "items_translations", uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "locale"}))
+    @FilterDef(name = "localizedJpaLocales_ItemTranslation", defaultCondition = "locale in (:locales)",
+        parameters = @ParamDef(name = "locales", type = String.class))
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Override
+        public Map<String, String> localizedValues() {
+            Map<String, String> values = new HashMap<>();
+            values.put("name", name);
+            return values;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:filter-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into items (id) values (1)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name)"
+                + " values (1, 'en', 'Table'), (1, 'tr', 'Masa'), (1, 'de', 'Tisch')").executeUpdate();
+        });
+        LocaleFallback.configure(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void enable_shouldLoadOnlyActiveLocales() {
+        sessionFactory.inSession(session -> {
+            // Given
+            TranslationFilter.enable(session, Locale.forLanguageTag("tr"));
+
+            // When
+            Item item = session.get(Item.class, 1L);
+
+            // Then
+            assertThat(item.translations).containsOnlyKeys("tr", "en");
+        });
+    }
+
+    @Test
+    void setter_shouldUpdateFilteredOutTranslationInsteadOfInsertingDuplicate() {
+        // When
+        sessionFactory.inTransaction(session -> {
+            TranslationFilter.enable(session, Locale.forLanguageTag("tr"));
+            Item item = session.get(Item.class, 1L);
+            item.setName("Schreibtisch", Locale.GERMAN);
+            item.setName("Mesa", Locale.forLanguageTag("es"));
+        });
+
+        // Then
+        sessionFactory.inSession(session -> {
+            Item item = session.get(Item.class, 1L);
+            assertThat(item.translations).hasSize(4);
+            assertThat(item.translations.get("de").name).isEqualTo("Schreibtisch");
+            assertThat(item.translations.get("es").name).isEqualTo("Mesa");
+        });
+    }
+
+    @Test
+    void findFilteredOut_shouldNotQueryWithoutEnabledFilter() {
+        sessionFactory.inSession(session -> {
+            // Given
+            Item item = session.get(Item.class, 1L);
+            item.translations.size();
+
+            // When / Then
+            assertThat(TranslationFilter.findFilteredOut(item.translations, "es")).isNull();
+            assertThat(TranslationFilter.findFilteredOut(new HashMap<String, ItemTranslation>(), "de")).isNull();
+        });
+    }
+}
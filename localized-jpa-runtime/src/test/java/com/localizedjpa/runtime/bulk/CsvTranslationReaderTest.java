@@ -0,0 +1,73 @@
+package com.localizedjpa.runtime.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CsvTranslationReader}.
+ */
+class CsvTranslationReaderTest {
+
+    @Test
+    void read_shouldMapColumnsByHeaderName() {
+        // Given
+        String csv = "﻿Locale,entity_id,comment,field,value\r\ntr,42,x,name,Masa\r\n\r\nde,43,,name,Tisch";
+
+        // When
+        List<TranslationRecord> records = read(CsvTranslationReader.read(new StringReader(csv)));
+
+        // Then
+        assertThat(records).containsExactly(
+            new TranslationRecord("42", "tr", "name", "Masa"),
+            new TranslationRecord("43", "de", "name", "Tisch"));
+    }
+
+    @Test
+    void read_shouldParseQuotedFields() {
+        // Given
+        String csv = """
+            entity_id;locale;field;value
+            42;en;description;"Oak; solid, ""FSC"" certified
+            second line"
+            42;en;name;
+            """;
+
+        // When
+        List<TranslationRecord> records = read(CsvTranslationReader.read(new StringReader(csv), ';'));
+
+        // Then
+        assertThat(records).extracting(TranslationRecord::value)
+            .containsExactly("Oak; solid, \"FSC\" certified\nsecond line", "");
+    }
+
+    @Test
+    void read_shouldRejectHeaderWithoutRequiredColumn() {
+        assertThatThrownBy(() -> CsvTranslationReader.read(new StringReader("entity_id,locale,value\n1,en,x")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'field'");
+    }
+
+    @Test
+    void read_shouldRejectShortLines() {
+        // Given
+        Stream<TranslationRecord> records = CsvTranslationReader.read(
+            new StringReader("entity_id,locale,field,value\n1,en,name,x\n2,en\n"));
+
+        // When / Then
+        assertThatThrownBy(() -> read(records))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("CSV line 3");
+    }
+
+    private static List<TranslationRecord> read(Stream<TranslationRecord> records) {
+        try (records) {
+            return records.toList();
+        }
+    }
+}
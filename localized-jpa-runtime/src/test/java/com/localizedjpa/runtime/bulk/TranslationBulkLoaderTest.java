@@ -0,0 +1,156 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.BaseTranslation;
+import com.localizedjpa.runtime.SearchNormalizer;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link TranslationBulkLoader}.
+ */
+class TranslationBulkLoaderTest {
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+    }
+
+    /**
+     * Shaped like a generated translation entity with a searchable {@code name}.
+     */
+    @Entity
+    @Table(name = "items_translations")
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "name_search")
+        private String nameSearch;
+
+        @Column(name = "description")
+        private String description;
+
+        public void setParent(Item parent) {
+            this.parent = parent;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            this.nameSearch = SearchNormalizer.normalize(name, getLocale());
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:bulk-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into items (id) values (1), (2)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name, name_search, description)"
+                + " values (1, 'en', 'Table', 'table', 'Oak')").executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void load_shouldUpdateExistingRowsAndInsertMissingOnes() {
+        // Given
+        String csv = """
+            entity_id,locale,field,value
+            1,en,name,Desk
+            1,tr-TR,name,İstanbul Masası
+            2,tr,name,Sandalye
+            2,tr,description,Ahşap
+            """;
+        List<BulkLoadProgress> reported = new ArrayList<>();
+
+        // When
+        BulkLoadProgress result;
+        try (Stream<TranslationRecord> records = CsvTranslationReader.read(new StringReader(csv))) {
+            result = new TranslationBulkLoader(sessionFactory, 2, 2)
+                .load(ItemTranslation.class, records, reported::add);
+        }
+
+        // Then
+        assertThat(result.records()).isEqualTo(4);
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(reported).hasSize(2);
+        assertThat(rows()).containsExactly(
+            "1|en|Desk|desk|Oak",
+            "1|tr|İstanbul Masası|istanbul masasi|null",
+            "2|tr|Sandalye|sandalye|Ahşap");
+    }
+
+    @Test
+    void load_shouldMergeRecordsOfOneRowAndKeepLastValue() {
+        // When
+        BulkLoadProgress result = new TranslationBulkLoader(sessionFactory).load(ItemTranslation.class, Stream.of(
+            new TranslationRecord(2, "de", "name", "Stuhl"),
+            new TranslationRecord(2L, "de", "description", "Holz"),
+            new TranslationRecord("2", "de", "name", "Holzstuhl")));
+
+        // Then
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(rows()).contains("2|de|Holzstuhl|holzstuhl|Holz");
+    }
+
+    @Test
+    void load_shouldRejectFieldsThatAreNotLocalized() {
+        // Given
+        TranslationBulkLoader loader = new TranslationBulkLoader(sessionFactory);
+
+        // When / Then
+        assertThatThrownBy(() -> loader.load(ItemTranslation.class,
+                Stream.of(new TranslationRecord(1, "en", "nameSearch", "x"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown localized field 'nameSearch'");
+        assertThat(rows()).containsExactly("1|en|Table|table|Oak");
+    }
+
+    private List<String> rows() {
+        return sessionFactory.fromSession(session -> session.createNativeQuery(
+                "select item_id, locale, name, name_search, description from items_translations order by item_id, locale",
+                Object[].class)
+            .getResultList().stream()
+            .map(row -> row[0] + "|" + row[1] + "|" + row[2] + "|" + row[3] + "|" + row[4])
+            .toList());
+    }
+}
@@ -0,0 +1,176 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.BaseTranslation;
+import com.localizedjpa.runtime.LocaleFallback;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TranslationExporter}.
+ */
+class TranslationExporterTest {
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+    }
+
+    @Entity
+    @Table(name = "items_translations")
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "description")
+        private String description;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:export-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into items (id) select x from system_range(1, 1000)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name)"
+                + " select x, 'tr', 'Ürün ' || x from system_range(1, 1000)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name, description)"
+                + " select x, 'en', 'Product ' || x, 'Oak' from system_range(1, 3)").executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        LocaleFallback.configure(Locale.ENGLISH);
+    }
+
+    @Test
+    void export_shouldWriteEveryValueOfTheLocaleInEntityOrder() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+
+        // When
+        long exported = new TranslationExporter(sessionFactory, 3)
+            .export(ItemTranslation.class, Locale.forLanguageTag("tr-TR"), TranslationFormat.CSV, out);
+
+        // Then
+        assertThat(exported).isEqualTo(1000);
+        try (Stream<TranslationRecord> records = CsvTranslationReader.read(new StringReader(out.toString()))) {
+            List<TranslationRecord> read = records.toList();
+            assertThat(read).hasSize(1000);
+            assertThat(read.get(0)).isEqualTo(new TranslationRecord("1", "tr", "name", "Ürün 1"));
+            assertThat(read).extracting(record -> Integer.parseInt((String) record.entityId())).isSorted();
+        }
+    }
+
+    @Test
+    void export_shouldRunOnGivenExecutorWithBoundedParallelism() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        ExecutorService executor = Executors.newCachedThreadPool();
+
+        // When
+        long exported;
+        try {
+            exported = new TranslationExporter(sessionFactory, executor, 1)
+                .export(ItemTranslation.class, Locale.ENGLISH, TranslationFormat.JSON, out);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(exported).isEqualTo(6);
+        assertThat(out.toString()).isEqualTo("""
+            [
+            {"entityId":1,"locale":"en","field":"name","value":"Product 1"},
+            {"entityId":1,"locale":"en","field":"description","value":"Oak"},
+            {"entityId":2,"locale":"en","field":"name","value":"Product 2"},
+            {"entityId":2,"locale":"en","field":"description","value":"Oak"},
+            {"entityId":3,"locale":"en","field":"name","value":"Product 3"},
+            {"entityId":3,"locale":"en","field":"description","value":"Oak"}
+            ]
+            """);
+    }
+
+    @Test
+    void export_shouldWriteXliffWithDefaultLocaleAsSource() throws IOException {
+        // Given
+        LocaleFallback.configure(Locale.ENGLISH);
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+            "update items_translations set name = 'A < B & \"C\"' where item_id = 2 and locale = 'tr'").executeUpdate());
+        StringWriter out = new StringWriter();
+
+        // When
+        new TranslationExporter(sessionFactory, 2)
+            .export(ItemTranslation.class, Locale.forLanguageTag("tr"), TranslationFormat.XLIFF, out);
+
+        // Then
+        String xliff = out.toString();
+        assertThat(xliff).contains("srcLang=\"en\" trgLang=\"tr\"")
+            .contains("<unit id=\"1.name\"><segment><source>Product 1</source><target>Ürün 1</target></segment></unit>")
+            .contains("<unit id=\"1.description\"><segment><source>Oak</source></segment></unit>");
+        try (Stream<TranslationRecord> records = XliffTranslationReader.read(
+                new ByteArrayInputStream(xliff.getBytes(StandardCharsets.UTF_8)))) {
+            assertThat(records.toList()).hasSize(1000)
+                .contains(new TranslationRecord("2", "tr", "name", "A < B & \"C\""));
+        }
+    }
+
+    @Test
+    void export_shouldWriteOnlyHeaderAndFooterForEmptyTable() throws IOException {
+        // Given
+        sessionFactory.inTransaction(session ->
+            session.createNativeMutationQuery("delete from items_translations").executeUpdate());
+        StringWriter out = new StringWriter();
+
+        // When
+        long exported = new TranslationExporter(sessionFactory)
+            .export(ItemTranslation.class, Locale.ENGLISH, TranslationFormat.JSON, out);
+
+        // Then
+        assertThat(exported).isZero();
+        assertThat(out.toString()).isEqualTo("[\n\n]\n");
+    }
+}
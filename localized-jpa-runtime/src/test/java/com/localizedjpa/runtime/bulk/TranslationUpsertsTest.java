@@ -0,0 +1,200 @@
+package com.localizedjpa.runtime.bulk;
+
+import com.localizedjpa.runtime.AbstractTranslation;
+import com.localizedjpa.runtime.BaseTranslation;
+import com.localizedjpa.runtime.SearchNormalizer;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link TranslationUpserts}.
+ */
+class TranslationUpsertsTest {
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+    }
+
+    @Entity
+    @Table(name = "items_translations", uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "locale"}))
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "name_search")
+        private String nameSearch;
+
+        @Column(name = "description")
+        private String description;
+
+        public void setName(String name) {
+            this.name = name;
+            this.nameSearch = SearchNormalizer.normalize(name, getLocale());
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+
+    @Entity
+    @Table(name = "pooled_translations", uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "locale"}))
+    static class PooledTranslation extends AbstractTranslation {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_translations_seq")
+        @SequenceGenerator(name = "pooled_translations_seq", sequenceName = "pooled_translations_seq", allocationSize = 1)
+        private Long id;
+
+        @Column(name = "locale", nullable = false)
+        private String locale;
+
+        @ManyToOne
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Override
+        public String getLocale() {
+            return locale;
+        }
+
+        @Override
+        public void setLocale(String locale) {
+            this.locale = locale;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:upsert-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .addAnnotatedClass(PooledTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into items (id) values (1), (2)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name, name_search, description)"
+                + " values (1, 'en', 'Table', 'table', 'Oak')").executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void upsert_shouldUpdateOnlyGivenFieldsOfExistingRow() {
+        // When
+        sessionFactory.inTransaction(session -> TranslationUpserts.upsert(session, ItemTranslation.class, 1,
+            Locale.ENGLISH, Map.of("name", "Desk")));
+
+        // Then
+        assertThat(rows()).containsExactly("1|en|Desk|desk|Oak");
+    }
+
+    @Test
+    void upsert_shouldInsertMissingRowAndClearNullFields() {
+        // Given
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "Istanbul Masası");
+        values.put("description", null);
+
+        // When
+        sessionFactory.inTransaction(session -> {
+            TranslationUpserts.upsert(session, ItemTranslation.class, "2", Locale.forLanguageTag("tr-TR"), values);
+            TranslationUpserts.upsert(session, ItemTranslation.class, 1L, Locale.ENGLISH,
+                Collections.singletonMap("description", null));
+        });
+
+        // Then
+        assertThat(rows()).containsExactly(
+            "1|en|Table|table|null",
+            "2|tr|Istanbul Masası|istanbul masasi|null");
+    }
+
+    @Test
+    void upsert_shouldDrawSequenceIdOnlyForInsertedRows() {
+        // When
+        sessionFactory.inTransaction(session -> {
+            TranslationUpserts.upsert(session, PooledTranslation.class, 1L, Locale.ENGLISH, Map.of("name", "Table"));
+            TranslationUpserts.upsert(session, PooledTranslation.class, 1L, Locale.ENGLISH, Map.of("name", "Desk"));
+            TranslationUpserts.upsert(session, PooledTranslation.class, 2L, Locale.ENGLISH, Map.of("name", "Chair"));
+        });
+
+        // Then
+        List<String> rows = sessionFactory.fromSession(session -> session.createNativeQuery(
+                "select id, item_id, name from pooled_translations order by id", Object[].class)
+            .getResultList().stream()
+            .map(row -> row[0] + "|" + row[1] + "|" + row[2])
+            .toList());
+        assertThat(rows).containsExactly("1|1|Desk", "2|2|Chair");
+    }
+
+    @Test
+    void upsert_shouldRequireTransaction() {
+        sessionFactory.inSession(session ->
+            assertThatThrownBy(() -> TranslationUpserts.upsert(session, ItemTranslation.class, 1L,
+                    Locale.ENGLISH, Map.of("name", "Desk")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("inside a transaction"));
+    }
+
+    @Test
+    void upsert_shouldRejectFieldsThatAreNotLocalized() {
+        sessionFactory.inTransaction(session ->
+            assertThatThrownBy(() -> TranslationUpserts.upsert(session, ItemTranslation.class, 1L,
+                    Locale.ENGLISH, Map.of("nameSearch", "x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown localized field 'nameSearch'"));
+        assertThat(rows()).containsExactly("1|en|Table|table|Oak");
+    }
+
+    private List<String> rows() {
+        return sessionFactory.fromSession(session -> session.createNativeQuery(
+                "select item_id, locale, name, name_search, description from items_translations order by item_id, locale",
+                Object[].class)
+            .getResultList().stream()
+            .map(row -> row[0] + "|" + row[1] + "|" + row[2] + "|" + row[3] + "|" + row[4])
+            .toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.localizedjpa.runtime.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link XliffTranslationReader}.
+ */
+class XliffTranslationReaderTest {
+
+    @Test
+    void read_shouldReadXliff12TransUnits() {
+        // Given
+        String xliff = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <xliff version="1.2" xmlns="urn:oasis:names:tc:xliff:document:1.2">
+              <file source-language="en" target-language="tr" datatype="plaintext" original="products">
+                <body>
+                  <trans-unit id="42.name">
+                    <source>Oak table</source>
+                    <target>Meşe <g id="1">masa</g></target>
+                  </trans-unit>
+                  <trans-unit id="42.description">
+                    <source>Untranslated</source>
+                  </trans-unit>
+                </body>
+              </file>
+            </xliff>
+            """;
+
+        // When
+        List<TranslationRecord> records = read(xliff);
+
+        // Then
+        assertThat(records).containsExactly(new TranslationRecord("42", "tr", "name", "Meşe masa"));
+    }
+
+    @Test
+    void read_shouldConcatenateXliff20Segments() {
+        // Given
+        String xliff = """
+            <xliff version="2.0" xmlns="urn:oasis:names:tc:xliff:document:2.0" srcLang="en" trgLang="de">
+              <file id="products">
+                <unit id="com.example.7.description">
+                  <segment><source>Solid oak.</source><target>Massive Eiche.</target></segment>
+                  <ignorable><source> </source><target> </target></ignorable>
+                  <segment><source>Handmade.</source><target>Handgefertigt.</target></segment>
+                </unit>
+              </file>
+            </xliff>
+            """;
+
+        // When
+        List<TranslationRecord> records = read(xliff);
+
+        // Then
+        assertThat(records).containsExactly(
+            new TranslationRecord("com.example.7", "de", "description", "Massive Eiche. Handgefertigt."));
+    }
+
+    @Test
+    void read_shouldRejectUnitIdWithoutField() {
+        // Given
+        String xliff = """
+            <xliff version="2.0" trgLang="de"><file id="f"><unit id="42">
+              <segment><source>a</source><target>b</target></segment>
+            </unit></file></xliff>
+            """;
+
+        // When / Then
+        assertThatThrownBy(() -> read(xliff))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("{entityId}.{field}");
+    }
+
+    private static List<TranslationRecord> read(String xliff) {
+        try (Stream<TranslationRecord> records = XliffTranslationReader.read(
+                new ByteArrayInputStream(xliff.getBytes(StandardCharsets.UTF_8)))) {
+            return records.toList();
+        }
+    }
+}
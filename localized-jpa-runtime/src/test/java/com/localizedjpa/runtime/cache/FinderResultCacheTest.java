@@ -0,0 +1,189 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.BaseTranslation;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FinderResultCache}.
+ */
+class FinderResultCacheTest {
+
+    private static final String FIND_BY_NAME_CONTAINING_QUERY = "select e from FinderResultCacheTest$Item e"
+        + " join e.translations t where t.locale = :locale and t.name like :value order by id(e)";
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+
+        @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
+        @MapKey(name = "locale")
+        private Map<String, ItemTranslation> translations = new HashMap<>();
+    }
+
+    @Entity
+    @Table(name = "items_translations")
+    @EntityListeners(TranslationCacheListener.class)
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Override
+        public Map<String, String> localizedValues() {
+            Map<String, String> values = new HashMap<>();
+            values.put("name", name);
+            return values;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:finder-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into items (id) values (1), (2), (3)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name)"
+                + " values (1, 'en', 'Red table'), (1, 'tr', 'Kırmızı masa'), (2, 'en', 'Chair'),"
+                + " (3, 'en', 'Round table')").executeUpdate();
+        });
+        FinderResultCache.configure(100, Duration.ofMinutes(10), Duration.ofMinutes(10));
+        FinderResultCache.resetStats();
+    }
+
+    @AfterEach
+    void tearDown() {
+        FinderResultCache.configure(0, FinderResultCache.DEFAULT_TIME_TO_LIVE,
+            FinderResultCache.DEFAULT_NEGATIVE_TIME_TO_LIVE);
+        FinderResultCache.resetStats();
+        sessionFactory.close();
+    }
+
+    @Test
+    void list_shouldServeRepeatedCallsFromCachedIds() {
+        // Given
+        assertThat(ids(findByNameContaining("table", "en"))).containsExactly(1L, 3L);
+
+        // When
+        List<Item> cached = findByNameContaining("table", "en");
+
+        // Then
+        assertThat(ids(cached)).containsExactly(1L, 3L);
+        assertThat(queries).hasValue(1);
+        assertThat(ids(findByNameContaining("masa", "tr"))).containsExactly(1L);
+        assertThat(queries).hasValue(2);
+        FinderResultCacheStats stats = FinderResultCache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+        assertThat(stats.missTime()).isPositive();
+    }
+
+    @Test
+    void list_shouldBeInvalidatedWhenTranslationIsWritten() {
+        // Given
+        findByNameContaining("table", "en");
+
+        // When
+        sessionFactory.inTransaction(session -> {
+            Item item = session.get(Item.class, 2L);
+            item.translations.get("en").name = "Chair table";
+        });
+
+        // Then
+        assertThat(ids(findByNameContaining("table", "en"))).containsExactly(1L, 2L, 3L);
+        assertThat(queries).hasValue(2);
+        assertThat(FinderResultCache.stats().invalidations()).isPositive();
+    }
+
+    @Test
+    void list_shouldReloadResultOfDeletedEntity() {
+        // Given
+        findByNameContaining("table", "en");
+
+        // When
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("delete from items_translations where item_id = 3").executeUpdate();
+            session.createNativeMutationQuery("delete from items where id = 3").executeUpdate();
+        });
+
+        // Then
+        assertThat(ids(findByNameContaining("table", "en"))).containsExactly(1L);
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void list_shouldExpireEmptyResultsAfterNegativeTimeToLive() {
+        // Given
+        FinderResultCache.configure(100, Duration.ofMinutes(10), Duration.ofNanos(1));
+        findByNameContaining("sofa", "en");
+        findByNameContaining("table", "en");
+
+        // When
+        findByNameContaining("sofa", "en");
+        findByNameContaining("table", "en");
+
+        // Then
+        assertThat(queries).hasValue(3);
+        assertThat(FinderResultCache.stats().evictions()).isEqualTo(1);
+        FinderResultCache.configure(0, Duration.ZERO, Duration.ZERO);
+        findByNameContaining("table", "en");
+        assertThat(queries).hasValue(4);
+    }
+
+    /**
+     * Runs a finder like a generated {@code List} finder does.
+     */
+    private List<Item> findByNameContaining(String name, String language) {
+        try (Session session = sessionFactory.openSession()) {
+            Object boundValue = "%" + name + "%";
+            return FinderResultCache.list(session, Item.class, FIND_BY_NAME_CONTAINING_QUERY,
+                new Object[] {language, boundValue}, () -> {
+                    queries.incrementAndGet();
+                    return session.createQuery(FIND_BY_NAME_CONTAINING_QUERY, Item.class)
+                        .setParameter("locale", language)
+                        .setParameter("value", boundValue)
+                        .getResultList();
+                });
+        }
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream().map(item -> item.id).toList();
+    }
+}
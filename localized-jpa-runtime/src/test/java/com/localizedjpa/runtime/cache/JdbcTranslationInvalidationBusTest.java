@@ -0,0 +1,103 @@
+package com.localizedjpa.runtime.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcTranslationInvalidationBus}.
+ */
+class JdbcTranslationInvalidationBusTest {
+
+    private static final TranslationInvalidation ITEM_1 = TranslationInvalidation.ofEntity("com.example.Item", 1L);
+    private static final TranslationInvalidation TAGS = TranslationInvalidation.ofType("com.example.Tag");
+
+    private DataSource dataSource;
+    private JdbcTranslationInvalidationBus writer;
+    private JdbcTranslationInvalidationBus reader;
+    private final List<TranslationInvalidation> writerReceived = new CopyOnWriteArrayList<>();
+    private final List<TranslationInvalidation> readerReceived = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:invalidations-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        // Polled explicitly by the tests
+        writer = new JdbcTranslationInvalidationBus(dataSource, Duration.ofHours(1), Duration.ofHours(2));
+        reader = new JdbcTranslationInvalidationBus(dataSource, Duration.ofHours(1), Duration.ofHours(2));
+        writer.start(writerReceived::addAll);
+        reader.start(readerReceived::addAll);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+        reader.stop();
+    }
+
+    @Test
+    void poll_shouldDeliverInvalidationsOfOtherNodesOnly() {
+        // Given
+        writer.publish(List.of(ITEM_1, TAGS));
+        writer.publish(List.of(TranslationInvalidation.all()));
+
+        // When
+        reader.poll();
+        writer.poll();
+        reader.poll();
+
+        // Then
+        assertThat(readerReceived).containsExactly(
+            new TranslationInvalidation("com.example.Item", "1"), TAGS, TranslationInvalidation.all());
+        assertThat(writerReceived).isEmpty();
+        assertThat(new JdbcTemplate(dataSource).queryForList(
+            "SELECT id FROM " + JdbcTranslationInvalidationBus.TABLE_NAME + " ORDER BY id", Long.class))
+            .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void poll_shouldClearCachesWhenRowsWerePrunedBeforeRead() {
+        // Given
+        writer.publish(List.of(ITEM_1));
+        writer.publish(List.of(TAGS));
+        new JdbcTemplate(dataSource).update("DELETE FROM " + JdbcTranslationInvalidationBus.TABLE_NAME + " WHERE id = 1");
+
+        // When
+        reader.poll();
+        writer.publish(List.of(ITEM_1));
+        reader.poll();
+
+        // Then
+        assertThat(readerReceived).containsExactly(TranslationInvalidation.all(), ITEM_1);
+    }
+
+    @Test
+    void poll_shouldClearCachesWhenDatabaseIsUnavailable() {
+        // Given
+        new JdbcTemplate(dataSource).execute("DROP TABLE " + JdbcTranslationInvalidationBus.TABLE_NAME);
+
+        // When
+        reader.poll();
+
+        // Then
+        assertThat(readerReceived).containsExactly(TranslationInvalidation.all());
+    }
+
+    @Test
+    void publish_shouldWidenIdsThatDoNotFitTheColumn() {
+        // When
+        writer.publish(List.of(TranslationInvalidation.ofEntity("com.example.Tag", "x".repeat(300))));
+        reader.poll();
+
+        // Then
+        assertThat(readerReceived).containsExactly(TAGS);
+    }
+}
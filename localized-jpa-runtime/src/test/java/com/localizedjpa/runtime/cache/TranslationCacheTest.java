@@ -0,0 +1,198 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.BaseTranslation;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TranslationCache}.
+ */
+class TranslationCacheTest {
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+
+        @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
+        @MapKey(name = "locale")
+        private Map<String, ItemTranslation> translations = new HashMap<>();
+    }
+
+    @Entity
+    @Table(name = "items_translations")
+    @EntityListeners(TranslationCacheListener.class)
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Override
+        public Map<String, String> localizedValues() {
+            Map<String, String> values = new HashMap<>();
+            values.put("name", name);
+            return values;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:cache-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into items (id) values (1), (2)").executeUpdate();
+            session.createNativeMutationQuery("insert into items_translations (item_id, locale, name)"
+                + " values (1, 'en', 'Table'), (1, 'tr', 'Masa'), (2, 'en', 'Chair')").executeUpdate();
+        });
+        TranslationCache.configure(100, Duration.ofMinutes(10));
+        TranslationCache.resetStats();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TranslationCache.configure(0, TranslationCache.DEFAULT_TIME_TO_LIVE);
+        TranslationCache.resetStats();
+        sessionFactory.close();
+    }
+
+    @Test
+    void values_shouldServeRepeatedLookupsWithoutInitializingTranslations() {
+        // Given
+        assertThat(lookup(1L, "en")).containsEntry("name", "Table");
+
+        // When
+        Map<String, String> cached = sessionFactory.fromSession(session -> {
+            Item item = session.get(Item.class, 1L);
+            Map<String, String> values = TranslationCache.values(item.translations, "en");
+            assertThat(Hibernate.isInitialized(item.translations)).isFalse();
+            return values;
+        });
+
+        // Then
+        assertThat(cached).containsEntry("name", "Table");
+        assertThat(TranslationCache.stats()).isEqualTo(new TranslationCacheStats(1, 1, 0, 0, 1));
+        assertThat(TranslationCache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void values_shouldCacheMissingTranslationAsEmpty() {
+        // When
+        lookup(2L, "tr");
+        Map<String, String> cached = lookup(2L, "tr");
+
+        // Then
+        assertThat(cached).isEmpty();
+        assertThat(TranslationCache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void values_shouldBeEvictedWhenTranslationIsWritten() {
+        // Given
+        lookup(1L, "en");
+        lookup(1L, "tr");
+        lookup(2L, "en");
+
+        // When
+        sessionFactory.inTransaction(session -> {
+            Item item = session.get(Item.class, 1L);
+            item.translations.get("en").name = "Desk";
+        });
+
+        // Then
+        assertThat(lookup(1L, "en")).containsEntry("name", "Desk");
+        assertThat(TranslationCache.stats().size()).isEqualTo(2);
+        // At flush and after commit
+        assertThat(TranslationCache.stats().invalidations()).isEqualTo(2);
+        lookup(2L, "en");
+        assertThat(TranslationCache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void values_shouldBeEvictedWhenFlushedWriteIsRolledBack() {
+        // Given
+        lookup(1L, "en");
+
+        // When
+        sessionFactory.inSession(session -> {
+            session.beginTransaction();
+            Item item = session.get(Item.class, 1L);
+            item.translations.get("en").name = "Desk";
+            session.flush();
+            // Cached from the flushed row by another session on the same connection
+            try (Session reader = session.sessionWithOptions().connection().openSession()) {
+                assertThat(TranslationCache.values(reader.get(Item.class, 1L).translations, "en"))
+                    .containsEntry("name", "Desk");
+            }
+            session.getTransaction().rollback();
+        });
+
+        // Then
+        assertThat(lookup(1L, "en")).containsEntry("name", "Table");
+    }
+
+    @Test
+    void values_shouldExpireEntriesAfterTimeToLive() {
+        // Given
+        TranslationCache.configure(100, Duration.ofNanos(1));
+        lookup(1L, "en");
+
+        // When
+        lookup(1L, "en");
+
+        // Then
+        assertThat(TranslationCache.stats().misses()).isEqualTo(2);
+        assertThat(TranslationCache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void values_shouldNotBeConsultedWhenDisabledOrInitialized() {
+        // Given
+        TranslationCache.configure(0, TranslationCache.DEFAULT_TIME_TO_LIVE);
+
+        // When / Then
+        assertThat(lookup(1L, "en")).isNull();
+        TranslationCache.configure(100, Duration.ZERO);
+        sessionFactory.inSession(session -> {
+            Item item = session.get(Item.class, 1L);
+            Hibernate.initialize(item.translations);
+            assertThat(TranslationCache.values(item.translations, "en")).isNull();
+        });
+        assertThat(TranslationCache.values(new HashMap<String, ItemTranslation>(), "en")).isNull();
+    }
+
+    private Map<String, String> lookup(Long id, String language) {
+        return sessionFactory.fromSession(session ->
+            TranslationCache.values(session.get(Item.class, id).translations, language));
+    }
+}
@@ -0,0 +1,125 @@
+package com.localizedjpa.runtime.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TranslationInvalidations}.
+ */
+class TranslationInvalidationsTest {
+
+    private final RecordingBus bus = new RecordingBus();
+
+    @AfterEach
+    void tearDown() {
+        TranslationInvalidations.stop();
+        TranslationCache.resetStats();
+    }
+
+    @Test
+    void flush_shouldPublishCoalescedBatch() {
+        // Given
+        TranslationInvalidations.start(bus, Duration.ofHours(1));
+
+        // When
+        TranslationCache.evict("com.example.Item", 1L);
+        TranslationCache.evict("com.example.Item", 1L);
+        TranslationCache.evict("com.example.Item", 2L);
+        TranslationCache.evict("com.example.Tag", 1L);
+        TranslationCache.evictAll("com.example.Tag");
+        TranslationCache.evict("com.example.Tag", 2L);
+        for (int id = 0; id <= TranslationInvalidations.MAX_ENTITIES_PER_TYPE; id++) {
+            TranslationCache.evict("com.example.Badge", id);
+        }
+        TranslationInvalidations.flush();
+        TranslationInvalidations.flush();
+
+        // Then
+        assertThat(bus.published).containsExactly(List.of(
+            TranslationInvalidation.ofType("com.example.Tag"),
+            TranslationInvalidation.ofType("com.example.Badge"),
+            TranslationInvalidation.ofEntity("com.example.Item", 1L),
+            TranslationInvalidation.ofEntity("com.example.Item", 2L)));
+    }
+
+    @Test
+    void flush_shouldRetryFailedBatchWithNextOne() {
+        // Given
+        TranslationInvalidations.start(bus, Duration.ofHours(1));
+        TranslationCache.evict("com.example.Item", 1L);
+        bus.failing = true;
+        TranslationInvalidations.flush();
+
+        // When
+        bus.failing = false;
+        TranslationCache.clear();
+        TranslationInvalidations.flush();
+
+        // Then
+        assertThat(bus.published).containsExactly(List.of(TranslationInvalidation.all()));
+    }
+
+    @Test
+    void receive_shouldApplyToCachesWithoutPublishingAgain() {
+        // Given
+        List<TranslationInvalidation> applied = new ArrayList<>();
+        Consumer<TranslationInvalidation> listener = applied::add;
+        TranslationInvalidations.addListener(listener);
+        TranslationInvalidations.start(bus, Duration.ofHours(1));
+
+        // When
+        bus.receiver.accept(List.of(TranslationInvalidation.ofType("com.example.Item")));
+        TranslationInvalidations.flush();
+        TranslationInvalidations.removeListener(listener);
+
+        // Then
+        assertThat(applied).containsExactly(TranslationInvalidation.ofType("com.example.Item"));
+        assertThat(TranslationCache.stats().invalidations()).isEqualTo(1);
+        assertThat(bus.published).isEmpty();
+    }
+
+    @Test
+    void publish_shouldBeIgnoredUntilStarted() {
+        // When
+        TranslationCache.evict("com.example.Item", 1L);
+        TranslationInvalidations.start(bus, Duration.ofHours(1));
+        TranslationInvalidations.stop();
+
+        // Then
+        assertThat(bus.published).isEmpty();
+        assertThat(bus.stopped).isTrue();
+    }
+
+    private static class RecordingBus implements TranslationInvalidationBus {
+
+        private final List<List<TranslationInvalidation>> published = new ArrayList<>();
+        private Consumer<List<TranslationInvalidation>> receiver;
+        private boolean failing;
+        private boolean stopped;
+
+        @Override
+        public void start(Consumer<List<TranslationInvalidation>> receiver) {
+            this.receiver = receiver;
+        }
+
+        @Override
+        public void publish(List<TranslationInvalidation> invalidations) {
+            if (failing) {
+                throw new IllegalStateException("Bus unavailable");
+            }
+            published.add(invalidations);
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.localizedjpa.runtime.cache;
+
+import com.localizedjpa.runtime.BaseTranslation;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link TranslationWarmup}.
+ */
+class TranslationWarmupTest {
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        private Long id;
+
+        @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
+        @MapKey(name = "locale")
+        private Map<String, ItemTranslation> translations = new HashMap<>();
+    }
+
+    @Entity
+    @Table(name = "items_translations")
+    static class ItemTranslation extends BaseTranslation {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "item_id", nullable = false)
+        private Item parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Override
+        public Map<String, String> localizedValues() {
+            Map<String, String> values = new HashMap<>();
+            values.put("name", name);
+            return values;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:warmup-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(ItemTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            for (long id = 1; id <= 50; id++) {
+                session.createNativeMutationQuery("insert into items (id) values (:id)")
+                    .setParameter("id", id).executeUpdate();
+                session.createNativeMutationQuery("insert into items_translations (item_id, locale, name)"
+                    + " values (:id, 'en', :name)").setParameter("id", id).setParameter("name", "Item " + id)
+                    .executeUpdate();
+            }
+        });
+        TranslationCache.configure(1000, Duration.ofMinutes(10));
+        TranslationCache.resetStats();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TranslationCache.configure(0, TranslationCache.DEFAULT_TIME_TO_LIVE);
+        TranslationCache.resetStats();
+        sessionFactory.close();
+    }
+
+    @Test
+    void warmUp_shouldCacheEntitiesWithHighestIds() {
+        // When
+        TranslationWarmupResult result = new TranslationWarmup(sessionFactory, null, 3, List.of("en", "tr"))
+            .warmUp(Item.class, 20);
+
+        // Then
+        assertThat(result.entityName()).isEqualTo(Item.class.getName());
+        assertThat(result.entities()).isEqualTo(20);
+        assertThat(result.translations()).isEqualTo(20);
+        assertThat(TranslationCache.stats().size()).isEqualTo(40);
+        sessionFactory.inSession(session -> {
+            Item item = session.get(Item.class, 31L);
+            assertThat(TranslationCache.values(item.translations, "en")).containsEntry("name", "Item 31");
+            assertThat(TranslationCache.values(item.translations, "tr")).isEmpty();
+            assertThat(Hibernate.isInitialized(item.translations)).isFalse();
+            assertThat(TranslationCache.values(session.get(Item.class, 30L).translations, "en"))
+                .containsEntry("name", "Item 30");
+        });
+        assertThat(TranslationCache.stats().hits()).isEqualTo(2);
+        assertThat(TranslationCache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void warmUp_shouldCacheEntitiesSelectedByQuery() {
+        // When
+        TranslationWarmupResult result = new TranslationWarmup(sessionFactory, null, 2, List.of())
+            .warmUp(Item.class, "select i.id from TranslationWarmupTest$Item i where mod(i.id, 10) = 0", 0);
+
+        // Then
+        assertThat(result.entities()).isEqualTo(5);
+        assertThat(TranslationCache.stats().size()).isEqualTo(5);
+    }
+
+    @Test
+    void warmUp_shouldSkipWhenNothingIsCached() {
+        // Given
+        TranslationCache.configure(0, TranslationCache.DEFAULT_TIME_TO_LIVE);
+
+        // When
+        TranslationWarmupResult result = new TranslationWarmup(sessionFactory).warmUp(Item.class, 20);
+
+        // Then
+        assertThat(result.entities()).isZero();
+        assertThatThrownBy(() -> new TranslationWarmup(sessionFactory).warmUp(ItemTranslation.class, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
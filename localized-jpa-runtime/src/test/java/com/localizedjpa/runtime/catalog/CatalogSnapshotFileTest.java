@@ -0,0 +1,89 @@
+package com.localizedjpa.runtime.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CatalogSnapshotFile} and {@link MappedCatalogSnapshot}.
+ */
+class CatalogSnapshotFileTest {
+
+    private static final String ENTITY_NAME = "com.example.Badge";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void map_shouldServeWrittenSnapshot() throws IOException {
+        // Given
+        Path file = directory.resolve("badges/" + ENTITY_NAME + ".catalog");
+        Map<String, String> englishNew = new HashMap<>();
+        englishNew.put("name", "New");
+        Map<String, String>[][] values = new Map[][] {
+            {englishNew, null, Map.of("name", "Sale", "description", "Sale")},
+            {Map.of("name", "Yeni", "description", "Yeni ürün"), null, null}
+        };
+
+        // When
+        CatalogSnapshotFile.write(file, ENTITY_NAME, new long[] {30, 10, -5}, new String[] {"en", "tr"}, values);
+        MappedCatalogSnapshot snapshot = CatalogSnapshotFile.map(file, ENTITY_NAME, 7);
+
+        // Then
+        assertThat(snapshot.sequence()).isEqualTo(7);
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.values(30, "en")).containsExactly(Map.entry("name", "New"));
+        assertThat(snapshot.values(30, "tr"))
+            .containsExactlyInAnyOrderEntriesOf(Map.of("name", "Yeni", "description", "Yeni ürün"));
+        assertThat(snapshot.values(-5, "en").get("description")).isEqualTo("Sale");
+        assertThat(snapshot.values(10, "en")).isEmpty();
+        assertThat(snapshot.values(30, "de")).isEmpty();
+        assertThat(snapshot.values(20, "en")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void map_shouldRejectFileOfOtherEntity() throws IOException {
+        // Given
+        Path file = directory.resolve(ENTITY_NAME + ".catalog");
+        CatalogSnapshotFile.write(file, ENTITY_NAME, new long[] {1}, new String[] {"en"},
+            new Map[][] {{Map.of("name", "New")}});
+
+        // When / Then
+        assertThatThrownBy(() -> CatalogSnapshotFile.map(file, "com.example.Category", 0))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("belongs to " + ENTITY_NAME);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void map_shouldRejectCorruptFile() throws IOException {
+        // Given
+        Path file = directory.resolve(ENTITY_NAME + ".catalog");
+        CatalogSnapshotFile.write(file, ENTITY_NAME, new long[] {1}, new String[] {"en"},
+            new Map[][] {{Map.of("name", "New")}});
+        byte[] bytes = Files.readAllBytes(file);
+
+        // When
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(file, bytes);
+        Path truncated = Files.write(directory.resolve("truncated.catalog"), Arrays.copyOf(bytes, 20));
+
+        // Then
+        assertThatThrownBy(() -> CatalogSnapshotFile.map(file, ENTITY_NAME, 0))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Corrupt");
+        assertThatThrownBy(() -> CatalogSnapshotFile.map(truncated, ENTITY_NAME, 0))
+            .isInstanceOf(IOException.class);
+    }
+}
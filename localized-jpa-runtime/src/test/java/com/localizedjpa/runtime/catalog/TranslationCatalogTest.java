@@ -0,0 +1,194 @@
+package com.localizedjpa.runtime.catalog;
+
+import com.localizedjpa.annotations.TranslationTable;
+import com.localizedjpa.runtime.BaseTranslation;
+import com.localizedjpa.runtime.cache.TranslationCache;
+import com.localizedjpa.runtime.cache.TranslationCacheListener;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKey;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TranslationCatalog}.
+ */
+class TranslationCatalogTest {
+
+    @Entity
+    @Table(name = "badges")
+    @TranslationTable(catalog = true)
+    static class Badge {
+        @Id
+        private Long id;
+
+        @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
+        @MapKey(name = "locale")
+        private Map<String, BadgeTranslation> translations = new HashMap<>();
+    }
+
+    @Entity
+    @Table(name = "badges_translations")
+    @EntityListeners(TranslationCacheListener.class)
+    static class BadgeTranslation extends BaseTranslation {
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "badge_id", nullable = false)
+        private Badge parent;
+
+        @Column(name = "name")
+        private String name;
+
+        @Column(name = "description")
+        private String description;
+
+        @Override
+        public Map<String, String> localizedValues() {
+            Map<String, String> values = new HashMap<>();
+            values.put("name", name);
+            values.put("description", description);
+            return values;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:catalog-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .addAnnotatedClass(Badge.class)
+            .addAnnotatedClass(BadgeTranslation.class)
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("insert into badges (id) values (1), (2)").executeUpdate();
+            session.createNativeMutationQuery("insert into badges_translations (badge_id, locale, name, description)"
+                + " values (1, 'en', 'New', null), (1, 'tr', 'Yeni', 'Yeni ürün')").executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        TranslationCatalog.clear();
+        TranslationCatalog.setSnapshotDirectory(null);
+        sessionFactory.close();
+    }
+
+    @Test
+    void values_shouldServeSnapshotWithoutInitializingTranslations() {
+        // When
+        TranslationCatalog.register(sessionFactory);
+
+        // Then
+        assertThat(TranslationCatalog.size(Badge.class)).isEqualTo(2);
+        sessionFactory.inSession(session -> {
+            Badge badge = session.get(Badge.class, 1L);
+            assertThat(TranslationCache.values(badge.translations, "tr"))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("name", "Yeni", "description", "Yeni ürün"));
+            assertThat(TranslationCache.values(badge.translations, "en")).containsExactly(Map.entry("name", "New"));
+            assertThat(TranslationCache.values(badge.translations, "de")).isEmpty();
+            assertThat(TranslationCache.values(session.get(Badge.class, 2L).translations, "en")).isEmpty();
+            assertThat(Hibernate.isInitialized(badge.translations)).isFalse();
+        });
+    }
+
+    @Test
+    void values_shouldNotServeEntitiesOutsideSnapshot() {
+        // Given
+        TranslationCatalog.register(sessionFactory);
+
+        // When
+        sessionFactory.inTransaction(session ->
+            session.createNativeMutationQuery("insert into badges (id) values (3)").executeUpdate());
+
+        // Then
+        assertThat(lookup(3L, "en")).isNull();
+        assertThat(TranslationCatalog.values("com.example.Unknown.translations", 1L, "en")).isNull();
+    }
+
+    @Test
+    void values_shouldStopServingWrittenEntityUntilRefreshed() {
+        // Given
+        TranslationCatalog.register(sessionFactory);
+
+        // When
+        sessionFactory.inTransaction(session -> {
+            Badge badge = session.get(Badge.class, 1L);
+            badge.translations.get("en").name = "Fresh";
+        });
+        Map<String, String> beforeRefresh = lookup(1L, "en");
+        TranslationCatalog.refresh(Badge.class);
+
+        // Then
+        assertThat(beforeRefresh == null || "Fresh".equals(beforeRefresh.get("name"))).isTrue();
+        assertThat(lookup(1L, "en")).containsEntry("name", "Fresh");
+        assertThat(lookup(1L, "tr")).containsEntry("name", "Yeni");
+    }
+
+    @Test
+    void values_shouldResolveManyCollidingIds() {
+        // Given
+        sessionFactory.inTransaction(session -> {
+            for (long id = 1; id <= 500; id++) {
+                session.createNativeMutationQuery("insert into badges (id) values (:id)")
+                    .setParameter("id", id << 20).executeUpdate();
+                session.createNativeMutationQuery("insert into badges_translations (badge_id, locale, name)"
+                    + " values (:id, 'en', :name)").setParameter("id", id << 20).setParameter("name", "Badge " + id)
+                    .executeUpdate();
+            }
+        });
+
+        // When
+        TranslationCatalog.register(sessionFactory);
+
+        // Then
+        assertThat(TranslationCatalog.size(Badge.class)).isEqualTo(502);
+        for (long id = 1; id <= 500; id++) {
+            assertThat(TranslationCatalog.values(Badge.class.getName() + ".translations", id << 20, "en"))
+                .containsExactly(Map.entry("name", "Badge " + id));
+        }
+        assertThat(TranslationCatalog.values(Badge.class.getName() + ".translations", 501L << 20, "en")).isNull();
+    }
+
+    @Test
+    void register_shouldServeSnapshotFileOfPreviousRun(@TempDir Path directory) {
+        // Given
+        TranslationCatalog.setSnapshotDirectory(directory);
+        TranslationCatalog.register(sessionFactory);
+        TranslationCatalog.clear();
+
+        // When
+        sessionFactory.inTransaction(session ->
+            session.createNativeMutationQuery("drop table badges_translations").executeUpdate());
+        TranslationCatalog.register(sessionFactory);
+
+        // Then
+        assertThat(directory.resolve(Badge.class.getName() + ".catalog")).exists();
+        assertThat(TranslationCatalog.size(Badge.class)).isEqualTo(2);
+        assertThat(TranslationCatalog.values(Badge.class.getName() + ".translations", 1L, "tr"))
+            .containsExactlyInAnyOrderEntriesOf(Map.of("name", "Yeni", "description", "Yeni ürün"));
+    }
+
+    private Map<String, String> lookup(Long id, String language) {
+        return sessionFactory.fromSession(session ->
+            TranslationCache.values(session.get(Badge.class, id).translations, language));
+    }
+}
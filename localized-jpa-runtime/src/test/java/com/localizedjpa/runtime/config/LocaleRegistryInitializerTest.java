@@ -0,0 +1,89 @@
+package com.localizedjpa.runtime.config;
+
+import com.localizedjpa.runtime.LocaleRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LocaleRegistryInitializer}.
+ */
+class LocaleRegistryInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:locale-registry-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1"));
+    }
+
+    @Test
+    void shouldCreateTableAndSeedConfiguredLocales() {
+        // Given
+        LocalizedJpaProperties properties = new LocalizedJpaProperties();
+        properties.setSupportedLocales(List.of("en", "tr-TR"));
+        properties.setDefaultLocale("de");
+
+        // When
+        new LocaleRegistryInitializer(jdbcTemplate, properties).afterPropertiesSet();
+
+        // Then
+        assertThat(LocaleRegistry.idOf("en")).isEqualTo((short) 1);
+        assertThat(LocaleRegistry.idOf("tr")).isEqualTo((short) 2);
+        assertThat(LocaleRegistry.idOf("de")).isEqualTo((short) 3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM localized_jpa_locales", Integer.class))
+            .isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepExistingIdsWhenLocalesAreAdded() {
+        // Given
+        LocalizedJpaProperties properties = new LocalizedJpaProperties();
+        properties.setSupportedLocales(List.of("en", "tr"));
+        new LocaleRegistryInitializer(jdbcTemplate, properties).afterPropertiesSet();
+
+        // When
+        properties.setSupportedLocales(List.of("fr", "tr", "en"));
+        new LocaleRegistryInitializer(jdbcTemplate, properties).afterPropertiesSet();
+
+        // Then
+        assertThat(LocaleRegistry.idOf("en")).isEqualTo((short) 1);
+        assertThat(LocaleRegistry.idOf("tr")).isEqualTo((short) 2);
+        assertThat(LocaleRegistry.idOf("fr")).isEqualTo((short) 3);
+    }
+
+    @Test
+    void shouldTakeNextIdWhenAnotherInstanceRegisteredDifferentLanguage() {
+        // Given
+        new LocaleRegistryInitializer(jdbcTemplate, new LocalizedJpaProperties()).afterPropertiesSet();
+        JdbcTemplate racing = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            private boolean raced;
+
+            @Override
+            public int update(String sql, Object... args) {
+                if (!raced) {
+                    // Another node with other supported locales registers first
+                    raced = true;
+                    super.update(sql, args[0], "es");
+                }
+                return super.update(sql, args);
+            }
+        };
+        LocalizedJpaProperties properties = new LocalizedJpaProperties();
+        properties.setSupportedLocales(List.of("fr"));
+
+        // When
+        new LocaleRegistryInitializer(racing, properties).afterPropertiesSet();
+
+        // Then
+        assertThat(LocaleRegistry.idOf("en")).isEqualTo((short) 1);
+        assertThat(LocaleRegistry.idOf("es")).isEqualTo((short) 2);
+        assertThat(LocaleRegistry.idOf("fr")).isEqualTo((short) 3);
+    }
+}
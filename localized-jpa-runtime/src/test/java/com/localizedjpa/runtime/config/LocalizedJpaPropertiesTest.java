@@ -20,6 +20,8 @@ class LocalizedJpaPropertiesTest {
         assertThat(properties.getDefaultLocale()).isEqualTo("en");
         assertThat(properties.getSupportedLocales()).isEmpty(); // Default is empty list
         assertThat(properties.isExceptionOnUnsupportedLanguages()).isTrue(); // Default is true
+        assertThat(properties.getStreamFetchSize()).isEqualTo(500);
+        assertThat(properties.getStreamClearInterval()).isEqualTo(500);
     }
 
     @Test